@@ -66,6 +66,40 @@ public enum Interfaces {
 
     private static final Comparator<Class<?>> COMPARATOR = (o1, o2) -> Objects.compare(getName(o1), getName(o2), String::compareTo);
 
+    /**
+     * The precomputed, unmodifiable hierarchy lists of a class.
+     */
+    private static final class Hierarchy {
+
+        private final List<Class<?>> allInterfaces;
+        private final List<Class<?>> allSuperclasses;
+        private final List<Class<?>> classes;
+        private final List<Class<?>> classesAndInterfaces;
+
+        Hierarchy(final Class<?> type) {
+            allInterfaces = Collections.unmodifiableList(getAllInterfaces(type));
+            allSuperclasses = Collections.unmodifiableList(getAllSuperclasses(type));
+            classes = toUnmodifiableList(hierarchy(type, Interfaces.EXCLUDE));
+            classesAndInterfaces = toUnmodifiableList(hierarchy(type, Interfaces.INCLUDE));
+        }
+
+        private static List<Class<?>> toUnmodifiableList(final Iterable<Class<?>> iterable) {
+            final List<Class<?>> list = new ArrayList<>();
+            iterable.forEach(list::add);
+            return Collections.unmodifiableList(list);
+        }
+    }
+
+    /**
+     * Caches the hierarchy lists of classes, without keeping classes or their class loaders reachable.
+     */
+    private static final ClassValue<Hierarchy> HIERARCHY_CACHE = new ClassValue<Hierarchy>() {
+        @Override
+        protected Hierarchy computeValue(final Class<?> type) {
+            return new Hierarchy(type);
+        }
+    };
+
     /**
      * The package separator character: {@code '&#x2e;' == {@value}}.
      */
@@ -376,6 +410,23 @@ private static void getAllInterfaces(Class<?> cls, final HashSet<Class<?>> inter
         }
     }
 
+    /**
+     * Gets an unmodifiable {@link List} of all interfaces implemented by the given class and its superclasses, in the
+     * order of {@link #getAllInterfaces(Class)}.
+     *
+     * <p>
+     * The list is computed once per class and cached, so repeated calls neither walk the hierarchy nor allocate. The cache
+     * does not keep classes or their class loaders reachable.
+     * </p>
+     *
+     * @param cls the class to look up, may be {@code null}
+     * @return the unmodifiable {@link List} of interfaces in order, {@code null} if null input
+     * @since 3.13.0
+     */
+    public static List<Class<?>> getAllInterfacesCached(final Class<?> cls) {
+        return cls == null ? null : HIERARCHY_CACHE.get(cls).allInterfaces;
+    }
+
     /**
      * Gets a {@link List} of superclasses for the given class.
      *
@@ -395,6 +446,23 @@ public static List<Class<?>> getAllSuperclasses(final Class<?> cls) {
         return classes;
     }
 
+    /**
+     * Gets an unmodifiable {@link List} of superclasses for the given class, in the order of
+     * {@link #getAllSuperclasses(Class)}.
+     *
+     * <p>
+     * The list is computed once per class and cached, so repeated calls neither walk the hierarchy nor allocate. The cache
+     * does not keep classes or their class loaders reachable.
+     * </p>
+     *
+     * @param cls the class to look up, may be {@code null}
+     * @return the unmodifiable {@link List} of superclasses in order going up from this one {@code null} if null input
+     * @since 3.13.0
+     */
+    public static List<Class<?>> getAllSuperclassesCached(final Class<?> cls) {
+        return cls == null ? null : HIERARCHY_CACHE.get(cls).allSuperclasses;
+    }
+
     /**
      * Gets the canonical class name for a {@link Class}.
      *
@@ -1172,6 +1240,28 @@ private void walkInterfaces(final Set<Class<?>> addTo, final Class<?> c) {
         };
     }
 
+    /**
+     * Gets an unmodifiable {@link List} of a class hierarchy in ascending (subclass to superclass) order, in the order of
+     * {@link #hierarchy(Class, Interfaces)}.
+     *
+     * <p>
+     * The list is computed once per class and cached, so repeated calls neither walk the hierarchy nor allocate. The cache
+     * does not keep classes or their class loaders reachable.
+     * </p>
+     *
+     * @param type the type to get the class hierarchy from, may be {@code null}
+     * @param interfacesBehavior switch indicating whether to include or exclude interfaces
+     * @return the unmodifiable {@link List} of the class hierarchy of the given class, empty if null input
+     * @since 3.13.0
+     */
+    public static List<Class<?>> hierarchyCached(final Class<?> type, final Interfaces interfacesBehavior) {
+        if (type == null) {
+            return Collections.emptyList();
+        }
+        final Hierarchy hierarchy = HIERARCHY_CACHE.get(type);
+        return interfacesBehavior == Interfaces.INCLUDE ? hierarchy.classesAndInterfaces : hierarchy.classes;
+    }
+
     /**
      * Checks if one {@link Class} can be assigned to a variable of another {@link Class}.
      *
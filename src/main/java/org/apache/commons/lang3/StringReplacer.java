@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Replaces all occurrences of several Strings within another String, like
+ * {@link StringUtils#replaceEach(String, String[], String[])} and
+ * {@link StringUtils#replaceEachRepeatedly(String, String[], String[])}, with the search and replacement lists
+ * compiled once.
+ *
+ * <p>
+ * The search Strings are compiled into an Aho-Corasick automaton, so that a replacement pass reads the text once,
+ * whatever the number of search Strings, instead of searching the text for each search String in turn. Build a
+ * replacer once for a given pair of lists and reuse it.
+ * </p>
+ *
+ * <pre>
+ * StringReplacer replacer = StringReplacer.of(new String[] {"ab", "d"}, new String[] {"w", "t"});
+ * replacer.replace("abcde") = "wcte"
+ * </pre>
+ *
+ * <p>
+ * #ThreadSafe#
+ * </p>
+ *
+ * @see StringUtils#replaceEach(String, String[], String[])
+ * @see StringUtils#replaceEachRepeatedly(String, String[], String[])
+ * @since 3.13.0
+ */
+public final class StringReplacer {
+
+    /** The index of the root node of the automaton. */
+    private static final int ROOT = 0;
+
+    /**
+     * Creates a replacer for the given search and replacement lists.
+     *
+     * <p>
+     * A {@code null} list or a {@code null} or empty search String or {@code null} replacement String are ignored, as
+     * in {@link StringUtils#replaceEach(String, String[], String[])}.
+     * </p>
+     *
+     * @param searchList the Strings to search for, no-op if null
+     * @param replacementList the Strings to replace them with, no-op if null
+     * @return a new replacer
+     * @throws IllegalArgumentException if both lists are not empty and their lengths are not the same
+     */
+    public static StringReplacer of(final String[] searchList, final String[] replacementList) {
+        return new StringReplacer(searchList, replacementList);
+    }
+
+    /** The sorted characters of the edges leaving each node. */
+    private final char[][] edgeChars;
+
+    /** The target nodes of the edges leaving each node, in the order of {@link #edgeChars}. */
+    private final int[][] edgeTargets;
+
+    /** The node of the longest proper suffix of each node's String that is also in the trie. */
+    private final int[] failure;
+
+    /** The lowest index of the search Strings equal to each node's String, -1 if none. */
+    private final int[] match;
+
+    /** The nearest node on the failure chain of each node that has a match, -1 if none. */
+    private final int[] matchLink;
+
+    /** The length of each node's String. */
+    private final int[] depth;
+
+    private final String[] replacementList;
+
+    /** The lengths of the search Strings. */
+    private final int[] searchLengths;
+
+    /** Whether replacing repeatedly can loop, see {@link #replaceRepeatedly(String)}. */
+    private final boolean circular;
+
+    /** The number of passes allowed by {@link #replaceRepeatedly(String)}. */
+    private final int timeToLive;
+
+    private StringReplacer(final String[] searchList, final String[] replacementList) {
+        final boolean active = ArrayUtils.isNotEmpty(searchList) && ArrayUtils.isNotEmpty(replacementList);
+        if (active && searchList.length != replacementList.length) {
+            throw new IllegalArgumentException("Search and Replace array lengths don't match: "
+                + searchList.length
+                + " vs "
+                + replacementList.length);
+        }
+        this.replacementList = active ? replacementList.clone() : ArrayUtils.EMPTY_STRING_ARRAY;
+        this.searchLengths = new int[this.replacementList.length];
+        this.timeToLive = ArrayUtils.getLength(searchList);
+        if (active) {
+            final Set<String> searchSet = new HashSet<>(Arrays.asList(searchList));
+            searchSet.retainAll(new HashSet<>(Arrays.asList(replacementList)));
+            this.circular = !searchSet.isEmpty();
+        } else {
+            this.circular = false;
+        }
+
+        // Build the trie.
+        final List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        final List<Integer> matches = new ArrayList<>();
+        matches.add(-1);
+        final List<Integer> depths = new ArrayList<>();
+        depths.add(0);
+        if (active) {
+            for (int i = 0; i < searchList.length; i++) {
+                final String search = searchList[i];
+                if (StringUtils.isEmpty(search) || replacementList[i] == null) {
+                    continue;
+                }
+                int node = ROOT;
+                for (int j = 0; j < search.length(); j++) {
+                    final Map<Character, Integer> nodeEdges = edges.get(node);
+                    final Character c = search.charAt(j);
+                    Integer next = nodeEdges.get(c);
+                    if (next == null) {
+                        next = edges.size();
+                        nodeEdges.put(c, next);
+                        edges.add(new TreeMap<>());
+                        matches.add(-1);
+                        depths.add(j + 1);
+                    }
+                    node = next;
+                }
+                searchLengths[i] = search.length();
+                if (matches.get(node) < 0) {
+                    // Of equal search Strings, the first one wins.
+                    matches.set(node, i);
+                }
+            }
+        }
+
+        final int size = edges.size();
+        edgeChars = new char[size][];
+        edgeTargets = new int[size][];
+        failure = new int[size];
+        match = new int[size];
+        matchLink = new int[size];
+        depth = new int[size];
+        for (int node = 0; node < size; node++) {
+            final TreeMap<Character, Integer> nodeEdges = edges.get(node);
+            edgeChars[node] = new char[nodeEdges.size()];
+            edgeTargets[node] = new int[nodeEdges.size()];
+            int k = 0;
+            for (final Map.Entry<Character, Integer> edge : nodeEdges.entrySet()) {
+                edgeChars[node][k] = edge.getKey().charValue();
+                edgeTargets[node][k] = edge.getValue().intValue();
+                k++;
+            }
+            match[node] = matches.get(node).intValue();
+            depth[node] = depths.get(node).intValue();
+        }
+
+        // Link the failure and match chains, breadth first so that shorter Strings are linked first.
+        final int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        matchLink[ROOT] = -1;
+        for (final int child : edgeTargets[ROOT]) {
+            failure[child] = ROOT;
+            matchLink[child] = -1;
+            queue[tail++] = child;
+        }
+        while (head < tail) {
+            final int node = queue[head++];
+            for (int k = 0; k < edgeChars[node].length; k++) {
+                final char c = edgeChars[node][k];
+                final int child = edgeTargets[node][k];
+                final int fail = transition(failure[node], c);
+                failure[child] = fail;
+                matchLink[child] = match[fail] >= 0 ? fail : matchLink[fail];
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    /**
+     * Finds the target of the edge leaving a node for a character.
+     *
+     * @param node the node
+     * @param c the character
+     * @return the target node, -1 if none
+     */
+    private int edge(final int node, final char c) {
+        final int k = Arrays.binarySearch(edgeChars[node], c);
+        return k < 0 ? -1 : edgeTargets[node][k];
+    }
+
+    /**
+     * Replaces all occurrences of the search Strings within the given text, once, like
+     * {@link StringUtils#replaceEach(String, String[], String[])}.
+     *
+     * <p>
+     * Of the occurrences starting at the same index, the search String that comes first in the search list wins.
+     * </p>
+     *
+     * @param text text to search and replace in, no-op if null
+     * @return the text with any replacements processed, {@code null} if null String input
+     */
+    public String replace(final String text) {
+        if (StringUtils.isEmpty(text) || depth.length == 1) {
+            return text;
+        }
+        final int length = text.length();
+        StringBuilder buf = null;
+        // The end of the text copied to buf so far, the start of the text to search.
+        int start = 0;
+        int state = ROOT;
+        // The leftmost, then first in the search list, occurrence found so far.
+        int bestStart = -1;
+        int bestIndex = -1;
+        int i = 0;
+        while (i < length || bestStart >= 0) {
+            if (i < length) {
+                state = transition(state, text.charAt(i));
+                for (int node = match[state] >= 0 ? state : matchLink[state]; node >= 0; node = matchLink[node]) {
+                    final int matchStart = i - depth[node] + 1;
+                    final int matchIndex = match[node];
+                    if (bestStart < 0 || matchStart < bestStart || matchStart == bestStart && matchIndex < bestIndex) {
+                        bestStart = matchStart;
+                        bestIndex = matchIndex;
+                    }
+                }
+                i++;
+            }
+            // Any later occurrence starts where the String of the current node starts, or after.
+            if (bestStart >= 0 && (i == length || i - depth[state] > bestStart)) {
+                if (buf == null) {
+                    buf = new StringBuilder(length);
+                }
+                buf.append(text, start, bestStart).append(replacementList[bestIndex]);
+                start = bestStart + searchLengths[bestIndex];
+                // Occurrences overlapping the replaced one are skipped, search again from its end.
+                i = start;
+                state = ROOT;
+                bestStart = -1;
+            }
+        }
+        if (buf == null) {
+            return text;
+        }
+        return buf.append(text, start, length).toString();
+    }
+
+    /**
+     * Replaces all occurrences of the search Strings within the given text, repeatedly until there are no more
+     * possible replacements, like {@link StringUtils#replaceEachRepeatedly(String, String[], String[])}.
+     *
+     * @param text text to search and replace in, no-op if null
+     * @return the text with any replacements processed, {@code null} if null String input
+     * @throws IllegalStateException if there is an endless loop due to outputs of one being inputs to another
+     */
+    public String replaceRepeatedly(final String text) {
+        String result = text;
+        for (int ttl = timeToLive; ttl >= 0; ttl--) {
+            final String replaced = replace(result);
+            if (replaced == result) {
+                return result;
+            }
+            result = replaced;
+        }
+        if (circular) {
+            throw new IllegalStateException("Aborting to protect against StackOverflowError - "
+                + "output of one loop is the input of another");
+        }
+        return result;
+    }
+
+    /**
+     * Follows the edge leaving a node for a character, or the failure links until such an edge exists.
+     *
+     * @param node the node
+     * @param c the character
+     * @return the next node
+     */
+    private int transition(final int node, final char c) {
+        int current = node;
+        while (true) {
+            final int next = edge(current, c);
+            if (next >= 0) {
+                return next;
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = failure[current];
+        }
+    }
+}
@@ -6566,6 +6566,7 @@ public static String replaceChars(final String str, final String searchChars, St
      * @throws IllegalArgumentException
      *             if the lengths of the arrays are not the same (null is ok,
      *             and/or size 0)
+     * @see StringReplacer#replace(String)
      * @since 2.4
      */
     public static String replaceEach(final String text, final String[] searchList, final String[] replacementList) {
@@ -6783,6 +6784,7 @@ private static String replaceEach(
      * @throws IllegalArgumentException
      *             if the lengths of the arrays are not the same (null is ok,
      *             and/or size 0)
+     * @see StringReplacer#replaceRepeatedly(String)
      * @since 2.4
      */
     public static String replaceEachRepeatedly(final String text, final String[] searchList, final String[] replacementList) {
@@ -16,18 +16,12 @@
  */
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
-import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.function.Failable;
 
 /**
  * Assists in implementing {@link Object#equals(Object)} methods.
@@ -72,7 +66,8 @@
  * change the visibility of the fields. This will fail under a security
  * manager, unless the appropriate permissions are set up correctly. It is
  * also slower than testing explicitly.  Non-primitive fields are compared using
- * {@code equals()}.</p>
+ * {@code equals()}. The fields of a class are looked up once and then read
+ * through method handles, without boxing primitive values.</p>
  *
  * <p> A typical invocation for this method would look like:</p>
  * <pre>
@@ -93,48 +88,17 @@ public class EqualsBuilder implements Builder<Boolean> {
      *
      * @since 3.0
      */
-    private static final ThreadLocal<Set<Pair<IDKey, IDKey>>> REGISTRY = new ThreadLocal<>();
-
-    /*
-     * NOTE: we cannot store the actual objects in a HashSet, as that would use the very hashCode()
-     * we are in the process of calculating.
-     *
-     * So we generate a one-to-one mapping from the original object to a new object.
-     *
-     * Now HashSet uses equals() to determine if two elements with the same hash code really
-     * are equal, so we also need to ensure that the replacement objects are only equal
-     * if the original objects are identical.
-     *
-     * The original implementation (2.4 and before) used the System.identityHashCode()
-     * method - however this is not guaranteed to generate unique ids (e.g. LANG-459)
-     *
-     * We now use the IDKey helper class (adapted from org.apache.axis.utils.IDKey)
-     * to disambiguate the duplicate ids.
-     */
+    private static final IdentityRegistry REGISTRY = new IdentityRegistry();
 
     /**
      * Returns the registry of object pairs being traversed by the reflection
      * methods in the current thread.
      *
-     * @return Set the registry of objects being traversed
+     * @return the registry of objects being traversed, or {@code null} if empty
      * @since 3.0
      */
-    static Set<Pair<IDKey, IDKey>> getRegistry() {
-        return REGISTRY.get();
-    }
-
-    /**
-     * Converters value pair into a register pair.
-     *
-     * @param lhs {@code this} object
-     * @param rhs the other object
-     *
-     * @return the pair
-     */
-    static Pair<IDKey, IDKey> getRegisterPair(final Object lhs, final Object rhs) {
-        final IDKey left = new IDKey(lhs);
-        final IDKey right = new IDKey(rhs);
-        return Pair.of(left, right);
+    static IdentityRegistry getRegistry() {
+        return REGISTRY.isEmpty() ? null : REGISTRY;
     }
 
     /**
@@ -149,12 +113,7 @@ static Pair<IDKey, IDKey> getRegisterPair(final Object lhs, final Object rhs) {
      * @since 3.0
      */
     static boolean isRegistered(final Object lhs, final Object rhs) {
-        final Set<Pair<IDKey, IDKey>> registry = getRegistry();
-        final Pair<IDKey, IDKey> pair = getRegisterPair(lhs, rhs);
-        final Pair<IDKey, IDKey> swappedPair = Pair.of(pair.getRight(), pair.getLeft());
-
-        return registry != null
-                && (registry.contains(pair) || registry.contains(swappedPair));
+        return REGISTRY.contains(lhs, rhs) || REGISTRY.contains(rhs, lhs);
     }
 
     /**
@@ -165,13 +124,7 @@ static boolean isRegistered(final Object lhs, final Object rhs) {
      * @param rhs the other object to register
      */
     private static void register(final Object lhs, final Object rhs) {
-        Set<Pair<IDKey, IDKey>> registry = getRegistry();
-        if (registry == null) {
-            registry = new HashSet<>();
-            REGISTRY.set(registry);
-        }
-        final Pair<IDKey, IDKey> pair = getRegisterPair(lhs, rhs);
-        registry.add(pair);
+        REGISTRY.register(lhs, rhs);
     }
 
     /**
@@ -185,13 +138,7 @@ private static void register(final Object lhs, final Object rhs) {
      * @since 3.0
      */
     private static void unregister(final Object lhs, final Object rhs) {
-        final Set<Pair<IDKey, IDKey>> registry = getRegistry();
-        if (registry != null) {
-            registry.remove(getRegisterPair(lhs, rhs));
-            if (registry.isEmpty()) {
-                REGISTRY.remove();
-            }
-        }
+        REGISTRY.unregister(lhs, rhs);
     }
 
     /**
@@ -556,28 +503,32 @@ private void reflectionAppend(
             return;
         }
 
-        try {
+        final FieldAccessor[] accessors = FieldAccessor.of(clazz);
+        // Fields holding only values can't lead back to lhs and rhs.
+        final boolean mayCycle = !FieldAccessor.hasOnlyValueFields(clazz);
+        if (mayCycle) {
             register(lhs, rhs);
-            final Field[] fields = clazz.getDeclaredFields();
-            AccessibleObject.setAccessible(fields, true);
-            for (int i = 0; i < fields.length && isEquals; i++) {
-                final Field f = fields[i];
-                if (!ArrayUtils.contains(excludeFields, f.getName())
-                    && !f.getName().contains("$")
-                    && (testTransients || !Modifier.isTransient(f.getModifiers()))
-                    && !Modifier.isStatic(f.getModifiers())
-                    && !f.isAnnotationPresent(EqualsExclude.class)) {
+        }
+        try {
+            // Field.get(Object) would throw an IllegalArgumentException for an object of a superclass.
+            final boolean compatible = clazz.isInstance(lhs) && clazz.isInstance(rhs);
+            for (int i = 0; i < accessors.length && isEquals; i++) {
+                final FieldAccessor accessor = accessors[i];
+                if (accessor.isEqualsField(testTransients, excludeFields)) {
+                    if (!compatible) {
+                        throw new IllegalArgumentException("Object is not an instance of " + clazz.getName());
+                    }
                     try {
-                        append(f.get(lhs), f.get(rhs));
-                    } catch (final IllegalAccessException e) {
-                        //this can't happen. Would get a Security exception instead
-                        //throw a runtime exception in case the impossible happens.
-                        throw new InternalError("Unexpected IllegalAccessException");
+                        accessor.append(this, lhs, rhs);
+                    } catch (final Throwable t) {
+                        throw Failable.rethrow(t);
                     }
                 }
             }
         } finally {
-            unregister(lhs, rhs);
+            if (mayCycle) {
+                unregister(lhs, rhs);
+            }
         }
     }
 
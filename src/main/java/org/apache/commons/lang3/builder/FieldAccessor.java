@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.ArraySorter;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.exception.UncheckedIllegalAccessException;
+
+/**
+ * Reads an instance field through a {@link MethodHandle} typed for the field's type, so that primitive field values
+ * reach the primitive {@code append} methods of {@link EqualsBuilder} and {@link HashCodeBuilder} without boxing.
+ *
+ * <p>
+ * The accessors of a class are created once, together with the field's modifiers and exclusion annotations, and are
+ * cached with a {@link ClassValue}, see {@link #of(Class)}.
+ * </p>
+ *
+ * <p>
+ * Values are appended as {@link Field#get(Object)} followed by the {@code Object} {@code append} methods would: a
+ * primitive field contributes the {@code hashCode()} of its wrapper to a {@link HashCodeBuilder}, and is compared
+ * like its wrapper's {@code equals(Object)} by an {@link EqualsBuilder}.
+ * </p>
+ */
+abstract class FieldAccessor {
+
+    private static final class BooleanAccessor extends FieldAccessor {
+
+        BooleanAccessor(final Field field, final MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void append(final EqualsBuilder builder, final Object lhs, final Object rhs) throws Throwable {
+            builder.append((boolean) getter.invokeExact(lhs), (boolean) getter.invokeExact(rhs));
+        }
+
+        @Override
+        void append(final HashCodeBuilder builder, final Object object) throws Throwable {
+            builder.append(Boolean.hashCode((boolean) getter.invokeExact(object)));
+        }
+    }
+
+    private static final class ByteAccessor extends FieldAccessor {
+
+        ByteAccessor(final Field field, final MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void append(final EqualsBuilder builder, final Object lhs, final Object rhs) throws Throwable {
+            builder.append((byte) getter.invokeExact(lhs), (byte) getter.invokeExact(rhs));
+        }
+
+        @Override
+        void append(final HashCodeBuilder builder, final Object object) throws Throwable {
+            builder.append(Byte.hashCode((byte) getter.invokeExact(object)));
+        }
+    }
+
+    private static final class CharAccessor extends FieldAccessor {
+
+        CharAccessor(final Field field, final MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void append(final EqualsBuilder builder, final Object lhs, final Object rhs) throws Throwable {
+            builder.append((char) getter.invokeExact(lhs), (char) getter.invokeExact(rhs));
+        }
+
+        @Override
+        void append(final HashCodeBuilder builder, final Object object) throws Throwable {
+            builder.append(Character.hashCode((char) getter.invokeExact(object)));
+        }
+    }
+
+    private static final class DoubleAccessor extends FieldAccessor {
+
+        DoubleAccessor(final Field field, final MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void append(final EqualsBuilder builder, final Object lhs, final Object rhs) throws Throwable {
+            builder.append((double) getter.invokeExact(lhs), (double) getter.invokeExact(rhs));
+        }
+
+        @Override
+        void append(final HashCodeBuilder builder, final Object object) throws Throwable {
+            builder.append(Double.hashCode((double) getter.invokeExact(object)));
+        }
+    }
+
+    private static final class FloatAccessor extends FieldAccessor {
+
+        FloatAccessor(final Field field, final MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void append(final EqualsBuilder builder, final Object lhs, final Object rhs) throws Throwable {
+            builder.append((float) getter.invokeExact(lhs), (float) getter.invokeExact(rhs));
+        }
+
+        @Override
+        void append(final HashCodeBuilder builder, final Object object) throws Throwable {
+            builder.append(Float.hashCode((float) getter.invokeExact(object)));
+        }
+    }
+
+    private static final class IntAccessor extends FieldAccessor {
+
+        IntAccessor(final Field field, final MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void append(final EqualsBuilder builder, final Object lhs, final Object rhs) throws Throwable {
+            builder.append((int) getter.invokeExact(lhs), (int) getter.invokeExact(rhs));
+        }
+
+        @Override
+        void append(final HashCodeBuilder builder, final Object object) throws Throwable {
+            builder.append((int) getter.invokeExact(object));
+        }
+    }
+
+    private static final class LongAccessor extends FieldAccessor {
+
+        LongAccessor(final Field field, final MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void append(final EqualsBuilder builder, final Object lhs, final Object rhs) throws Throwable {
+            builder.append((long) getter.invokeExact(lhs), (long) getter.invokeExact(rhs));
+        }
+
+        @Override
+        void append(final HashCodeBuilder builder, final Object object) throws Throwable {
+            // Not HashCodeBuilder.append(long), which differs from Long.hashCode(long), see LANG-342.
+            builder.append(Long.hashCode((long) getter.invokeExact(object)));
+        }
+    }
+
+    private static final class ObjectAccessor extends FieldAccessor {
+
+        ObjectAccessor(final Field field, final MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void append(final EqualsBuilder builder, final Object lhs, final Object rhs) throws Throwable {
+            builder.append((Object) getter.invokeExact(lhs), (Object) getter.invokeExact(rhs));
+        }
+
+        @Override
+        void append(final HashCodeBuilder builder, final Object object) throws Throwable {
+            builder.append((Object) getter.invokeExact(object));
+        }
+    }
+
+    private static final class ShortAccessor extends FieldAccessor {
+
+        ShortAccessor(final Field field, final MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void append(final EqualsBuilder builder, final Object lhs, final Object rhs) throws Throwable {
+            builder.append((short) getter.invokeExact(lhs), (short) getter.invokeExact(rhs));
+        }
+
+        @Override
+        void append(final HashCodeBuilder builder, final Object object) throws Throwable {
+            builder.append(Short.hashCode((short) getter.invokeExact(object)));
+        }
+    }
+
+    private static final ClassValue<FieldAccessor[]> CACHE = new ClassValue<FieldAccessor[]>() {
+        @Override
+        protected FieldAccessor[] computeValue(final Class<?> type) {
+            // The elements in the returned array are not sorted and are not in any particular order.
+            final Field[] fields = ArraySorter.sort(type.getDeclaredFields(), Comparator.comparing(Field::getName));
+            AccessibleObject.setAccessible(fields, true);
+            return Stream.of(fields)
+                .filter(field -> !field.getName().contains("$") && !Modifier.isStatic(field.getModifiers()))
+                .map(FieldAccessor::create)
+                .toArray(FieldAccessor[]::new);
+        }
+    };
+
+    private static final ClassValue<Boolean> VALUE_FIELDS_ONLY = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return Boolean.valueOf(Stream.of(of(type)).allMatch(accessor -> accessor.valueField));
+        }
+    };
+
+    private static FieldAccessor create(final Field field) {
+        final MethodHandle getter;
+        try {
+            getter = MethodHandles.lookup().unreflectGetter(field);
+        } catch (final IllegalAccessException e) {
+            throw new UncheckedIllegalAccessException(e);
+        }
+        final Class<?> type = field.getType();
+        if (!type.isPrimitive()) {
+            return new ObjectAccessor(field, getter.asType(MethodType.methodType(Object.class, Object.class)));
+        }
+        final MethodHandle typedGetter = getter.asType(MethodType.methodType(type, Object.class));
+        if (type == int.class) {
+            return new IntAccessor(field, typedGetter);
+        }
+        if (type == long.class) {
+            return new LongAccessor(field, typedGetter);
+        }
+        if (type == boolean.class) {
+            return new BooleanAccessor(field, typedGetter);
+        }
+        if (type == double.class) {
+            return new DoubleAccessor(field, typedGetter);
+        }
+        if (type == float.class) {
+            return new FloatAccessor(field, typedGetter);
+        }
+        if (type == char.class) {
+            return new CharAccessor(field, typedGetter);
+        }
+        if (type == short.class) {
+            return new ShortAccessor(field, typedGetter);
+        }
+        return new ByteAccessor(field, typedGetter);
+    }
+
+    /**
+     * Gets the accessors for the non-static fields declared by the given class, sorted by field name. Synthetic fields
+     * whose name contains a {@code $} are skipped.
+     *
+     * @param clazz the class to reflect.
+     * @return the cached accessors, not to be modified.
+     */
+    static FieldAccessor[] of(final Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * Tests whether all fields of the given class, as returned by {@link #of(Class)}, are primitives, Strings or
+     * primitive wrappers. Such fields can't lead back to the object being reflected, so reflecting on them can't cycle.
+     *
+     * @param clazz the class to reflect.
+     * @return whether the class only declares value fields.
+     */
+    static boolean hasOnlyValueFields(final Class<?> clazz) {
+        return VALUE_FIELDS_ONLY.get(clazz).booleanValue();
+    }
+
+    /**
+     * The getter, typed {@code (Object)T} where {@code T} is the field type for primitives and {@code Object}
+     * otherwise.
+     */
+    final MethodHandle getter;
+
+    private final String name;
+    private final boolean isTransient;
+    private final boolean equalsExclude;
+    private final boolean hashCodeExclude;
+    private final boolean valueField;
+
+    FieldAccessor(final Field field, final MethodHandle getter) {
+        this.getter = getter;
+        this.name = field.getName();
+        this.isTransient = Modifier.isTransient(field.getModifiers());
+        this.equalsExclude = field.isAnnotationPresent(EqualsExclude.class);
+        this.hashCodeExclude = field.isAnnotationPresent(HashCodeExclude.class);
+        this.valueField = ClassUtils.isPrimitiveOrWrapper(field.getType()) || field.getType() == String.class;
+    }
+
+    /**
+     * Appends the values of this field in two objects to an {@link EqualsBuilder}.
+     *
+     * @param builder the builder to append to.
+     * @param lhs the left-hand object, an instance of the declaring class.
+     * @param rhs the right-hand object, an instance of the declaring class.
+     * @throws Throwable thrown by the getter.
+     */
+    abstract void append(EqualsBuilder builder, Object lhs, Object rhs) throws Throwable;
+
+    /**
+     * Appends the value of this field in an object to a {@link HashCodeBuilder}.
+     *
+     * @param builder the builder to append to.
+     * @param object the object, an instance of the declaring class.
+     * @throws Throwable thrown by the getter.
+     */
+    abstract void append(HashCodeBuilder builder, Object object) throws Throwable;
+
+    /**
+     * Tests whether {@link EqualsBuilder} reflection compares this field.
+     *
+     * @param useTransients whether to compare transient fields.
+     * @param excludeFields field names to exclude, may be {@code null}.
+     * @return whether to compare this field.
+     */
+    boolean isEqualsField(final boolean useTransients, final String[] excludeFields) {
+        return !equalsExclude && accept(useTransients, excludeFields);
+    }
+
+    /**
+     * Tests whether {@link HashCodeBuilder} reflection hashes this field.
+     *
+     * @param useTransients whether to hash transient fields.
+     * @param excludeFields field names to exclude, may be {@code null}.
+     * @return whether to hash this field.
+     */
+    boolean isHashCodeField(final boolean useTransients, final String[] excludeFields) {
+        return !hashCodeExclude && accept(useTransients, excludeFields);
+    }
+
+    private boolean accept(final boolean useTransients, final String[] excludeFields) {
+        return (useTransients || !isTransient) && !ArrayUtils.contains(excludeFields, name);
+    }
+}
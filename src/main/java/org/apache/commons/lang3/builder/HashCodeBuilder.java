@@ -17,19 +17,12 @@
 
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
 
-import org.apache.commons.lang3.ArraySorter;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.function.Failable;
 
 /**
  * Assists in implementing {@link Object#hashCode()} methods.
@@ -84,7 +77,8 @@
  * Alternatively, there is a method that uses reflection to determine the fields to test. Because these fields are
  * usually private, the method, {@code reflectionHashCode}, uses {@code AccessibleObject.setAccessible}
  * to change the visibility of the fields. This will fail under a security manager, unless the appropriate permissions
- * are set up correctly. It is also slower than testing explicitly.
+ * are set up correctly. It is also slower than testing explicitly. The fields of a class are looked up once and then
+ * read through method handles, without boxing primitive values.
  * </p>
  *
  * <p>
@@ -118,33 +112,16 @@ public class HashCodeBuilder implements Builder<Integer> {
      *
      * @since 2.3
      */
-    private static final ThreadLocal<Set<IDKey>> REGISTRY = new ThreadLocal<>();
-
-    /*
-     * NOTE: we cannot store the actual objects in a HashSet, as that would use the very hashCode()
-     * we are in the process of calculating.
-     *
-     * So we generate a one-to-one mapping from the original object to a new object.
-     *
-     * Now HashSet uses equals() to determine if two elements with the same hash code really
-     * are equal, so we also need to ensure that the replacement objects are only equal
-     * if the original objects are identical.
-     *
-     * The original implementation (2.4 and before) used the System.identityHashCode()
-     * method - however this is not guaranteed to generate unique ids (e.g. LANG-459)
-     *
-     * We now use the IDKey helper class (adapted from org.apache.axis.utils.IDKey)
-     * to disambiguate the duplicate ids.
-     */
+    private static final IdentityRegistry REGISTRY = new IdentityRegistry();
 
     /**
      * Returns the registry of objects being traversed by the reflection methods in the current thread.
      *
-     * @return Set the registry of objects being traversed
+     * @return the registry of objects being traversed, or {@code null} if empty
      * @since 2.3
      */
-    static Set<IDKey> getRegistry() {
-        return REGISTRY.get();
+    static IdentityRegistry getRegistry() {
+        return REGISTRY.isEmpty() ? null : REGISTRY;
     }
 
     /**
@@ -157,8 +134,7 @@ static Set<IDKey> getRegistry() {
      * @since 2.3
      */
     static boolean isRegistered(final Object value) {
-        final Set<IDKey> registry = getRegistry();
-        return registry != null && registry.contains(new IDKey(value));
+        return REGISTRY.contains(value, value);
     }
 
     /**
@@ -180,29 +156,25 @@ private static void reflectionAppend(final Object object, final Class<?> clazz,
         if (isRegistered(object)) {
             return;
         }
-        try {
+        // Fields holding only values can't lead back to the object.
+        final boolean mayCycle = !FieldAccessor.hasOnlyValueFields(clazz);
+        if (mayCycle) {
             register(object);
-            // The elements in the returned array are not sorted and are not in any particular order.
-            final Field[] fields = ArraySorter.sort(clazz.getDeclaredFields(), Comparator.comparing(Field::getName));
-            AccessibleObject.setAccessible(fields, true);
-            for (final Field field : fields) {
-                if (!ArrayUtils.contains(excludeFields, field.getName())
-                    && !field.getName().contains("$")
-                    && (useTransients || !Modifier.isTransient(field.getModifiers()))
-                    && !Modifier.isStatic(field.getModifiers())
-                    && !field.isAnnotationPresent(HashCodeExclude.class)) {
+        }
+        try {
+            for (final FieldAccessor accessor : FieldAccessor.of(clazz)) {
+                if (accessor.isHashCodeField(useTransients, excludeFields)) {
                     try {
-                        final Object fieldValue = field.get(object);
-                        builder.append(fieldValue);
-                    } catch (final IllegalAccessException e) {
-                        // this can't happen. Would get a Security exception instead
-                        // throw a runtime exception in case the impossible happens.
-                        throw new InternalError("Unexpected IllegalAccessException");
+                        accessor.append(builder, object);
+                    } catch (final Throwable t) {
+                        throw Failable.rethrow(t);
                     }
                 }
             }
         } finally {
-            unregister(object);
+            if (mayCycle) {
+                unregister(object);
+            }
         }
     }
 
@@ -474,12 +446,7 @@ public static int reflectionHashCode(final Object object, final String... exclud
      *            The object to register.
      */
     private static void register(final Object value) {
-        Set<IDKey> registry = getRegistry();
-        if (registry == null) {
-            registry = new HashSet<>();
-            REGISTRY.set(registry);
-        }
-        registry.add(new IDKey(value));
+        REGISTRY.register(value, value);
     }
 
     /**
@@ -493,13 +460,7 @@ private static void register(final Object value) {
      * @since 2.3
      */
     private static void unregister(final Object value) {
-        final Set<IDKey> registry = getRegistry();
-        if (registry != null) {
-            registry.remove(new IDKey(value));
-            if (registry.isEmpty()) {
-                REGISTRY.remove();
-            }
-        }
+        REGISTRY.unregister(value, value);
     }
 
     /**
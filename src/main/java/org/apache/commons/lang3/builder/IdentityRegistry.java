@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+/**
+ * A per-thread set of object pairs compared by identity, used by reflection methods to detect cyclical object
+ * references and avoid infinite loops.
+ *
+ * <p>
+ * We cannot store the objects themselves in a {@link java.util.HashSet}, as that would use the very {@code hashCode()}
+ * and {@code equals()} we may be in the process of computing, and {@link System#identityHashCode(Object)} is not
+ * guaranteed to be unique (LANG-459). Instead, pairs live in an open-addressing table probed by identity hash code and
+ * compared with {@code ==}, so that registering, looking up and unregistering a pair allocates nothing.
+ * </p>
+ *
+ * <p>
+ * Each thread reuses its table across calls. The table is a plain {@code Object[]}, so that a thread does not keep
+ * this class, and its class loader, reachable.
+ * </p>
+ */
+final class IdentityRegistry {
+
+    /** The initial number of pair slots, a power of two. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Tables larger than this are dropped when they become empty. */
+    private static final int MAX_IDLE_CAPACITY = 1024;
+
+    /*
+     * Table layout: a table with capacity c has 2 * c + 1 elements. Slot i holds a pair's left object at 2 * i and its
+     * right object at 2 * i + 1, a null left object marks an empty slot. The last element is an int[1] holding the
+     * number of pairs.
+     */
+
+    private static int capacity(final Object[] table) {
+        return table.length >> 1;
+    }
+
+    private static int hash(final Object left, final Object right) {
+        final int h = System.identityHashCode(left) * 31 + System.identityHashCode(right);
+        return h ^ h >>> 16;
+    }
+
+    private static int[] size(final Object[] table) {
+        return (int[]) table[table.length - 1];
+    }
+
+    private static Object[] newTable(final int capacity) {
+        final Object[] table = new Object[2 * capacity + 1];
+        table[2 * capacity] = new int[1];
+        return table;
+    }
+
+    private final ThreadLocal<Object[]> tables = ThreadLocal.withInitial(() -> newTable(INITIAL_CAPACITY));
+
+    /**
+     * Tests whether the current thread's registry contains the given pair.
+     *
+     * @param left the left object, not null.
+     * @param right the right object.
+     * @return whether the pair is registered.
+     */
+    boolean contains(final Object left, final Object right) {
+        final Object[] table = tables.get();
+        return size(table)[0] != 0 && indexOf(table, left, right) >= 0;
+    }
+
+    private int indexOf(final Object[] table, final Object left, final Object right) {
+        final int mask = capacity(table) - 1;
+        for (int i = hash(left, right) & mask;; i = i + 1 & mask) {
+            final Object candidate = table[2 * i];
+            if (candidate == null) {
+                return -1;
+            }
+            if (candidate == left && table[2 * i + 1] == right) {
+                return i;
+            }
+        }
+    }
+
+    /**
+     * Tests whether the current thread's registry is empty.
+     *
+     * @return whether no pair is registered.
+     */
+    boolean isEmpty() {
+        return size(tables.get())[0] == 0;
+    }
+
+    private void put(final Object[] table, final Object left, final Object right) {
+        final int mask = capacity(table) - 1;
+        int i = hash(left, right) & mask;
+        while (table[2 * i] != null) {
+            i = i + 1 & mask;
+        }
+        table[2 * i] = left;
+        table[2 * i + 1] = right;
+        size(table)[0]++;
+    }
+
+    /**
+     * Registers the given pair in the current thread's registry, if not already registered.
+     *
+     * @param left the left object, not null.
+     * @param right the right object.
+     */
+    void register(final Object left, final Object right) {
+        Object[] table = tables.get();
+        if (indexOf(table, left, right) >= 0) {
+            return;
+        }
+        final int capacity = capacity(table);
+        // Keep the table at most half full.
+        if (2 * (size(table)[0] + 1) > capacity) {
+            final Object[] grown = newTable(2 * capacity);
+            for (int i = 0; i < capacity; i++) {
+                if (table[2 * i] != null) {
+                    put(grown, table[2 * i], table[2 * i + 1]);
+                }
+            }
+            table = grown;
+            tables.set(table);
+        }
+        put(table, left, right);
+    }
+
+    /**
+     * Unregisters the given pair from the current thread's registry.
+     *
+     * @param left the left object, not null.
+     * @param right the right object.
+     */
+    void unregister(final Object left, final Object right) {
+        final Object[] table = tables.get();
+        int i = indexOf(table, left, right);
+        if (i < 0) {
+            return;
+        }
+        // Linear probing deletion: shift back later pairs of the same probe sequence.
+        final int mask = capacity(table) - 1;
+        for (int j = i + 1 & mask; table[2 * j] != null; j = j + 1 & mask) {
+            final int home = hash(table[2 * j], table[2 * j + 1]) & mask;
+            if (i <= j ? i < home && home <= j : i < home || home <= j) {
+                continue;
+            }
+            table[2 * i] = table[2 * j];
+            table[2 * i + 1] = table[2 * j + 1];
+            i = j;
+        }
+        table[2 * i] = null;
+        table[2 * i + 1] = null;
+        if (--size(table)[0] == 0 && capacity(table) > MAX_IDLE_CAPACITY) {
+            tables.remove();
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.commons.lang3.builder;
 
+import java.io.IOException;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -24,6 +25,8 @@
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.ArraySorter;
 import org.apache.commons.lang3.ArrayUtils;
@@ -100,6 +103,134 @@
  */
 public class ReflectionToStringBuilder extends ToStringBuilder {
 
+    /**
+     * The fields of one class that pass a given filter, in output order, with their {@link ToStringSummary} flags.
+     */
+    private static final class FilteredFields {
+
+        private final Field[] fields;
+        private final boolean[] fullDetail;
+
+        FilteredFields(final Field[] fields, final boolean[] fullDetail) {
+            this.fields = fields;
+            this.fullDetail = fullDetail;
+        }
+    }
+
+    /**
+     * The cached field metadata of one class: its declared fields, sorted by name and made accessible, and the
+     * results of filtering them for each filter seen so far.
+     */
+    private static final class ClassFields {
+
+        private final Field[] sortedFields;
+        private final ConcurrentMap<FieldFilter, FilteredFields> filtered = new ConcurrentHashMap<>();
+
+        ClassFields(final Class<?> clazz) {
+            // The elements in the returned array are not sorted and are not in any particular order.
+            this.sortedFields = ArraySorter.sort(clazz.getDeclaredFields(), Comparator.comparing(Field::getName));
+            AccessibleObject.setAccessible(sortedFields, true);
+        }
+    }
+
+    /**
+     * The settings that decide which fields {@link ReflectionToStringBuilder#accept(Field)} accepts.
+     */
+    private static final class FieldFilter {
+
+        private final boolean appendStatics;
+        private final boolean appendTransients;
+        private final String[] excludeFieldNames;
+        private final String[] includeFieldNames;
+        private final int hashCode;
+
+        FieldFilter(final boolean appendStatics, final boolean appendTransients, final String[] excludeFieldNames,
+            final String[] includeFieldNames) {
+            this.appendStatics = appendStatics;
+            this.appendTransients = appendTransients;
+            this.excludeFieldNames = excludeFieldNames;
+            this.includeFieldNames = includeFieldNames;
+            this.hashCode = Objects.hash(appendStatics, appendTransients, Arrays.hashCode(excludeFieldNames),
+                Arrays.hashCode(includeFieldNames));
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FieldFilter)) {
+                return false;
+            }
+            final FieldFilter other = (FieldFilter) obj;
+            return appendStatics == other.appendStatics && appendTransients == other.appendTransients
+                && Arrays.equals(excludeFieldNames, other.excludeFieldNames)
+                && Arrays.equals(includeFieldNames, other.includeFieldNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        /**
+         * Creates a copy of this filter that does not share its arrays with a builder, for use as a map key.
+         */
+        FieldFilter copy() {
+            return new FieldFilter(appendStatics, appendTransients, ArrayUtils.clone(excludeFieldNames),
+                ArrayUtils.clone(includeFieldNames));
+        }
+    }
+
+    /**
+     * Whether a {@link ReflectionToStringBuilder} subclass overrides {@link #accept(Field)}, in which case filtered
+     * field lists can't be cached.
+     */
+    private static final ClassValue<Boolean> ACCEPT_OVERRIDDEN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            for (Class<?> c = type; c != null && c != ReflectionToStringBuilder.class; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("accept", Field.class);
+                    return Boolean.TRUE;
+                } catch (final NoSuchMethodException e) {
+                    // keep looking
+                }
+            }
+            return Boolean.FALSE;
+        }
+    };
+
+    /**
+     * Cache of field metadata per reflected class. A {@link ClassValue} does not keep classes or their class loaders
+     * reachable; the reference is swapped to clear the cache.
+     */
+    private static volatile ClassValue<ClassFields> fieldCache = newFieldCache();
+
+    /**
+     * Clears the cache of per-class field metadata used by all instances.
+     *
+     * <p>
+     * Each reflected class's declared fields are looked up, sorted, made accessible and filtered once and then
+     * cached. The cache does not prevent classes from being unloaded, so clearing it is only needed to release the
+     * memory it holds.
+     * </p>
+     *
+     * @since 3.13.0
+     */
+    public static void clearFieldCache() {
+        fieldCache = newFieldCache();
+    }
+
+    private static ClassValue<ClassFields> newFieldCache() {
+        return new ClassValue<ClassFields>() {
+            @Override
+            protected ClassFields computeValue(final Class<?> type) {
+                return new ClassFields(type);
+            }
+        };
+    }
+
     /**
      * Converts the given Collection into an array of Strings. The returned array does not contain {@code null}
      * entries. Note that {@link Arrays#sort(Object[])} will throw an {@link NullPointerException} if an array element
@@ -651,27 +782,55 @@ protected void appendFieldsIn(final Class<?> clazz) {
             this.reflectionAppendArray(this.getObject());
             return;
         }
-        // The elements in the returned array are not sorted and are not in any particular order.
-        final Field[] fields = ArraySorter.sort(clazz.getDeclaredFields(), Comparator.comparing(Field::getName));
-        AccessibleObject.setAccessible(fields, true);
-        for (final Field field : fields) {
-            final String fieldName = field.getName();
-            if (this.accept(field)) {
-                try {
-                    // Warning: Field.get(Object) creates wrappers objects for primitive types.
-                    final Object fieldValue = this.getValue(field);
-                    if (!excludeNullValues || fieldValue != null) {
-                        this.append(fieldName, fieldValue, !field.isAnnotationPresent(ToStringSummary.class));
-                    }
-                } catch (final IllegalAccessException ex) {
-                    // this can't happen. Would get a Security exception instead
-                    // throw a runtime exception in case the impossible happens.
-                    throw new InternalError("Unexpected IllegalAccessException: " + ex.getMessage());
+        final FilteredFields filteredFields = getFilteredFields(clazz);
+        final Field[] fields = filteredFields.fields;
+        for (int i = 0; i < fields.length; i++) {
+            final Field field = fields[i];
+            try {
+                // Warning: Field.get(Object) creates wrappers objects for primitive types.
+                final Object fieldValue = this.getValue(field);
+                if (!excludeNullValues || fieldValue != null) {
+                    this.append(field.getName(), fieldValue, filteredFields.fullDetail[i]);
                 }
+            } catch (final IllegalAccessException ex) {
+                // this can't happen. Would get a Security exception instead
+                // throw a runtime exception in case the impossible happens.
+                throw new InternalError("Unexpected IllegalAccessException: " + ex.getMessage());
             }
         }
     }
 
+    /**
+     * Gets the fields of the given class accepted by {@link #accept(Field)}, from the cache when possible.
+     *
+     * @param clazz
+     *            The class of object parameter
+     * @return the accepted fields, sorted by name
+     */
+    private FilteredFields getFilteredFields(final Class<?> clazz) {
+        final ClassFields classFields = fieldCache.get(clazz);
+        if (ACCEPT_OVERRIDDEN.get(getClass()).booleanValue()) {
+            return filter(classFields.sortedFields);
+        }
+        final FieldFilter key = new FieldFilter(appendStatics, appendTransients, excludeFieldNames, includeFieldNames);
+        final FilteredFields cached = classFields.filtered.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final FilteredFields filteredFields = filter(classFields.sortedFields);
+        final FilteredFields previous = classFields.filtered.putIfAbsent(key.copy(), filteredFields);
+        return previous != null ? previous : filteredFields;
+    }
+
+    private FilteredFields filter(final Field[] sortedFields) {
+        final Field[] fields = Arrays.stream(sortedFields).filter(this::accept).toArray(Field[]::new);
+        final boolean[] fullDetail = new boolean[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            fullDetail[i] = !fields[i].isAnnotationPresent(ToStringSummary.class);
+        }
+        return new FilteredFields(fields, fullDetail);
+    }
+
     /**
      * Gets the excludeFieldNames.
      *
@@ -852,7 +1011,34 @@ public String toString() {
         if (this.getObject() == null) {
             return this.getStyle().getNullText();
         }
+        appendFields();
+        return super.toString();
+    }
 
+    /**
+     * Appends the built {@code toString} to the given {@link Appendable}, instead of returning it as a String.
+     *
+     * @param <A> the type of the appendable.
+     * @param appendable  the appendable to append the {@code toString} to, not null
+     * @return the given appendable
+     * @throws IOException  if an I/O error occurs
+     * @since 3.13.0
+     */
+    @Override
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        Objects.requireNonNull(appendable, "appendable");
+        if (this.getObject() == null) {
+            appendable.append(this.getStyle().getNullText());
+            return appendable;
+        }
+        appendFields();
+        return super.appendTo(appendable);
+    }
+
+    /**
+     * Appends the fields of the object and of its superclasses up to {@link #getUpToClass()}.
+     */
+    private void appendFields() {
         validate();
 
         Class<?> clazz = this.getObject().getClass();
@@ -861,7 +1047,6 @@ public String toString() {
             clazz = clazz.getSuperclass();
             this.appendFieldsIn(clazz);
         }
-        return super.toString();
     }
 
     /**
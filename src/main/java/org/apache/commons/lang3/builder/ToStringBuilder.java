@@ -16,6 +16,7 @@
  */
 package org.apache.commons.lang3.builder;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.apache.commons.lang3.ObjectUtils;
@@ -1008,12 +1009,42 @@ public ToStringStyle getStyle() {
      */
     @Override
     public String toString() {
+        appendEnd();
+        return this.getStringBuffer().toString();
+    }
+
+    /**
+     * Appends the end of data indicator, or the style's {@code nullText} if the object is {@code null}.
+     */
+    private void appendEnd() {
         if (this.getObject() == null) {
             this.getStringBuffer().append(this.getStyle().getNullText());
         } else {
             style.appendEnd(this.getStringBuffer(), this.getObject());
         }
-        return this.getStringBuffer().toString();
+    }
+
+    /**
+     * Appends the built {@code toString} to the given {@link Appendable}, instead of returning it as a String.
+     *
+     * <p>This method appends the end of data indicator, and can only be called once, instead of {@link #toString()}.
+     * The contents of the {@link StringBuffer} are appended directly, without an intermediate String when the
+     * appendable is a {@link StringBuilder} or a {@link StringBuffer}.</p>
+     *
+     * <p>If the object is {@code null}, appends the style's {@code nullText}</p>
+     *
+     * @param <A> the type of the appendable.
+     * @param appendable  the appendable to append the {@code toString} to, not null
+     * @return the given appendable
+     * @throws IOException  if an I/O error occurs
+     * @since 3.13.0
+     */
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        Objects.requireNonNull(appendable, "appendable");
+        // Always append the end, which also unregisters the object from the style.
+        appendEnd();
+        appendable.append(this.getStringBuffer());
+        return appendable;
     }
 
     /**
@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A lock-free <em>semaphore</em> that provides a number of permits in a given time frame, like {@link TimedSemaphore},
+ * without a lock and without a timer thread.
+ *
+ * <p>
+ * The time is divided into consecutive periods, starting at the construction of the semaphore. At most
+ * {@link #getLimit()} permits are acquired in each period, all permits being released at the end of the period. The
+ * number of permits acquired in the current period is kept in an atomic counter, which is updated with compare-and-set
+ * operations, so that threads acquiring permits never block each other. The first thread acquiring permits in a new
+ * period replaces the counter with a new one, so that the permits of a period are restored without a timer task and
+ * nothing needs to be shut down.
+ * </p>
+ * <p>
+ * Permits are acquired without blocking with {@link #tryAcquire(int)}, by waiting at most a given time with
+ * {@link #tryAcquire(int, long, TimeUnit)}, by waiting as long as needed with {@link #acquire(int)}, or asynchronously
+ * with {@link #acquireAsync(int, ScheduledExecutorService)}. Waiting threads are parked until the next period, then try
+ * again. The semaphore is not fair: a waiting thread may be overtaken by a thread arriving in the next period.
+ * </p>
+ *
+ * <pre>
+ * AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(1, TimeUnit.SECONDS, 10);
+ * if (semaphore.tryAcquire(1)) {
+ *     performQuery();
+ * }
+ * </pre>
+ *
+ * <p>
+ * #ThreadSafe#
+ * </p>
+ *
+ * @see TimedSemaphore
+ * @since 3.13.0
+ */
+public class AtomicTimedSemaphore {
+
+    /**
+     * Constant for a value representing no limit. If the limit is set to a value less or equal this constant, the
+     * semaphore is effectively switched off.
+     */
+    public static final int NO_LIMIT = 0;
+
+    /**
+     * The permits acquired in a period.
+     */
+    private static final class Period {
+
+        /** The index of the period. */
+        final long index;
+
+        /** The number of permits acquired in the period. */
+        final AtomicInteger count;
+
+        Period(final long index, final int count) {
+            this.index = index;
+            this.count = new AtomicInteger(count);
+        }
+    }
+
+    /** Stores the period for this timed semaphore. */
+    private final long period;
+
+    /** The time unit for the period. */
+    private final TimeUnit unit;
+
+    /** The period in nanoseconds. */
+    private final long periodNanos;
+
+    /** The {@link #nanoTime()} at which the first period starts. */
+    private final long origin;
+
+    /** The limit. */
+    private volatile int limit;
+
+    /** The last period permits were acquired in. */
+    private final AtomicReference<Period> state = new AtomicReference<>(new Period(-1, 0));
+
+    /**
+     * Creates a new instance of {@link AtomicTimedSemaphore} and initializes it with the given time period and the
+     * limit.
+     *
+     * @param timePeriod the time period
+     * @param timeUnit the unit for the period
+     * @param limit the limit for the semaphore
+     * @throws IllegalArgumentException if the period is less or equals 0
+     */
+    public AtomicTimedSemaphore(final long timePeriod, final TimeUnit timeUnit, final int limit) {
+        Validate.inclusiveBetween(1, Long.MAX_VALUE, timePeriod, "Time period must be greater than 0!");
+        period = timePeriod;
+        unit = Objects.requireNonNull(timeUnit, "timeUnit");
+        periodNanos = timeUnit.toNanos(timePeriod);
+        origin = nanoTime();
+        this.limit = limit;
+    }
+
+    /**
+     * Acquires permits from this semaphore, waiting for the next periods while the limit for the current period has
+     * been reached.
+     *
+     * @param permits the number of permits to acquire
+     * @throws InterruptedException if the thread gets interrupted
+     * @throws IllegalArgumentException if the number of permits is less than 1 or greater than the limit
+     */
+    public void acquire(final int permits) throws InterruptedException {
+        checkPermits(permits);
+        while (true) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            final long now = nanoTime();
+            if (tryAcquire(permits, now)) {
+                return;
+            }
+            LockSupport.parkNanos(this, getNanosToNextPeriod(now));
+        }
+    }
+
+    /**
+     * Acquires permits from this semaphore asynchronously. If the limit for the current period has been reached, the
+     * permits are acquired in the next periods, by tasks scheduled with the given executor service.
+     *
+     * <p>
+     * Cancelling the returned future stops trying to acquire the permits.
+     * </p>
+     *
+     * @param permits the number of permits to acquire
+     * @param executorService the executor service scheduling the attempts to acquire the permits in the next periods
+     * @return a future completed when the permits are acquired, or exceptionally if the executor service rejects an
+     * attempt
+     * @throws NullPointerException if the executor service is null
+     * @throws IllegalArgumentException if the number of permits is less than 1 or greater than the limit
+     */
+    public CompletableFuture<Void> acquireAsync(final int permits, final ScheduledExecutorService executorService) {
+        Objects.requireNonNull(executorService, "executorService");
+        checkPermits(permits);
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        acquireAsync(permits, executorService, future);
+        return future;
+    }
+
+    /**
+     * Tries to acquire permits, then schedules another attempt at the start of the next period if needed.
+     *
+     * @param permits the number of permits to acquire
+     * @param executorService the executor service scheduling the next attempt
+     * @param future the future to complete when the permits are acquired
+     */
+    private void acquireAsync(final int permits, final ScheduledExecutorService executorService, final CompletableFuture<Void> future) {
+        if (future.isDone()) {
+            return;
+        }
+        final long now = nanoTime();
+        if (tryAcquire(permits, now)) {
+            future.complete(null);
+            return;
+        }
+        try {
+            executorService.schedule(() -> acquireAsync(permits, executorService, future), getNanosToNextPeriod(now), TimeUnit.NANOSECONDS);
+        } catch (final RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Checks the number of permits of an acquire operation that waits until the permits are acquired.
+     *
+     * @param permits the number of permits to acquire
+     * @throws IllegalArgumentException if the number of permits is less than 1 or greater than the limit
+     */
+    private void checkPermits(final int permits) {
+        Validate.isTrue(permits > 0, "Permits must be greater than 0: %d", permits);
+        final int currentLimit = limit;
+        Validate.isTrue(currentLimit <= NO_LIMIT || permits <= currentLimit, "Permits must not be greater than the limit %d: %d", currentLimit,
+            permits);
+    }
+
+    /**
+     * Returns the number of permits acquired in the current period.
+     *
+     * @return the current number of acquired permits
+     */
+    public int getAcquireCount() {
+        final Period current = state.get();
+        return current.index >= getPeriodIndex(nanoTime()) ? current.count.get() : 0;
+    }
+
+    /**
+     * Returns the number of permits that can still be acquired in the current period. There is no guarantee that a
+     * subsequent call to {@link #tryAcquire(int)} succeeds because in the meantime other threads may have acquired
+     * permits.
+     *
+     * @return the current number of available permits in the current period
+     */
+    public int getAvailablePermits() {
+        return getLimit() - getAcquireCount();
+    }
+
+    /**
+     * Returns the limit enforced by this semaphore. The limit determines how many permits can be acquired within a
+     * period.
+     *
+     * @return the limit
+     */
+    public final int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of nanoseconds from a time to the start of the next period.
+     *
+     * @param now the time, from {@link #nanoTime()}
+     * @return the number of nanoseconds to the next period
+     */
+    private long getNanosToNextPeriod(final long now) {
+        return periodNanos - (now - origin) % periodNanos;
+    }
+
+    /**
+     * Returns the time period. This is the time monitored by this semaphore.
+     *
+     * @return the time period
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    /**
+     * Returns the index of the period of a time.
+     *
+     * @param now the time, from {@link #nanoTime()}
+     * @return the index of the period
+     */
+    private long getPeriodIndex(final long now) {
+        return (now - origin) / periodNanos;
+    }
+
+    /**
+     * Returns the time unit. This is the unit used by {@link #getPeriod()}.
+     *
+     * @return the time unit
+     */
+    public TimeUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the current time in nanoseconds.
+     *
+     * @return the current time in nanoseconds
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Sets the limit. This is the number of permits that can be acquired within the time period specified. Setting the
+     * limit to a value &lt;= {@link #NO_LIMIT} will cause the limit to be disabled.
+     *
+     * @param limit the limit
+     */
+    public final void setLimit(final int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Tries to acquire permits from this semaphore. If the limit for the current period allows it, the permits are
+     * acquired and this method returns <strong>true</strong>. Otherwise, this method returns immediately with the
+     * result <strong>false</strong>.
+     *
+     * @param permits the number of permits to acquire
+     * @return <strong>true</strong> if the permits could be acquired; <strong>false</strong> otherwise
+     * @throws IllegalArgumentException if the number of permits is less than 1
+     */
+    public boolean tryAcquire(final int permits) {
+        Validate.isTrue(permits > 0, "Permits must be greater than 0: %d", permits);
+        return tryAcquire(permits, nanoTime());
+    }
+
+    /**
+     * Tries to acquire permits from this semaphore, waiting for the next periods at most the given time while the
+     * limit for the current period has been reached.
+     *
+     * @param permits the number of permits to acquire
+     * @param timeout the maximum time to wait
+     * @param timeUnit the unit of the timeout
+     * @return <strong>true</strong> if the permits could be acquired; <strong>false</strong> if the time elapsed
+     * @throws InterruptedException if the thread gets interrupted
+     * @throws IllegalArgumentException if the number of permits is less than 1
+     */
+    public boolean tryAcquire(final int permits, final long timeout, final TimeUnit timeUnit) throws InterruptedException {
+        Validate.isTrue(permits > 0, "Permits must be greater than 0: %d", permits);
+        final long deadline = nanoTime() + timeUnit.toNanos(timeout);
+        while (true) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            final long now = nanoTime();
+            if (tryAcquire(permits, now)) {
+                return true;
+            }
+            final long remaining = deadline - now;
+            if (remaining <= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(this, Math.min(remaining, getNanosToNextPeriod(now)));
+        }
+    }
+
+    /**
+     * Tries to acquire permits at a time.
+     *
+     * @param permits the number of permits to acquire
+     * @param now the time, from {@link #nanoTime()}
+     * @return whether the permits were acquired
+     */
+    private boolean tryAcquire(final int permits, final long now) {
+        final int currentLimit = limit;
+        final long index = getPeriodIndex(now);
+        while (true) {
+            final Period current = state.get();
+            // A thread may have seen a later period, the permits are then acquired in that period.
+            if (current.index >= index) {
+                final int count = current.count.get();
+                if (currentLimit > NO_LIMIT && (long) count + permits > currentLimit) {
+                    return false;
+                }
+                if (current.count.compareAndSet(count, (int) Math.min((long) count + permits, Integer.MAX_VALUE))) {
+                    return true;
+                }
+            } else {
+                if (currentLimit > NO_LIMIT && permits > currentLimit) {
+                    return false;
+                }
+                if (state.compareAndSet(current, new Period(index, permits))) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AtomicTimedSemaphore [period=" + period + " " + unit + ", limit=" + limit + ", acquireCount=" + getAcquireCount() + "]";
+    }
+}
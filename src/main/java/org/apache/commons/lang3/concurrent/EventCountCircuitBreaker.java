@@ -123,7 +123,9 @@
  * </p>
  * <ul>
  * <li>This implementation uses non-blocking algorithms to update the internal counter and
- * state. This should be pretty efficient if there is not too much contention.</li>
+ * state. This should be pretty efficient if there is not too much contention. For high
+ * event rates, {@link StripedEventCountCircuitBreaker} counts events without allocating
+ * and without contending on a single variable.</li>
  * <li>This implementation is not intended to operate as a high-precision timer in very
  * short check intervals. It is deliberately kept simple to avoid complex and
  * time-consuming state checks. It should work well in time intervals from a few seconds
@@ -16,24 +16,60 @@
  */
 package org.apache.commons.lang3.concurrent;
 
+import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.function.FailableFunction;
+
 /**
  * Definition of an interface for a wrapper around a calculation that takes a single parameter and returns a result. The
  * results for the calculation will be cached for future requests.
  *
  * <p>
- * This is not a fully functional cache, there is no way of limiting or removing results once they have been generated.
- * However, it is possible to get the implementation to regenerate the result for a given parameter, if an error was
- * thrown during the previous calculation, by setting the option during the construction of the class. If this is not
- * set the class will return the cached exception.
+ * Concurrent calls for the same parameter run the calculation once, the other callers wait for its result. It is
+ * possible to get the implementation to regenerate the result for a given parameter, if an error was thrown during the
+ * previous calculation, by setting the option during the construction of the class. If this is not set the class will
+ * return the cached exception.
+ * </p>
+ * <p>
+ * A Memoizer created with a constructor keeps all the results. A Memoizer created with a {@link Builder} can limit the
+ * number of results, evicting the results that were not used recently with the CLOCK algorithm, an approximation of LRU
+ * that doesn't lock or reorder anything when a result is used. Its results can expire a time after they were calculated
+ * or last used, and be recalculated in the background a time after they were calculated, the callers getting the
+ * previous result until the new one is ready. Expired results are removed when their parameter is requested again, or
+ * when they are evicted. The number of results can exceed the maximum size for a while, when a thread adds results
+ * while another one evicts. {@link #getStats()} gives the number of hits, misses, loads and evictions.
  * </p>
  * <p>
+ * {@link #computeAsync(Object)} returns the result as a {@link CompletableFuture} without blocking, the calculation
+ * running on the executor of the Memoizer. The results are shared with {@link #compute(Object)}.
+ * </p>
+ *
+ * <pre>
+ * Memoizer&lt;String, Config&gt; configs = new Memoizer.Builder&lt;String, Config&gt;()
+ *     .function(Config::load)
+ *     .maximumSize(10_000)
+ *     .expireAfterWrite(10, TimeUnit.MINUTES)
+ *     .refreshAfterWrite(1, TimeUnit.MINUTES)
+ *     .build();
+ * </pre>
+ * <p>
  * Thanks should go to Brian Goetz, Tim Peierls and the members of JCP JSR-166 Expert Group for coming up with the
  * original implementation of the class. It was also published within Java Concurrency in Practice as a sample.
  * </p>
@@ -45,9 +81,347 @@
  */
 public class Memoizer<I, O> implements Computable<I, O> {
 
-    private final ConcurrentMap<I, Future<O>> cache = new ConcurrentHashMap<>();
-    private final Function<? super I, ? extends Future<O>> mappingFunction;
+    /**
+     * A builder class for creating instances of {@link Memoizer} that limit or expire their results.
+     *
+     * <p>
+     * The calculation must be set with {@link #computable(Computable)} or {@link #function(Function)}. By default, the
+     * results are not limited, don't expire and are not refreshed, and failed calculations are cached.
+     * </p>
+     *
+     * @param <I> the type of the input to the calculation
+     * @param <O> the type of the output of the calculation
+     * @since 3.13.0
+     */
+    public static class Builder<I, O> implements org.apache.commons.lang3.builder.Builder<Memoizer<I, O>> {
+
+        /** The calculation. */
+        private FailableFunction<I, O, Exception> calculation;
+
+        /** Whether failed calculations are recalculated. */
+        private boolean recalculate;
+
+        /** The maximum number of results, negative for no limit. */
+        private long maximumSize = -1;
+
+        /** The time after which results expire after they were calculated, in nanoseconds, 0 for never. */
+        private long expireAfterWriteNanos;
+
+        /** The time after which results expire after they were last used, in nanoseconds, 0 for never. */
+        private long expireAfterAccessNanos;
+
+        /** The time after which results are recalculated after they were calculated, in nanoseconds, 0 for never. */
+        private long refreshAfterWriteNanos;
+
+        /** The executor of the background calculations. */
+        private Executor executor = ForkJoinPool.commonPool();
+
+        /**
+         * Creates a new {@link Memoizer} based on the properties set for this builder.
+         *
+         * @return the new {@link Memoizer}
+         * @throws NullPointerException if the calculation is not set
+         */
+        @Override
+        public Memoizer<I, O> build() {
+            return new Memoizer<>(this);
+        }
+
+        /**
+         * Sets the calculation.
+         *
+         * @param computable the computation whose results should be memorized
+         * @return a reference to this {@link Builder}
+         * @throws NullPointerException if the computation is null
+         */
+        public Builder<I, O> computable(final Computable<I, O> computable) {
+            Objects.requireNonNull(computable, "computable");
+            this.calculation = computable::compute;
+            return this;
+        }
+
+        /**
+         * Sets the executor of the background calculations and of the calculations started by
+         * {@link Memoizer#computeAsync(Object)}, {@link ForkJoinPool#commonPool()} by default.
+         *
+         * @param executor the executor
+         * @return a reference to this {@link Builder}
+         * @throws NullPointerException if the executor is null
+         */
+        public Builder<I, O> executor(final Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * Sets the time after which a result expires after it was last used. An expired result is calculated again
+         * when it is requested.
+         *
+         * @param duration the duration, greater than 0
+         * @param unit the unit of the duration
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not greater than 0
+         */
+        public Builder<I, O> expireAfterAccess(final long duration, final TimeUnit unit) {
+            this.expireAfterAccessNanos = toNanos(duration, unit);
+            return this;
+        }
+
+        /**
+         * Sets the time after which a result expires after it was calculated. An expired result is calculated again
+         * when it is requested.
+         *
+         * @param duration the duration, greater than 0
+         * @param unit the unit of the duration
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not greater than 0
+         */
+        public Builder<I, O> expireAfterWrite(final long duration, final TimeUnit unit) {
+            this.expireAfterWriteNanos = toNanos(duration, unit);
+            return this;
+        }
+
+        /**
+         * Sets the calculation.
+         *
+         * @param function the function whose results should be memorized
+         * @return a reference to this {@link Builder}
+         * @throws NullPointerException if the function is null
+         */
+        public Builder<I, O> function(final Function<I, O> function) {
+            Objects.requireNonNull(function, "function");
+            this.calculation = function::apply;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of results. When there are more, the results that were not used recently are
+         * evicted.
+         *
+         * @param maximumSize the maximum number of results, not negative
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the maximum size is negative
+         */
+        public Builder<I, O> maximumSize(final long maximumSize) {
+            Validate.isTrue(maximumSize >= 0, "maximumSize must not be negative: %d", maximumSize);
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets whether a calculation that failed is recalculated on subsequent calls, instead of returning the same
+         * cached exception.
+         *
+         * @param recalculate whether failed calculations are recalculated
+         * @return a reference to this {@link Builder}
+         */
+        public Builder<I, O> recalculate(final boolean recalculate) {
+            this.recalculate = recalculate;
+            return this;
+        }
+
+        /**
+         * Sets the time after which a result is recalculated in the background, by the {@link #executor(Executor)},
+         * when it is requested. The callers get the previous result until the new one is ready, and keep it if the
+         * calculation fails. A refresh time longer than the expiry times has no effect.
+         *
+         * @param duration the duration, greater than 0
+         * @param unit the unit of the duration
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not greater than 0
+         */
+        public Builder<I, O> refreshAfterWrite(final long duration, final TimeUnit unit) {
+            this.refreshAfterWriteNanos = toNanos(duration, unit);
+            return this;
+        }
+
+        /**
+         * Converts a positive duration to nanoseconds.
+         *
+         * @param duration the duration
+         * @param unit the unit of the duration
+         * @return the duration in nanoseconds
+         */
+        private static long toNanos(final long duration, final TimeUnit unit) {
+            final long nanos = unit.toNanos(duration);
+            Validate.isTrue(nanos > 0, "Duration must be greater than 0: %d %s", duration, unit);
+            return nanos;
+        }
+    }
+
+    /**
+     * Statistics of a {@link Memoizer}, from its creation to the call of {@link Memoizer#getStats()}.
+     *
+     * @since 3.13.0
+     */
+    public static final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long loadSuccessCount;
+        private final long loadFailureCount;
+        private final long totalLoadTime;
+        private final long evictionCount;
+
+        private Stats(final long hitCount, final long missCount, final long loadSuccessCount, final long loadFailureCount, final long totalLoadTime,
+            final long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadSuccessCount = loadSuccessCount;
+            this.loadFailureCount = loadFailureCount;
+            this.totalLoadTime = totalLoadTime;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * Gets the average time spent calculating a result (in nanoseconds).
+         *
+         * @return the average load time, 0 if there were no calculations
+         */
+        public double getAverageLoadPenalty() {
+            final long loadCount = loadSuccessCount + loadFailureCount;
+            return loadCount == 0 ? 0 : (double) totalLoadTime / loadCount;
+        }
+
+        /**
+         * Gets the number of results removed because they were evicted or expired.
+         *
+         * @return the number of evictions
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * Gets the number of requests that found a result, or a calculation in progress.
+         *
+         * @return the number of hits
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * Gets the ratio of requests that were hits.
+         *
+         * @return the hit rate, 1 if there were no requests
+         */
+        public double getHitRate() {
+            final long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1 : (double) hitCount / requestCount;
+        }
+
+        /**
+         * Gets the number of calculations that failed, including refreshes.
+         *
+         * @return the number of failed calculations
+         */
+        public long getLoadFailureCount() {
+            return loadFailureCount;
+        }
+
+        /**
+         * Gets the number of calculations that succeeded, including refreshes.
+         *
+         * @return the number of successful calculations
+         */
+        public long getLoadSuccessCount() {
+            return loadSuccessCount;
+        }
+
+        /**
+         * Gets the number of requests that started a calculation.
+         *
+         * @return the number of misses
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * Gets the total time spent calculating results (in nanoseconds).
+         *
+         * @return the total load time
+         */
+        public long getTotalLoadTime() {
+            return totalLoadTime;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats [hitCount=" + hitCount + ", missCount=" + missCount + ", loadSuccessCount=" + loadSuccessCount + ", loadFailureCount="
+                + loadFailureCount + ", totalLoadTime=" + totalLoadTime + ", evictionCount=" + evictionCount + "]";
+        }
+    }
+
+    /**
+     * A cached calculation, with the times it was calculated and last used.
+     *
+     * @param <I> the type of the input to the calculation
+     * @param <O> the type of the output of the calculation
+     */
+    private static final class Entry<I, O> {
+
+        /** The parameter of the calculation. */
+        final I key;
+
+        final CompletableFuture<O> future = new CompletableFuture<>();
+
+        /** The time the calculation ended, or started while it runs. */
+        volatile long writeTime;
+
+        /** The time the result was last used, only updated if results expire after access. */
+        volatile long accessTime;
+
+        /** Whether the result was used since it was last queued for eviction. */
+        volatile boolean referenced;
+
+        /** Whether the entry was queued for eviction. */
+        volatile boolean queued;
+
+        /** Whether a caller of {@link Memoizer#computeAsync(Object)} watches the calculation for a failure. */
+        volatile boolean watched;
+
+        /** Whether the result is being recalculated, null if results are not refreshed. */
+        final AtomicBoolean refreshing;
+
+        Entry(final I key, final long startTime, final boolean refreshable) {
+            this.key = key;
+            this.writeTime = startTime;
+            this.accessTime = startTime;
+            this.refreshing = refreshable ? new AtomicBoolean() : null;
+        }
+    }
+
+    private final ConcurrentMap<I, Entry<I, O>> cache = new ConcurrentHashMap<>();
+    private final Function<? super I, ? extends Entry<I, O>> mappingFunction;
+    private final Function<? super I, ? extends Entry<I, O>> asyncMappingFunction;
+    private final FailableFunction<I, O, Exception> calculation;
     private final boolean recalculate;
+    private final long maximumSize;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final long refreshAfterWriteNanos;
+    private final Executor executor;
+
+    /**
+     * The entries in the order they are examined for eviction, null if the results are not limited. Entries that are
+     * not cached any more are dropped when they are polled, or by a cleanup when they outnumber the cached ones.
+     */
+    private final Queue<Entry<I, O>> queue;
+
+    /** The number of entries in the queue. */
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    /** Held by the thread evicting results, other threads don't wait for it. */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
     /**
      * Constructs a Memoizer for the provided Computable calculation.
@@ -72,8 +446,7 @@ public Memoizer(final Computable<I, O> computable) {
      *        failed
      */
     public Memoizer(final Computable<I, O> computable, final boolean recalculate) {
-        this.recalculate = recalculate;
-        this.mappingFunction = k -> FutureTasks.run(() -> computable.compute(k));
+        this(new Builder<I, O>().computable(computable).recalculate(recalculate));
     }
 
     /**
@@ -101,8 +474,31 @@ public Memoizer(final Function<I, O> function) {
      * @since 2.13.0
      */
      public Memoizer(final Function<I, O> function, final boolean recalculate) {
-        this.recalculate = recalculate;
-        this.mappingFunction = k -> FutureTasks.run(() -> function.apply(k));
+        this(new Builder<I, O>().function(function).recalculate(recalculate));
+    }
+
+    /**
+     * Constructs a Memoizer from a builder.
+     *
+     * @param builder the builder
+     */
+    Memoizer(final Builder<I, O> builder) {
+        this.calculation = Objects.requireNonNull(builder.calculation, "calculation");
+        this.recalculate = builder.recalculate;
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.refreshAfterWriteNanos = builder.refreshAfterWriteNanos;
+        this.executor = builder.executor;
+        this.queue = maximumSize >= 0 ? new ConcurrentLinkedQueue<>() : null;
+        this.mappingFunction = k -> {
+            misses.increment();
+            return load(k);
+        };
+        this.asyncMappingFunction = k -> {
+            misses.increment();
+            return loadAsync(k);
+        };
     }
 
     /**
@@ -120,21 +516,273 @@ public Memoizer(final Function<I, O> function, final boolean recalculate) {
      */
     @Override
     public O compute(final I arg) throws InterruptedException {
+        requests.increment();
         while (true) {
-            final Future<O> future = cache.computeIfAbsent(arg, mappingFunction);
+            final Entry<I, O> entry = getEntry(arg, mappingFunction);
             try {
-                return future.get();
+                return entry.future.get();
             } catch (final CancellationException e) {
-                cache.remove(arg, future);
+                cache.remove(arg, entry);
             } catch (final ExecutionException e) {
                 if (recalculate) {
-                    cache.remove(arg, future);
+                    cache.remove(arg, entry);
                 }
                 throw launderException(e.getCause());
             }
         }
     }
 
+    /**
+     * Returns the result of the calculation as a future, starting the calculation on the executor of this Memoizer if
+     * it has not previously been calculated, and doesn't wait for it.
+     *
+     * <p>
+     * Concurrent callers for the same parameter get the same future, and the calculation runs once. Cancelling it
+     * cancels it for all of them, and removes it from the cache. A failed calculation is removed from the cache when it
+     * fails if the {@code recalculate} parameter in the constructor was set to {@code true}, and cached otherwise, like
+     * with {@link #compute(Object)}.
+     * </p>
+     *
+     * @param arg the argument for the calculation
+     * @return the future result of the calculation
+     * @since 3.13.0
+     */
+    public CompletableFuture<O> computeAsync(final I arg) {
+        requests.increment();
+        final Entry<I, O> entry = getEntry(arg, asyncMappingFunction);
+        if (!entry.watched) {
+            // The first caller watches the calculation, once it is in the cache.
+            entry.watched = true;
+            entry.future.whenComplete((result, failure) -> {
+                if (failure instanceof CancellationException || failure != null && recalculate) {
+                    cache.remove(arg, entry);
+                }
+            });
+        }
+        return entry.future;
+    }
+
+    /**
+     * Queues an entry for eviction, evicting results if there are more than the maximum size.
+     *
+     * @param entry the cached entry
+     */
+    private void enqueue(final Entry<I, O> entry) {
+        entry.queued = true;
+        queue.add(entry);
+        final int queued = queueSize.incrementAndGet();
+        final int size = cache.size();
+        if (size > maximumSize || queued > 2 * size + 16) {
+            evict();
+        }
+    }
+
+    /**
+     * Evicts results until there are no more than the maximum size, and drops the queued entries that are not cached
+     * any more if they outnumber the cached ones, unless another thread is already at it.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            if (queueSize.get() > 2 * cache.size() + 16) {
+                queue.removeIf(entry -> {
+                    if (isCached(entry)) {
+                        return false;
+                    }
+                    queueSize.decrementAndGet();
+                    return true;
+                });
+            }
+            while (cache.size() > maximumSize) {
+                final Entry<I, O> entry = queue.poll();
+                if (entry == null) {
+                    return;
+                }
+                queueSize.decrementAndGet();
+                if (!isCached(entry)) {
+                    continue;
+                }
+                if (entry.referenced && maximumSize > 0) {
+                    entry.referenced = false;
+                    queue.add(entry);
+                    queueSize.incrementAndGet();
+                } else if (cache.remove(entry.key, entry)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the cached calculation for a parameter, starting it if absent or expired.
+     *
+     * @param arg the argument for the calculation
+     * @param function starts the calculation
+     * @return the cached calculation
+     */
+    private Entry<I, O> getEntry(final I arg, final Function<? super I, ? extends Entry<I, O>> function) {
+        final boolean timed = expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0 || refreshAfterWriteNanos > 0;
+        while (true) {
+            final Entry<I, O> entry = cache.computeIfAbsent(arg, function);
+            final long now = timed ? nanoTime() : 0;
+            // A running calculation doesn't expire.
+            if (entry.future.isDone() && (expireAfterWriteNanos > 0 && now - entry.writeTime >= expireAfterWriteNanos
+                || expireAfterAccessNanos > 0 && now - entry.accessTime >= expireAfterAccessNanos)) {
+                if (cache.remove(arg, entry)) {
+                    evictions.increment();
+                }
+                continue;
+            }
+            // Writing the access time on every hit would be costly, it is precise to a 1024th of the expiry time.
+            if (expireAfterAccessNanos > 0 && now - entry.accessTime > expireAfterAccessNanos >> 10) {
+                entry.accessTime = now;
+            }
+            if (queue != null) {
+                if (!entry.queued) {
+                    // The first caller queues the entry, once the calculation is in the cache.
+                    enqueue(entry);
+                } else if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+            }
+            if (refreshAfterWriteNanos > 0 && now - entry.writeTime >= refreshAfterWriteNanos) {
+                refresh(arg, entry);
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Gets the statistics of this Memoizer.
+     *
+     * @return the statistics
+     * @since 3.13.0
+     */
+    public Stats getStats() {
+        final long missCount = misses.sum();
+        // Of two threads missing the same parameter at once, only one calculates the result, the other counts as a hit.
+        return new Stats(Math.max(0, requests.sum() - missCount), missCount, loadSuccesses.sum(), loadFailures.sum(), loadTime.sum(),
+            evictions.sum());
+    }
+
+    /**
+     * Runs the calculation for a parameter and completes the future of its entry.
+     *
+     * @param arg the argument for the calculation
+     * @param entry the entry of the calculation
+     */
+    private void calculate(final I arg, final Entry<I, O> entry) {
+        final long start = nanoTime();
+        O result = null;
+        Throwable failure = null;
+        try {
+            result = calculation.apply(arg);
+        } catch (final Exception | Error e) {
+            failure = e;
+        }
+        final long end = nanoTime();
+        loadTime.add(end - start);
+        entry.writeTime = end;
+        entry.accessTime = end;
+        if (failure == null) {
+            loadSuccesses.increment();
+            entry.future.complete(result);
+        } else {
+            loadFailures.increment();
+            entry.future.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Runs the calculation for a parameter in the calling thread.
+     *
+     * @param arg the argument for the calculation
+     * @return the calculation, done
+     */
+    private Entry<I, O> load(final I arg) {
+        final Entry<I, O> entry = new Entry<>(arg, 0, refreshAfterWriteNanos > 0);
+        calculate(arg, entry);
+        return entry;
+    }
+
+    /**
+     * Starts the calculation for a parameter on the executor.
+     *
+     * @param arg the argument for the calculation
+     * @return the calculation, running
+     */
+    private Entry<I, O> loadAsync(final I arg) {
+        final Entry<I, O> entry = new Entry<>(arg, nanoTime(), refreshAfterWriteNanos > 0);
+        try {
+            executor.execute(() -> calculate(arg, entry));
+        } catch (final RejectedExecutionException e) {
+            loadFailures.increment();
+            entry.future.completeExceptionally(e);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the current time in nanoseconds.
+     *
+     * @return the current time in nanoseconds
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Gets the number of entries queued for eviction, for tests.
+     *
+     * @return the size of the eviction queue
+     */
+    int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * Tests whether an entry is the cached one for its parameter.
+     *
+     * @param entry the entry
+     * @return whether the entry is cached
+     */
+    private boolean isCached(final Entry<I, O> entry) {
+        return cache.get(entry.key) == entry;
+    }
+
+    /**
+     * Recalculates a successful result in the background, unless it is already being recalculated. The result is
+     * replaced if the calculation succeeds and the result is still cached.
+     *
+     * @param arg the argument for the calculation
+     * @param entry the cached calculation
+     */
+    private void refresh(final I arg, final Entry<I, O> entry) {
+        // Failed results are not refreshed, they are recalculated or kept as they are.
+        if (!entry.future.isDone() || entry.future.isCompletedExceptionally() || !entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                final Entry<I, O> refreshed = load(arg);
+                refreshed.watched = true;
+                if (!refreshed.future.isCompletedExceptionally() && cache.replace(arg, entry, refreshed)) {
+                    if (queue != null) {
+                        enqueue(refreshed);
+                    }
+                    return;
+                }
+                entry.refreshing.set(false);
+            });
+        } catch (final RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
     /**
      * This method launders a Throwable to either a RuntimeException, Error or any other Exception wrapped in an
      * IllegalStateException.
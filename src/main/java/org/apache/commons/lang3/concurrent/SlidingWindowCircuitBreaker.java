@@ -0,0 +1,842 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A circuit breaker that opens on the rate of failed or slow calls in a sliding time window.
+ *
+ * <p>
+ * The application asks the circuit breaker for a permission with {@link #tryAcquirePermission()} before each call of
+ * the protected service, then reports the outcome and duration of the call with
+ * {@link #recordSuccess(long, TimeUnit)} or {@link #recordFailure(long, TimeUnit)}:
+ * </p>
+ *
+ * <pre>
+ * SlidingWindowCircuitBreaker breaker = new SlidingWindowCircuitBreaker.Builder()
+ *     .window(1, TimeUnit.MINUTES)
+ *     .failureRateThreshold(50)
+ *     .slowCallDuration(2, TimeUnit.SECONDS)
+ *     .slowCallRateThreshold(10)
+ *     .build();
+ * ...
+ * public Response handleRequest(Request request) {
+ *     if (!breaker.tryAcquirePermission()) {
+ *         return fallback(request);
+ *     }
+ *     final long start = System.nanoTime();
+ *     try {
+ *         final Response response = service.call(request);
+ *         breaker.recordSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+ *         return response;
+ *     } catch (Throwable t) {
+ *         // Every permitted call must be recorded, or a half-open circuit breaker waits for it.
+ *         breaker.recordFailure(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+ *         throw t;
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>
+ * The circuit breaker has three states:
+ * </p>
+ * <ul>
+ * <li><em>Closed</em>: all calls are permitted. The calls are counted in a sliding window of time buckets. When at least
+ * the minimum number of calls are counted in the window, and the percentage of failed calls reaches the failure rate
+ * threshold, or the percentage of calls at least as slow as the slow call duration reaches the slow call rate threshold,
+ * the circuit breaker opens. A slow call rate threshold of 10% opens the circuit breaker when the 90th percentile of the
+ * durations of the calls reaches the slow call duration.</li>
+ * <li><em>Open</em>: no calls are permitted, until the wait duration in open state elapses. The circuit breaker is then
+ * half-open.</li>
+ * <li><em>Half-open</em>: a number of probe calls are permitted. When they have all been recorded, the circuit breaker
+ * opens again if their failure rate or slow call rate reaches its threshold, and closes otherwise. If they are not all
+ * recorded within the maximum wait duration in half-open state, the circuit breaker opens again, and permits new probe
+ * calls after the wait duration in open state.</li>
+ * </ul>
+ * <p>
+ * A half-open circuit breaker is open for the {@link AbstractCircuitBreaker} methods, like {@link #isOpen()}, and
+ * {@link #isHalfOpen()} tells whether it is half-open. The state can be changed manually with {@link #open()} and
+ * {@link #close()}, and {@link java.beans.PropertyChangeListener} objects can be registered to be notified when it
+ * opens or closes.
+ * </p>
+ * <p>
+ * <em>Implementation notes:</em>
+ * </p>
+ * <ul>
+ * <li>The window is a ring of time buckets, each with a {@link LongAdder} per counter, so that recording a call doesn't
+ * allocate, except for a new bucket once per bucket time, and threads recording calls on different cores don't
+ * contend on a single variable. The window slides by buckets.</li>
+ * <li>The counts of the buckets of the window before the current one are summed once per bucket time, so that checking
+ * the thresholds after a call only reads the current bucket.</li>
+ * <li>The state transitions are not atomic with the counter updates; calls recorded during a transition may be counted
+ * in the state before or after it.</li>
+ * </ul>
+ *
+ * @see EventCountCircuitBreaker
+ * @since 3.13.0
+ */
+public class SlidingWindowCircuitBreaker extends AbstractCircuitBreaker<Integer> {
+
+    /**
+     * A builder class for creating instances of {@link SlidingWindowCircuitBreaker}.
+     *
+     * <p>
+     * The defaults are a window of 1 minute in 10 buckets, 100 minimum calls, a failure rate threshold of 50%, a slow
+     * call duration of 1 minute with a slow call rate threshold of 100%, a wait duration in open state of 1 minute,
+     * 10 permitted calls in half-open state, and a maximum wait duration in half-open state of 1 minute.
+     * </p>
+     */
+    public static class Builder implements org.apache.commons.lang3.builder.Builder<SlidingWindowCircuitBreaker> {
+
+        /** The window, in nanoseconds. */
+        private long windowNanos = TimeUnit.MINUTES.toNanos(1);
+
+        /** The number of buckets of the window. */
+        private int bucketCount = 10;
+
+        /** The minimum number of calls in the window. */
+        private int minimumCalls = 100;
+
+        /** The failure rate threshold, in percent. */
+        private double failureRateThreshold = 50;
+
+        /** The slow call duration, in nanoseconds. */
+        private long slowCallDurationNanos = TimeUnit.MINUTES.toNanos(1);
+
+        /** The slow call rate threshold, in percent. */
+        private double slowCallRateThreshold = 100;
+
+        /** The wait duration in open state, in nanoseconds. */
+        private long waitDurationInOpenStateNanos = TimeUnit.MINUTES.toNanos(1);
+
+        /** The number of permitted calls in half-open state. */
+        private int permittedCallsInHalfOpenState = 10;
+
+        /** The maximum wait duration in half-open state, in nanoseconds. */
+        private long maxWaitDurationInHalfOpenStateNanos = TimeUnit.MINUTES.toNanos(1);
+
+        /**
+         * Creates a new {@link SlidingWindowCircuitBreaker} based on the properties set for this builder.
+         *
+         * @return the new {@link SlidingWindowCircuitBreaker}
+         */
+        @Override
+        public SlidingWindowCircuitBreaker build() {
+            return new SlidingWindowCircuitBreaker(this);
+        }
+
+        /**
+         * Sets the number of buckets of the window. The window slides by a bucket at a time.
+         *
+         * @param bucketCount the number of buckets, between 1 and 1024
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the number of buckets is out of range
+         */
+        public Builder buckets(final int bucketCount) {
+            Validate.inclusiveBetween(1, 1024, bucketCount, "Bucket count must be between 1 and 1024: %d", bucketCount);
+            this.bucketCount = bucketCount;
+            return this;
+        }
+
+        /**
+         * Sets the failure rate threshold: the circuit breaker opens when the percentage of failed calls reaches it.
+         *
+         * @param percent the threshold, greater than 0 and at most 100
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the threshold is out of range
+         */
+        public Builder failureRateThreshold(final double percent) {
+            Validate.isTrue(percent > 0 && percent <= 100, "Failure rate threshold must be in (0, 100]: %s", percent);
+            this.failureRateThreshold = percent;
+            return this;
+        }
+
+        /**
+         * Sets the maximum duration the circuit breaker stays half-open waiting for the outcomes of the permitted calls,
+         * before it opens again. This keeps a probe call that is never recorded from leaving the circuit breaker
+         * half-open with no permitted calls.
+         *
+         * @param duration the duration, greater than 0
+         * @param unit the unit of the duration
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not greater than 0
+         */
+        public Builder maxWaitDurationInHalfOpenState(final long duration, final TimeUnit unit) {
+            this.maxWaitDurationInHalfOpenStateNanos = toNanos(duration, unit, "Maximum wait duration in half-open state");
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of calls in the window for the circuit breaker to open.
+         *
+         * @param minimumCalls the minimum number of calls, at least 1
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the minimum number of calls is less than 1
+         */
+        public Builder minimumCalls(final int minimumCalls) {
+            Validate.isTrue(minimumCalls > 0, "Minimum calls must be greater than 0: %d", minimumCalls);
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets the number of probe calls permitted in half-open state.
+         *
+         * @param permittedCalls the number of permitted calls, at least 1
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the number of permitted calls is less than 1
+         */
+        public Builder permittedCallsInHalfOpenState(final int permittedCalls) {
+            Validate.isTrue(permittedCalls > 0, "Permitted calls must be greater than 0: %d", permittedCalls);
+            this.permittedCallsInHalfOpenState = permittedCalls;
+            return this;
+        }
+
+        /**
+         * Sets the slow call duration: calls lasting at least this duration are slow.
+         *
+         * @param duration the duration, greater than 0
+         * @param unit the unit of the duration
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not greater than 0
+         */
+        public Builder slowCallDuration(final long duration, final TimeUnit unit) {
+            this.slowCallDurationNanos = toNanos(duration, unit, "Slow call duration");
+            return this;
+        }
+
+        /**
+         * Sets the slow call rate threshold: the circuit breaker opens when the percentage of slow calls reaches it.
+         *
+         * @param percent the threshold, greater than 0 and at most 100
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the threshold is out of range
+         */
+        public Builder slowCallRateThreshold(final double percent) {
+            Validate.isTrue(percent > 0 && percent <= 100, "Slow call rate threshold must be in (0, 100]: %s", percent);
+            this.slowCallRateThreshold = percent;
+            return this;
+        }
+
+        /**
+         * Sets the duration the circuit breaker stays open before it is half-open.
+         *
+         * @param duration the duration, greater than 0
+         * @param unit the unit of the duration
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not greater than 0
+         */
+        public Builder waitDurationInOpenState(final long duration, final TimeUnit unit) {
+            this.waitDurationInOpenStateNanos = toNanos(duration, unit, "Wait duration in open state");
+            return this;
+        }
+
+        /**
+         * Sets the duration of the sliding window.
+         *
+         * @param duration the duration, greater than 0
+         * @param unit the unit of the duration
+         * @return a reference to this {@link Builder}
+         * @throws IllegalArgumentException if the duration is not greater than 0
+         */
+        public Builder window(final long duration, final TimeUnit unit) {
+            this.windowNanos = toNanos(duration, unit, "Window");
+            return this;
+        }
+
+        /**
+         * Converts a positive duration to nanoseconds.
+         *
+         * @param duration the duration
+         * @param unit the unit of the duration
+         * @param name the name of the duration, for the exception message
+         * @return the duration in nanoseconds
+         */
+        private static long toNanos(final long duration, final TimeUnit unit, final String name) {
+            final long nanos = unit.toNanos(duration);
+            Validate.isTrue(nanos > 0, "%s must be greater than 0: %d %s", name, duration, unit);
+            return nanos;
+        }
+    }
+
+    /**
+     * The calls recorded in a bucket of time.
+     */
+    private static final class Bucket {
+
+        /** The index of the bucket, the time divided by the bucket time. */
+        final long index;
+
+        /** The number of calls. */
+        final LongAdder calls = new LongAdder();
+
+        /** The number of failed calls. */
+        final LongAdder failures = new LongAdder();
+
+        /** The number of slow calls. */
+        final LongAdder slowCalls = new LongAdder();
+
+        Bucket(final long index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * The state of the circuit breaker since a state transition.
+     */
+    private static final class Phase {
+
+        /** Whether the circuit breaker is closed, open or half-open. */
+        final Mode mode;
+
+        /** The time of the state transition. */
+        final long time;
+
+        /** The index of the bucket of the state transition. */
+        final long index;
+
+        /** The counts of the bucket of the state transition before it, not counted in closed state. */
+        final long callsBaseline;
+        final long failuresBaseline;
+        final long slowCallsBaseline;
+
+        /** The remaining permitted calls in half-open state. */
+        final AtomicInteger permits;
+
+        /** The counts of the calls recorded in half-open state. */
+        final AtomicInteger probeCalls = new AtomicInteger();
+        final AtomicInteger probeFailures = new AtomicInteger();
+        final AtomicInteger probeSlowCalls = new AtomicInteger();
+
+        Phase(final Mode mode, final long time, final long index, final Bucket bucket, final int permits) {
+            this.mode = mode;
+            this.time = time;
+            this.index = index;
+            final boolean current = bucket != null && bucket.index == index;
+            this.callsBaseline = current ? bucket.calls.sum() : 0;
+            this.failuresBaseline = current ? bucket.failures.sum() : 0;
+            this.slowCallsBaseline = current ? bucket.slowCalls.sum() : 0;
+            this.permits = new AtomicInteger(permits);
+        }
+    }
+
+    /**
+     * The counts of the buckets of the window before its last bucket, summed once for all the checks in the last
+     * bucket.
+     */
+    private static final class PriorCounts {
+
+        /** The index of the last bucket of the window. */
+        final long index;
+
+        /** The phase the counts start with. */
+        final Phase phase;
+
+        final long calls;
+        final long failures;
+        final long slowCalls;
+
+        PriorCounts(final long index, final Phase phase, final long calls, final long failures, final long slowCalls) {
+            this.index = index;
+            this.phase = phase;
+            this.calls = calls;
+            this.failures = failures;
+            this.slowCalls = slowCalls;
+        }
+    }
+
+    /**
+     * The states of the circuit breaker.
+     */
+    private enum Mode {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /** The window, in nanoseconds. */
+    private final long windowNanos;
+
+    /** The time of a bucket, in nanoseconds. */
+    private final long bucketNanos;
+
+    /** The number of buckets of the window. */
+    private final int bucketCount;
+
+    /** The minimum number of calls in the window. */
+    private final int minimumCalls;
+
+    /** The failure rate threshold, in percent. */
+    private final double failureRateThreshold;
+
+    /** The slow call duration, in nanoseconds. */
+    private final long slowCallDurationNanos;
+
+    /** The slow call rate threshold, in percent. */
+    private final double slowCallRateThreshold;
+
+    /** The wait duration in open state, in nanoseconds. */
+    private final long waitDurationInOpenStateNanos;
+
+    /** The number of permitted calls in half-open state. */
+    private final int permittedCallsInHalfOpenState;
+
+    /** The maximum wait duration in half-open state, in nanoseconds. */
+    private final long maxWaitDurationInHalfOpenStateNanos;
+
+    /** The ring of buckets, indexed by the bucket index modulo its length. */
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    /** The state since the last state transition. */
+    private final AtomicReference<Phase> phase;
+
+    /** The last prior counts, reused until the next bucket or state transition. */
+    private volatile PriorCounts priorCounts;
+
+    /**
+     * Creates a new instance of {@link SlidingWindowCircuitBreaker} from a builder.
+     *
+     * @param builder the builder
+     */
+    SlidingWindowCircuitBreaker(final Builder builder) {
+        this.windowNanos = builder.windowNanos;
+        this.bucketCount = builder.bucketCount;
+        this.bucketNanos = Math.max(1, builder.windowNanos / builder.bucketCount);
+        this.minimumCalls = builder.minimumCalls;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallDurationNanos = builder.slowCallDurationNanos;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.waitDurationInOpenStateNanos = builder.waitDurationInOpenStateNanos;
+        this.permittedCallsInHalfOpenState = builder.permittedCallsInHalfOpenState;
+        this.maxWaitDurationInHalfOpenStateNanos = builder.maxWaitDurationInHalfOpenStateNanos;
+        // One more bucket than the window, which is replaced while the others are counted.
+        this.buckets = new AtomicReferenceArray<>(bucketCount + 1);
+        this.phase = new AtomicReference<>(new Phase(Mode.CLOSED, 0, Long.MIN_VALUE, null, 0));
+    }
+
+    /**
+     * Adds calls to the bucket of a time.
+     *
+     * @param index the index of the bucket
+     * @param calls the number of calls
+     * @param failures the number of failed calls
+     * @param slowCalls the number of slow calls
+     */
+    private void add(final long index, final int calls, final int failures, final int slowCalls) {
+        final int slot = slot(index);
+        Bucket bucket;
+        while (true) {
+            bucket = buckets.get(slot);
+            if (bucket != null && bucket.index >= index) {
+                if (bucket.index > index) {
+                    // The bucket is older than the ring, and not counted any more.
+                    return;
+                }
+                break;
+            }
+            final Bucket next = new Bucket(index);
+            if (buckets.compareAndSet(slot, bucket, next)) {
+                bucket = next;
+                break;
+            }
+        }
+        bucket.calls.add(calls);
+        if (failures != 0) {
+            bucket.failures.add(failures);
+        }
+        if (slowCalls != 0) {
+            bucket.slowCalls.add(slowCalls);
+        }
+    }
+
+    /**
+     * {@inheritDoc} An open circuit breaker becomes half-open when the wait duration in open state has elapsed, and a
+     * half-open one opens again when the maximum wait duration in half-open state has elapsed.
+     */
+    @Override
+    public boolean checkState() {
+        final Phase current = phase.get();
+        final long time = nanoTime();
+        if (current.mode == Mode.OPEN && time - current.time >= waitDurationInOpenStateNanos) {
+            transition(current, Mode.HALF_OPEN, time);
+        } else if (current.mode == Mode.HALF_OPEN && time - current.time >= maxWaitDurationInHalfOpenStateNanos) {
+            transition(current, Mode.OPEN, time);
+        }
+        return phase.get().mode == Mode.CLOSED;
+    }
+
+    /**
+     * {@inheritDoc} The calls recorded before are not counted any more.
+     */
+    @Override
+    public void close() {
+        super.close();
+        phase.set(newPhase(Mode.CLOSED, nanoTime()));
+    }
+
+    /**
+     * Gets the percentage of failed calls in the current window of a closed circuit breaker.
+     *
+     * @return the failure rate in percent, or -1 if fewer than the minimum number of calls were recorded
+     */
+    public double getFailureRate() {
+        final long[] counts = getWindowCounts();
+        return counts[0] < minimumCalls ? -1 : 100.0 * counts[1] / counts[0];
+    }
+
+    /**
+     * Gets the failure rate threshold.
+     *
+     * @return the failure rate threshold, in percent
+     */
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * Gets the maximum wait duration in half-open state (in nanoseconds).
+     *
+     * @return the maximum wait duration in half-open state
+     */
+    public long getMaxWaitDurationInHalfOpenState() {
+        return maxWaitDurationInHalfOpenStateNanos;
+    }
+
+    /**
+     * Gets the minimum number of calls in the window for the circuit breaker to open.
+     *
+     * @return the minimum number of calls
+     */
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    /**
+     * Gets the number of probe calls permitted in half-open state.
+     *
+     * @return the number of permitted calls
+     */
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    /**
+     * Gets the slow call duration (in nanoseconds).
+     *
+     * @return the slow call duration
+     */
+    public long getSlowCallDuration() {
+        return slowCallDurationNanos;
+    }
+
+    /**
+     * Gets the percentage of slow calls in the current window of a closed circuit breaker.
+     *
+     * @return the slow call rate in percent, or -1 if fewer than the minimum number of calls were recorded
+     */
+    public double getSlowCallRate() {
+        final long[] counts = getWindowCounts();
+        return counts[0] < minimumCalls ? -1 : 100.0 * counts[2] / counts[0];
+    }
+
+    /**
+     * Gets the slow call rate threshold.
+     *
+     * @return the slow call rate threshold, in percent
+     */
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    /**
+     * Gets the wait duration in open state (in nanoseconds).
+     *
+     * @return the wait duration in open state
+     */
+    public long getWaitDurationInOpenState() {
+        return waitDurationInOpenStateNanos;
+    }
+
+    /**
+     * Gets the window (in nanoseconds).
+     *
+     * @return the window
+     */
+    public long getWindow() {
+        return windowNanos;
+    }
+
+    /**
+     * Gets the counts of the current window, for the getters.
+     *
+     * @return the numbers of calls, failed calls and slow calls
+     */
+    private long[] getWindowCounts() {
+        final Phase current = phase.get();
+        final long[] counts = new long[3];
+        if (current.mode == Mode.CLOSED) {
+            final long index = Math.floorDiv(nanoTime(), bucketNanos);
+            sum(Math.max(index - bucketCount + 1, current.index), index, current, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * {@inheritDoc} Records failed calls, without a duration.
+     */
+    @Override
+    public boolean incrementAndCheckState(final Integer increment) {
+        return record(increment, increment, 0);
+    }
+
+    /**
+     * Tests whether this circuit breaker is half-open: it is open for {@link #isOpen()}, but permits a number of probe
+     * calls.
+     *
+     * @return whether this circuit breaker is half-open
+     */
+    public boolean isHalfOpen() {
+        return phase.get().mode == Mode.HALF_OPEN;
+    }
+
+    /**
+     * Returns the current time in nanoseconds.
+     *
+     * @return the current time in nanoseconds
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Creates the phase of a state transition.
+     *
+     * @param mode the new state
+     * @param time the time of the transition
+     * @return the new phase
+     */
+    private Phase newPhase(final Mode mode, final long time) {
+        final long index = Math.floorDiv(time, bucketNanos);
+        return new Phase(mode, time, index, buckets.get(slot(index)), permittedCallsInHalfOpenState);
+    }
+
+    /**
+     * {@inheritDoc} The circuit breaker becomes half-open when the wait duration in open state has elapsed.
+     */
+    @Override
+    public void open() {
+        super.open();
+        phase.set(newPhase(Mode.OPEN, nanoTime()));
+    }
+
+    /**
+     * Records calls and checks the thresholds.
+     *
+     * @param calls the number of calls
+     * @param failures the number of failed calls
+     * @param slowCalls the number of slow calls
+     * @return whether the circuit breaker is now closed
+     */
+    private boolean record(final int calls, final int failures, final int slowCalls) {
+        final Phase current = phase.get();
+        switch (current.mode) {
+        case CLOSED: {
+            final long time = nanoTime();
+            final long index = Math.floorDiv(time, bucketNanos);
+            add(index, calls, failures, slowCalls);
+            PriorCounts prior = priorCounts;
+            if (prior == null || prior.index != index || prior.phase != current) {
+                final long[] counts = new long[3];
+                sum(Math.max(index - bucketCount + 1, current.index), index - 1, current, counts);
+                prior = new PriorCounts(index, current, counts[0], counts[1], counts[2]);
+                priorCounts = prior;
+            }
+            final long[] counts = {prior.calls, prior.failures, prior.slowCalls};
+            final Bucket bucket = buckets.get(slot(index));
+            if (bucket != null && bucket.index == index) {
+                add(bucket, current, counts);
+            }
+            if (counts[0] >= minimumCalls && isOverThreshold(counts[0], counts[1], counts[2])) {
+                transition(current, Mode.OPEN, time);
+                return false;
+            }
+            return true;
+        }
+        case HALF_OPEN: {
+            if (failures != 0) {
+                current.probeFailures.addAndGet(failures);
+            }
+            if (slowCalls != 0) {
+                current.probeSlowCalls.addAndGet(slowCalls);
+            }
+            final int after = current.probeCalls.addAndGet(calls);
+            if (after >= permittedCallsInHalfOpenState && after - calls < permittedCallsInHalfOpenState) {
+                final boolean reopen = isOverThreshold(after, current.probeFailures.get(), current.probeSlowCalls.get());
+                transition(current, reopen ? Mode.OPEN : Mode.CLOSED, nanoTime());
+                return !reopen;
+            }
+            return false;
+        }
+        default:
+            // Calls permitted before the circuit breaker opened.
+            return false;
+        }
+    }
+
+    /**
+     * Records a failed call.
+     *
+     * @param duration the duration of the call
+     * @param unit the unit of the duration
+     * @return whether the circuit breaker is now closed
+     */
+    public boolean recordFailure(final long duration, final TimeUnit unit) {
+        return record(1, 1, unit.toNanos(duration) >= slowCallDurationNanos ? 1 : 0);
+    }
+
+    /**
+     * Records a successful call.
+     *
+     * @param duration the duration of the call
+     * @param unit the unit of the duration
+     * @return whether the circuit breaker is now closed
+     */
+    public boolean recordSuccess(final long duration, final TimeUnit unit) {
+        return record(1, 0, unit.toNanos(duration) >= slowCallDurationNanos ? 1 : 0);
+    }
+
+    /**
+     * Tests whether counts reach the failure rate threshold or the slow call rate threshold.
+     *
+     * @param calls the number of calls, greater than 0
+     * @param failures the number of failed calls
+     * @param slowCalls the number of slow calls
+     * @return whether a threshold is reached
+     */
+    private boolean isOverThreshold(final long calls, final long failures, final long slowCalls) {
+        return failures * 100.0 >= failureRateThreshold * calls || slowCalls * 100.0 >= slowCallRateThreshold * calls;
+    }
+
+    /**
+     * Computes the slot of a bucket in the ring.
+     *
+     * @param index the index of the bucket
+     * @return the slot of the bucket
+     */
+    private int slot(final long index) {
+        return (int) Math.floorMod(index, (long) buckets.length());
+    }
+
+    /**
+     * Adds the counts of a range of buckets, since a state transition.
+     *
+     * @param from the index of the first bucket
+     * @param to the index of the last bucket, inclusive
+     * @param since the phase of the state transition
+     * @param counts the numbers of calls, failed calls and slow calls to add to
+     */
+    private void sum(final long from, final long to, final Phase since, final long[] counts) {
+        for (long i = from; i <= to; i++) {
+            final Bucket bucket = buckets.get(slot(i));
+            if (bucket != null && bucket.index == i) {
+                add(bucket, since, counts);
+            }
+        }
+    }
+
+    /**
+     * Adds the counts of a bucket, since a state transition.
+     *
+     * @param bucket the bucket
+     * @param since the phase of the state transition
+     * @param counts the numbers of calls, failed calls and slow calls to add to
+     */
+    private static void add(final Bucket bucket, final Phase since, final long[] counts) {
+        final boolean first = bucket.index == since.index;
+        counts[0] += bucket.calls.sum() - (first ? since.callsBaseline : 0);
+        counts[1] += bucket.failures.sum() - (first ? since.failuresBaseline : 0);
+        counts[2] += bucket.slowCalls.sum() - (first ? since.slowCallsBaseline : 0);
+    }
+
+    /**
+     * Changes the state from a phase, unless another thread changed it first.
+     *
+     * @param from the phase to change
+     * @param mode the new state
+     * @param time the time of the transition
+     */
+    private void transition(final Phase from, final Mode mode, final long time) {
+        if (phase.compareAndSet(from, newPhase(mode, time))) {
+            changeState(mode == Mode.CLOSED ? State.CLOSED : State.OPEN);
+        }
+    }
+
+    /**
+     * Tries to get the permission for a call. A closed circuit breaker permits all calls, an open one none, and a
+     * half-open one the permitted calls in half-open state, until the maximum wait duration in half-open state.
+     *
+     * @return whether the call is permitted
+     */
+    public boolean tryAcquirePermission() {
+        final Phase current = phase.get();
+        switch (current.mode) {
+        case CLOSED:
+            return true;
+        case OPEN: {
+            final long time = nanoTime();
+            if (time - current.time < waitDurationInOpenStateNanos) {
+                return false;
+            }
+            transition(current, Mode.HALF_OPEN, time);
+            final Phase next = phase.get();
+            return next.mode == Mode.CLOSED || next.mode == Mode.HALF_OPEN && acquireProbe(next);
+        }
+        default: {
+            final long time = nanoTime();
+            if (time - current.time >= maxWaitDurationInHalfOpenStateNanos) {
+                // The outcomes of the probe calls were not all recorded in time, start a new round.
+                transition(current, Mode.OPEN, time);
+                return false;
+            }
+            return acquireProbe(current);
+        }
+        }
+    }
+
+    /**
+     * Tries to acquire the permission for a probe call in half-open state.
+     *
+     * @param current the half-open phase
+     * @return whether the call is permitted
+     */
+    private static boolean acquireProbe(final Phase current) {
+        while (true) {
+            final int permits = current.permits.get();
+            if (permits <= 0) {
+                return false;
+            }
+            if (current.permits.compareAndSet(permits, permits - 1)) {
+                return true;
+            }
+        }
+    }
+}
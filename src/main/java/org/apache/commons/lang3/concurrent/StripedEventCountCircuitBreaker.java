@@ -0,0 +1,420 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A circuit breaker that counts specific events, like {@link EventCountCircuitBreaker}, for high event rates.
+ *
+ * <p>
+ * The thresholds and intervals have the same meaning as for an {@link EventCountCircuitBreaker}: the circuit breaker
+ * opens when more events than the opening threshold are received in the opening interval, and closes again when, an
+ * open circuit breaker having been open for at least the closing interval, fewer events than the closing threshold are
+ * received in the closing interval.
+ * </p>
+ * <p>
+ * <em>Implementation notes:</em>
+ * </p>
+ * <ul>
+ * <li>The events are counted in a ring of time buckets, each a fraction of the shorter interval, with a
+ * {@link LongAdder} per bucket. Incrementing the counter doesn't allocate, except for a new bucket once per bucket
+ * time, and threads incrementing the counter on different cores don't contend on a single variable.</li>
+ * <li>The intervals slide by buckets, instead of starting anew when they end: the events counted are those of the
+ * buckets of the last interval, since the last state transition. So the counts are precise to one bucket, a tenth of
+ * the shorter interval if the intervals are not too different.</li>
+ * <li>Like for {@link EventCountCircuitBreaker}, the state transitions are not atomic with the counter updates, so
+ * there may be some delay or spurious transitions in very short intervals.</li>
+ * </ul>
+ *
+ * @see EventCountCircuitBreaker
+ * @since 3.13.0
+ */
+public class StripedEventCountCircuitBreaker extends AbstractCircuitBreaker<Integer> {
+
+    /** The number of buckets in the shorter interval. */
+    private static final int BUCKETS_PER_INTERVAL = 10;
+
+    /** The maximum number of buckets in the ring, when the intervals are very different. */
+    private static final int MAX_BUCKETS = 1024;
+
+    /**
+     * The events received in a bucket of time.
+     */
+    private static final class Bucket {
+
+        /** The index of the bucket, the time divided by the bucket time. */
+        final long index;
+
+        /** The number of events received. */
+        final LongAdder count = new LongAdder();
+
+        Bucket(final long index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * The start of the intervals counted since the last state transition.
+     */
+    private static final class IntervalStart {
+
+        /** The time of the state transition. */
+        final long time;
+
+        /** The index of the bucket of the state transition. */
+        final long index;
+
+        /** The events received in the bucket of the state transition before it, not counted. */
+        final long baseline;
+
+        IntervalStart(final long time, final long index, final long baseline) {
+            this.time = time;
+            this.index = index;
+            this.baseline = baseline;
+        }
+    }
+
+    /**
+     * The events received in the buckets of an interval before its last bucket, counted once for all the checks in the
+     * last bucket.
+     */
+    private static final class PriorCount {
+
+        /** The index of the last bucket of the interval. */
+        final long index;
+
+        /** The number of buckets of the interval. */
+        final int intervalBuckets;
+
+        /** The start of the intervals. */
+        final IntervalStart start;
+
+        /** The number of events. */
+        final long count;
+
+        PriorCount(final long index, final int intervalBuckets, final IntervalStart start, final long count) {
+            this.index = index;
+            this.intervalBuckets = intervalBuckets;
+            this.start = start;
+            this.count = count;
+        }
+    }
+
+    /** The threshold for opening the circuit breaker. */
+    private final int openingThreshold;
+
+    /** The time interval for opening the circuit breaker. */
+    private final long openingInterval;
+
+    /** The threshold for closing the circuit breaker. */
+    private final int closingThreshold;
+
+    /** The time interval for closing the circuit breaker. */
+    private final long closingInterval;
+
+    /** The time of a bucket, in nanoseconds. */
+    private final long bucketNanos;
+
+    /** The number of buckets in the opening interval. */
+    private final int openingBuckets;
+
+    /** The number of buckets in the closing interval. */
+    private final int closingBuckets;
+
+    /** The ring of buckets, indexed by the bucket index modulo its length. */
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    /** The start of the intervals, changed by state transitions. */
+    private volatile IntervalStart intervalStart = new IntervalStart(0, Long.MIN_VALUE, 0);
+
+    /** The last prior count, reused until the next bucket or state transition. */
+    private volatile PriorCount priorCount;
+
+    /**
+     * Creates a new instance of {@link StripedEventCountCircuitBreaker} and initializes all properties for opening and
+     * closing it based on threshold values for events occurring in specific intervals.
+     *
+     * @param openingThreshold the threshold for opening the circuit breaker; if this number of events is received in
+     * the time span determined by the opening interval, the circuit breaker is opened
+     * @param openingInterval the interval for opening the circuit breaker
+     * @param openingUnit the {@link TimeUnit} defining the opening interval
+     * @param closingThreshold the threshold for closing the circuit breaker; if the number of events received in the
+     * time span determined by the closing interval goes below this threshold, the circuit breaker is closed again
+     * @param closingInterval the interval for closing the circuit breaker
+     * @param closingUnit the {@link TimeUnit} defining the closing interval
+     */
+    public StripedEventCountCircuitBreaker(final int openingThreshold, final long openingInterval, final TimeUnit openingUnit,
+        final int closingThreshold, final long closingInterval, final TimeUnit closingUnit) {
+        this.openingThreshold = openingThreshold;
+        this.openingInterval = openingUnit.toNanos(openingInterval);
+        this.closingThreshold = closingThreshold;
+        this.closingInterval = closingUnit.toNanos(closingInterval);
+        final long longer = Math.max(this.openingInterval, this.closingInterval);
+        this.bucketNanos = Math.max(Math.max(1, Math.min(this.openingInterval, this.closingInterval) / BUCKETS_PER_INTERVAL),
+            (longer + MAX_BUCKETS - 2) / (MAX_BUCKETS - 1));
+        this.openingBuckets = (int) Math.max(1, this.openingInterval / bucketNanos);
+        this.closingBuckets = (int) Math.max(1, this.closingInterval / bucketNanos);
+        // One more bucket than the longer interval, which is replaced while the others are counted.
+        this.buckets = new AtomicReferenceArray<>(Math.max(openingBuckets, closingBuckets) + 1);
+    }
+
+    /**
+     * Creates a new instance of {@link StripedEventCountCircuitBreaker} with the same interval for opening and closing
+     * checks.
+     *
+     * @param openingThreshold the threshold for opening the circuit breaker; if this number of events is received in
+     * the time span determined by the check interval, the circuit breaker is opened
+     * @param checkInterval the check interval for opening or closing the circuit breaker
+     * @param checkUnit the {@link TimeUnit} defining the check interval
+     * @param closingThreshold the threshold for closing the circuit breaker; if the number of events received in the
+     * time span determined by the check interval goes below this threshold, the circuit breaker is closed again
+     */
+    public StripedEventCountCircuitBreaker(final int openingThreshold, final long checkInterval, final TimeUnit checkUnit,
+        final int closingThreshold) {
+        this(openingThreshold, checkInterval, checkUnit, closingThreshold, checkInterval, checkUnit);
+    }
+
+    /**
+     * Creates a new instance of {@link StripedEventCountCircuitBreaker} which uses the same parameters for opening and
+     * closing checks.
+     *
+     * @param threshold the threshold for changing the status of the circuit breaker; if the number of events received
+     * in a check interval is greater than this value, the circuit breaker is opened; if it is lower than this value, it
+     * is closed again
+     * @param checkInterval the check interval for opening or closing the circuit breaker
+     * @param checkUnit the {@link TimeUnit} defining the check interval
+     */
+    public StripedEventCountCircuitBreaker(final int threshold, final long checkInterval, final TimeUnit checkUnit) {
+        this(threshold, checkInterval, checkUnit, threshold);
+    }
+
+    /**
+     * Adds events to the bucket of a time.
+     *
+     * @param index the index of the bucket
+     * @param increment the number of events
+     */
+    private void add(final long index, final int increment) {
+        final int slot = slot(index);
+        while (true) {
+            final Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.index >= index) {
+                if (bucket.index == index) {
+                    bucket.count.add(increment);
+                }
+                // Otherwise the bucket is older than the ring, and not counted any more.
+                return;
+            }
+            final Bucket next = new Bucket(index);
+            next.count.add(increment);
+            if (buckets.compareAndSet(slot, bucket, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc} This implementation checks the internal event counter against the threshold values and the check
+     * intervals. This may cause a state change of this circuit breaker.
+     */
+    @Override
+    public boolean checkState() {
+        return performStateCheck(0);
+    }
+
+    /**
+     * {@inheritDoc} A new interval is started. If too many events are received in this interval, the circuit breaker
+     * changes again to state open. If this circuit breaker is already closed, this method has no effect, except that a
+     * new interval is started.
+     */
+    @Override
+    public void close() {
+        super.close();
+        startInterval(nanoTime());
+    }
+
+    /**
+     * Counts the events received in an interval ending with a bucket, since the last state transition.
+     *
+     * @param index the index of the last bucket of the interval
+     * @param intervalBuckets the number of buckets of the interval
+     * @param start the start of the intervals
+     * @return the number of events
+     */
+    private long count(final long index, final int intervalBuckets, final IntervalStart start) {
+        PriorCount prior = priorCount;
+        if (prior == null || prior.index != index || prior.intervalBuckets != intervalBuckets || prior.start != start) {
+            prior = new PriorCount(index, intervalBuckets, start, countRange(Math.max(index - intervalBuckets + 1, start.index), index - 1, start));
+            priorCount = prior;
+        }
+        return prior.count + countRange(index, index, start);
+    }
+
+    /**
+     * Counts the events received in a range of buckets, since the last state transition.
+     *
+     * @param from the index of the first bucket
+     * @param to the index of the last bucket, inclusive
+     * @param start the start of the intervals
+     * @return the number of events
+     */
+    private long countRange(final long from, final long to, final IntervalStart start) {
+        long count = 0;
+        for (long i = from; i <= to; i++) {
+            final Bucket bucket = buckets.get(slot(i));
+            if (bucket != null && bucket.index == i) {
+                count += bucket.count.sum();
+                if (i == start.index) {
+                    count -= start.baseline;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the interval (in nanoseconds) for checking for the closing threshold.
+     *
+     * @return the closing check interval
+     */
+    public long getClosingInterval() {
+        return closingInterval;
+    }
+
+    /**
+     * Returns the threshold value for closing the circuit breaker. If the number of events received in the time span
+     * determined by the closing interval goes below this threshold, the circuit breaker is closed again.
+     *
+     * @return the closing threshold
+     */
+    public int getClosingThreshold() {
+        return closingThreshold;
+    }
+
+    /**
+     * Returns the interval (in nanoseconds) for checking for the opening threshold.
+     *
+     * @return the opening check interval
+     */
+    public long getOpeningInterval() {
+        return openingInterval;
+    }
+
+    /**
+     * Returns the threshold value for opening the circuit breaker. If this number of events is received in the time
+     * span determined by the opening interval, the circuit breaker is opened.
+     *
+     * @return the opening threshold
+     */
+    public int getOpeningThreshold() {
+        return openingThreshold;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean incrementAndCheckState(final Integer increment) {
+        return performStateCheck(increment);
+    }
+
+    /**
+     * Increments the monitored value by <strong>1</strong> and performs a check of the current state of this circuit
+     * breaker. This method works like {@link #checkState()}, but the monitored value is incremented before the state
+     * check is performed.
+     *
+     * @return <strong>true</strong> if the circuit breaker is now closed; <strong>false</strong> otherwise
+     */
+    public boolean incrementAndCheckState() {
+        return incrementAndCheckState(1);
+    }
+
+    /**
+     * Returns the current time in nanoseconds. This method is used to obtain the current time. This is needed to
+     * calculate the check intervals correctly.
+     *
+     * @return the current time in nanoseconds
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc} This circuit breaker may close itself again if the number of events received during the closing
+     * interval goes below the closing threshold. If this circuit breaker is already open, this method has no effect,
+     * except that a new interval is started.
+     */
+    @Override
+    public void open() {
+        super.open();
+        startInterval(nanoTime());
+    }
+
+    /**
+     * Actually checks the state of this circuit breaker and executes a state transition if necessary.
+     *
+     * @param increment the increment for the internal counter
+     * @return a flag whether the circuit breaker is now closed
+     */
+    private boolean performStateCheck(final int increment) {
+        final long time = nanoTime();
+        final long index = Math.floorDiv(time, bucketNanos);
+        if (increment != 0) {
+            add(index, increment);
+        }
+        State currentState = state.get();
+        final IntervalStart start = intervalStart;
+        // This might cause a race condition if other changes happen in between!
+        // Refer to the header comment!
+        if (isOpen(currentState)) {
+            if (time - start.time >= closingInterval && count(index, closingBuckets, start) < closingThreshold) {
+                currentState = State.CLOSED;
+                changeState(currentState);
+                startInterval(time);
+            }
+        } else if (count(index, openingBuckets, start) > openingThreshold) {
+            currentState = State.OPEN;
+            changeState(currentState);
+            startInterval(time);
+        }
+        return !isOpen(currentState);
+    }
+
+    /**
+     * Computes the slot of a bucket in the ring.
+     *
+     * @param index the index of the bucket
+     * @return the slot of the bucket
+     */
+    private int slot(final long index) {
+        return (int) Math.floorMod(index, (long) buckets.length());
+    }
+
+    /**
+     * Starts new intervals after a state transition: the events received before are not counted any more.
+     *
+     * @param time the time of the state transition
+     */
+    private void startInterval(final long time) {
+        final long index = Math.floorDiv(time, bucketNanos);
+        final Bucket bucket = buckets.get(slot(index));
+        intervalStart = new IntervalStart(time, index, bucket != null && bucket.index == index ? bucket.count.sum() : 0);
+    }
+}
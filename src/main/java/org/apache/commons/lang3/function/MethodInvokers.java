@@ -17,23 +17,33 @@
 
 package org.apache.commons.lang3.function;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandleProxies;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.exception.UncheckedIllegalAccessException;
 
 /**
  * Converts {@link Method} objects to lambdas.
  * <p>
  * More specifically, produces instances of single-method interfaces which redirect calls to methods; see
- * {@link #asInterfaceInstance(Class, Method)}.
+ * {@link #asInterfaceInstance(Class, Method)}. For invokers on hot paths, {@link #asLambda(Class, Method)} produces
+ * equivalent instances through {@link LambdaMetafactory}, which the JIT compiler can inline like method references.
  * </p>
  * <h2>Calling supplier methods with no arguments</h2>
  * <p>
@@ -210,6 +220,71 @@ public static <T> T asInterfaceInstance(final Class<T> interfaceClass, final Met
         return MethodHandleProxies.asInterfaceInstance(Objects.requireNonNull(interfaceClass, "interfaceClass"), unreflectUnchecked(method));
     }
 
+    /**
+     * Produces an instance of the given single-method interface which calls the given method, implemented by a class
+     * spun with {@link LambdaMetafactory}, like a method reference in source code.
+     * <p>
+     * Unlike the proxies from {@link #asInterfaceInstance(Class, Method)}, the JIT compiler can inline calls through the
+     * returned instance into call sites, so use this method for invokers that are called often. Spinning the class costs
+     * more than creating a proxy, so create the instance once and reuse it.
+     * </p>
+     * <p>
+     * Primitive parameters and return values are boxed and unboxed as needed, but otherwise the interface method must
+     * accept the method's receiver, if any, followed by its parameters. The method must be accessible from this class
+     * and its declaring class and signature visible from this class' class loader, and the interface must be public;
+     * if not, this method falls back to {@link #asInterfaceInstance(Class, Method)}. It also falls back if the method
+     * declares checked exceptions that the interface method doesn't, so that they are wrapped in an
+     * {@link java.lang.reflect.UndeclaredThrowableException} like by the proxy. Checked exceptions that the method
+     * throws without declaring them are not wrapped.
+     * </p>
+     * <p>
+     * For example to invoke {@link String#length()}:
+     * </p>
+     *
+     * <pre>
+     * final Method method = String.class.getMethod("length");
+     * final ToIntFunction&lt;String&gt; function = MethodInvokers.asLambda(ToIntFunction.class, method);
+     * assertEquals(3, function.applyAsInt("ABC"));
+     * </pre>
+     *
+     * @param <T> The interface type.
+     * @param interfaceClass a class object representing {@code T}.
+     * @param method the method to invoke.
+     * @return a correctly-typed wrapper for the given target.
+     * @throws IllegalArgumentException if {@code interfaceClass} is not a single-method interface.
+     * @see LambdaMetafactory#metafactory(MethodHandles.Lookup, String, MethodType, MethodType, MethodHandle, MethodType)
+     * @since 3.13.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T asLambda(final Class<T> interfaceClass, final Method method) {
+        final Method singleMethod = getSingleAbstractMethod(Objects.requireNonNull(interfaceClass, "interfaceClass"));
+        final MethodHandle target = findLinkable(requireMethod(method));
+        if (target == null || !isPublic(interfaceClass) || !isPublic(singleMethod.getDeclaringClass()) || !isVisible(interfaceClass)
+            || !isVisible(singleMethod.getReturnType()) || !Stream.of(singleMethod.getParameterTypes()).allMatch(MethodInvokers::isVisible)
+            || !declaresExceptions(singleMethod, method)) {
+            return asInterfaceInstance(interfaceClass, method);
+        }
+        final MethodType samType = MethodType.methodType(singleMethod.getReturnType(), singleMethod.getParameterTypes());
+        final CallSite callSite;
+        try {
+            callSite = LambdaMetafactory.metafactory(MethodHandles.lookup(), singleMethod.getName(), MethodType.methodType(interfaceClass), samType,
+                target, instantiatedType(samType, target.type()));
+        } catch (final LambdaConversionException e) {
+            // For example a parameter count mismatch, let the proxy factory report it.
+            return asInterfaceInstance(interfaceClass, method);
+        } catch (final LinkageError | InternalError e) {
+            // The spun class can't link against a type, for example a non-public superinterface.
+            return asInterfaceInstance(interfaceClass, method);
+        }
+        try {
+            return (T) callSite.getTarget().invoke();
+        } catch (final LinkageError | InternalError e) {
+            return asInterfaceInstance(interfaceClass, method);
+        } catch (final Throwable t) {
+            return ExceptionUtils.rethrow(t);
+        }
+    }
+
     /**
      * Produces a {@link Supplier} for a given a <em>supplier</em> Method. The Supplier return type must match the method's
      * return type.
@@ -226,6 +301,127 @@ public static <R> Supplier<R> asSupplier(final Method method) {
         return asInterfaceInstance(Supplier.class, method);
     }
 
+    /**
+     * Tests whether an interface method declares the checked exceptions a method declares.
+     *
+     * @param singleMethod the interface method.
+     * @param method the method.
+     * @return whether each checked exception of {@code method} is a subclass of an exception of {@code singleMethod}.
+     */
+    private static boolean declaresExceptions(final Method singleMethod, final Method method) {
+        final Class<?>[] declared = singleMethod.getExceptionTypes();
+        return Stream.of(method.getExceptionTypes())
+            .allMatch(type -> RuntimeException.class.isAssignableFrom(type) || Error.class.isAssignableFrom(type)
+                || Stream.of(declared).anyMatch(declaredType -> declaredType.isAssignableFrom(type)));
+    }
+
+    /**
+     * Looks up a direct method handle for the given method with full access checks, ignoring
+     * {@link Method#setAccessible(boolean)}, as classes spun by {@link LambdaMetafactory} can only call methods this class
+     * can call.
+     *
+     * @param method the method to look up.
+     * @return the method handle, or {@code null} if the method is not accessible from this class.
+     */
+    private static MethodHandle findLinkable(final Method method) {
+        final Class<?> declaringClass = method.getDeclaringClass();
+        if (!isVisible(declaringClass) || !isVisible(method.getReturnType())
+            || !Stream.of(method.getParameterTypes()).allMatch(MethodInvokers::isVisible)) {
+            return null;
+        }
+        final MethodType type = MethodType.methodType(method.getReturnType(), method.getParameterTypes());
+        try {
+            return Modifier.isStatic(method.getModifiers()) ? MethodHandles.lookup().findStatic(declaringClass, method.getName(), type)
+                : MethodHandles.lookup().findVirtual(declaringClass, method.getName(), type);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the single abstract method of an interface, ignoring abstract redeclarations of {@link Object} methods.
+     *
+     * @param interfaceClass the interface.
+     * @return the single abstract method.
+     * @throws IllegalArgumentException if {@code interfaceClass} is not a single-method interface.
+     */
+    private static Method getSingleAbstractMethod(final Class<?> interfaceClass) {
+        if (!interfaceClass.isInterface()) {
+            throw new IllegalArgumentException("Not an interface: " + interfaceClass.getName());
+        }
+        Method singleMethod = null;
+        for (final Method candidate : interfaceClass.getMethods()) {
+            if (Modifier.isAbstract(candidate.getModifiers()) && !isObjectMethod(candidate)) {
+                if (singleMethod != null && !(singleMethod.getName().equals(candidate.getName())
+                    && Arrays.equals(singleMethod.getParameterTypes(), candidate.getParameterTypes()))) {
+                    throw new IllegalArgumentException("Not a single-method interface: " + interfaceClass.getName());
+                }
+                singleMethod = candidate;
+            }
+        }
+        if (singleMethod == null) {
+            throw new IllegalArgumentException("Not a single-method interface: " + interfaceClass.getName());
+        }
+        return singleMethod;
+    }
+
+    /**
+     * Computes the type a lambda specializes the single-method type to: the target type, boxed where the single-method
+     * type uses references.
+     *
+     * @param samType the erased type of the single method.
+     * @param targetType the type of the target method handle.
+     * @return the instantiated method type.
+     */
+    private static MethodType instantiatedType(final MethodType samType, final MethodType targetType) {
+        if (samType.parameterCount() != targetType.parameterCount()) {
+            // Let LambdaMetafactory reject the mismatch.
+            return samType;
+        }
+        final Class<?>[] parameterTypes = new Class<?>[samType.parameterCount()];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            final Class<?> samParameterType = samType.parameterType(i);
+            parameterTypes[i] = samParameterType.isPrimitive() ? samParameterType : ClassUtils.primitiveToWrapper(targetType.parameterType(i));
+        }
+        final Class<?> samReturnType = samType.returnType();
+        final Class<?> returnType = samReturnType.isPrimitive() ? samReturnType : ClassUtils.primitiveToWrapper(targetType.returnType());
+        return MethodType.methodType(returnType, parameterTypes);
+    }
+
+    private static boolean isPublic(final Class<?> type) {
+        return Modifier.isPublic(type.getModifiers());
+    }
+
+    private static boolean isObjectMethod(final Method method) {
+        try {
+            return Object.class.getMethod(method.getName(), method.getParameterTypes()) != null;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Tests whether a type resolves to itself from this class' class loader, which defines the classes spun by
+     * {@link LambdaMetafactory}.
+     *
+     * @param type the type to test.
+     * @return whether the type is visible.
+     */
+    private static boolean isVisible(final Class<?> type) {
+        Class<?> componentType = type;
+        while (componentType.isArray()) {
+            componentType = componentType.getComponentType();
+        }
+        if (componentType.isPrimitive() || componentType.getClassLoader() == null) {
+            return true;
+        }
+        try {
+            return Class.forName(componentType.getName(), false, MethodInvokers.class.getClassLoader()) == componentType;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     /**
      * Throws NullPointerException if {@code method} is {@code null}.
      *
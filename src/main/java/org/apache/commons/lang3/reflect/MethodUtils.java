@@ -24,6 +24,7 @@
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -32,6 +33,8 @@
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -61,8 +64,77 @@
  */
 public class MethodUtils {
 
+    /**
+     * The key of a method lookup in a class: a method name and parameter types.
+     */
+    private static final class Signature {
+
+        private final String name;
+        private final Class<?>[] parameterTypes;
+        private final int hashCode;
+
+        Signature(final String name, final Class<?>[] parameterTypes) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.hashCode = 31 * Objects.hashCode(name) + Arrays.hashCode(parameterTypes);
+        }
+
+        /**
+         * Copies this signature, so that the caller's parameter types array can't change a cache key.
+         *
+         * @return a copy of this signature.
+         */
+        Signature copy() {
+            return new Signature(name, ArrayUtils.clone(parameterTypes));
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Signature)) {
+                return false;
+            }
+            final Signature other = (Signature) obj;
+            return Objects.equals(name, other.name) && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     private static final Comparator<Method> METHOD_BY_SIGNATURE = Comparator.comparing(Method::toString);
 
+    /**
+     * The maximum number of lookups cached per class by {@link #getMatchingAccessibleMethod(Class, String, Class...)},
+     * later lookups are computed on every call.
+     */
+    private static final int MAX_CACHED_LOOKUPS = 256;
+
+    /**
+     * Caches the results of {@link #getMatchingAccessibleMethod(Class, String, Class...)} by the looked up class.
+     */
+    private static final ClassValue<ConcurrentMap<Signature, ResolvedMethod>> MATCHING_ACCESSIBLE_METHODS =
+        new ClassValue<ConcurrentMap<Signature, ResolvedMethod>>() {
+            @Override
+            protected ConcurrentMap<Signature, ResolvedMethod> computeValue(final Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    /**
+     * Caches the unmodifiable results of {@link #getAllSuperclassesAndInterfaces(Class)}.
+     */
+    private static final ClassValue<List<Class<?>>> SUPERCLASSES_AND_INTERFACES = new ClassValue<List<Class<?>>>() {
+        @Override
+        protected List<Class<?>> computeValue(final Class<?> type) {
+            return Collections.unmodifiableList(computeAllSuperclassesAndInterfaces(type));
+        }
+    };
+
     /**
      * {@link MethodUtils} instances should NOT be constructed in standard programming.
      * Instead, the class should be used as
@@ -205,23 +277,21 @@ public static Object invokeMethod(final Object object, final boolean forceAccess
         parameterTypes = ArrayUtils.nullToEmpty(parameterTypes);
         args = ArrayUtils.nullToEmpty(args);
 
-        final String messagePrefix;
-        final Method method;
-
         final Class<? extends Object> cls = object.getClass();
-        if (forceAccess) {
-            messagePrefix = "No such method: ";
-            method = getMatchingMethod(cls, methodName, parameterTypes);
-            if (method != null && !method.isAccessible()) {
-                method.setAccessible(true);
+        if (!forceAccess) {
+            final ResolvedMethod resolved = resolveMatchingAccessibleMethod(cls, methodName, parameterTypes);
+            if (resolved.method == null) {
+                throw new NoSuchMethodException("No such accessible method: " + methodName + "() on object: " + cls.getName());
             }
-        } else {
-            messagePrefix = "No such accessible method: ";
-            method = getMatchingAccessibleMethod(cls, methodName, parameterTypes);
+            return resolved.invoke(object, toVarArgs(resolved.method, args));
         }
 
+        final Method method = getMatchingMethod(cls, methodName, parameterTypes);
         if (method == null) {
-            throw new NoSuchMethodException(messagePrefix + methodName + "() on object: " + cls.getName());
+            throw new NoSuchMethodException("No such method: " + methodName + "() on object: " + cls.getName());
+        }
+        if (!method.isAccessible()) {
+            method.setAccessible(true);
         }
         args = toVarArgs(method, args);
 
@@ -425,14 +495,14 @@ public static Object invokeStaticMethod(final Class<?> cls, final String methodN
             InvocationTargetException {
         args = ArrayUtils.nullToEmpty(args);
         parameterTypes = ArrayUtils.nullToEmpty(parameterTypes);
-        final Method method = getMatchingAccessibleMethod(cls, methodName,
+        final ResolvedMethod resolved = resolveMatchingAccessibleMethod(cls, methodName,
                 parameterTypes);
-        if (method == null) {
+        if (resolved.method == null) {
             throw new NoSuchMethodException("No such accessible method: "
                     + methodName + "() on class: " + cls.getName());
         }
-        args = toVarArgs(method, args);
-        return method.invoke(null, args);
+        args = toVarArgs(resolved.method, args);
+        return resolved.invoke(null, args);
     }
 
     private static Object[] toVarArgs(final Method method, Object[] args) {
@@ -654,12 +724,70 @@ private static Method getAccessibleMethodFromInterfaceNest(Class<?> cls,
      * parameter.
      * </p>
      *
+     * <p>The result is cached by class, method name and parameter types, so the
+     * same {@link Method} instance may be returned to several callers.
+     * </p>
+     *
      * @param cls find method in this class
      * @param methodName find method with this name
      * @param parameterTypes find method with most compatible parameters
      * @return The accessible method
      */
     public static Method getMatchingAccessibleMethod(final Class<?> cls,
+        final String methodName, final Class<?>... parameterTypes) {
+        return resolveMatchingAccessibleMethod(cls, methodName, parameterTypes).method;
+    }
+
+    /**
+     * Tests whether a lookup of the given parameter types in the given class can be cached by the class. Caching
+     * parameter types from a class loader the class can't see could keep that loader reachable.
+     *
+     * @param cls the looked up class.
+     * @param parameterTypes the looked up parameter types.
+     * @return whether the lookup can be cached.
+     */
+    private static boolean isCacheable(final Class<?> cls, final Class<?>[] parameterTypes) {
+        if (parameterTypes == null) {
+            return true;
+        }
+        final ClassLoader classLoader = cls.getClassLoader();
+        for (final Class<?> parameterType : parameterTypes) {
+            if (parameterType != null) {
+                final ClassLoader parameterClassLoader = parameterType.getClassLoader();
+                if (parameterClassLoader != null && parameterClassLoader != classLoader) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the cached result of {@link #getMatchingAccessibleMethod(Class, String, Class...)}, computing it if needed.
+     *
+     * @param cls find method in this class
+     * @param methodName find method with this name
+     * @param parameterTypes find method with most compatible parameters
+     * @return The resolved method, {@link ResolvedMethod#NONE} if none is found
+     */
+    private static ResolvedMethod resolveMatchingAccessibleMethod(final Class<?> cls,
+        final String methodName, final Class<?>... parameterTypes) {
+        final ConcurrentMap<Signature, ResolvedMethod> cache = MATCHING_ACCESSIBLE_METHODS.get(cls);
+        final Signature signature = new Signature(methodName, parameterTypes);
+        ResolvedMethod resolved = cache.get(signature);
+        if (resolved == null) {
+            resolved = ResolvedMethod.of(findMatchingAccessibleMethod(cls, methodName, parameterTypes));
+            if (cache.size() < MAX_CACHED_LOOKUPS && isCacheable(cls, parameterTypes)) {
+                final ResolvedMethod previous = cache.putIfAbsent(signature.copy(), resolved);
+                if (previous != null) {
+                    resolved = previous;
+                }
+            }
+        }
+        return resolved;
+    }
+
+    private static Method findMatchingAccessibleMethod(final Class<?> cls,
         final String methodName, final Class<?>... parameterTypes) {
         try {
             return MemberUtils.setAccessibleWorkaround(cls.getMethod(methodName, parameterTypes));
@@ -724,7 +852,7 @@ public static Method getMatchingMethod(final Class<?> cls, final String methodNa
                 .filter(method -> method.getName().equals(methodName))
                 .collect(Collectors.toList());
 
-        ClassUtils.getAllSuperclasses(cls).stream()
+        ClassUtils.getAllSuperclassesCached(cls).stream()
                 .map(Class::getDeclaredMethods)
                 .flatMap(Stream::of)
                 .filter(method -> method.getName().equals(methodName))
@@ -811,7 +939,7 @@ public static Set<Method> getOverrideHierarchy(final Method method, final Interf
 
         final Class<?> declaringClass = method.getDeclaringClass();
 
-        final Iterator<Class<?>> hierarchy = ClassUtils.hierarchy(declaringClass, interfacesBehavior).iterator();
+        final Iterator<Class<?>> hierarchy = ClassUtils.hierarchyCached(declaringClass, interfacesBehavior).iterator();
         //skip the declaring class :P
         hierarchy.next();
         hierarchyTraversal: while (hierarchy.hasNext()) {
@@ -907,8 +1035,11 @@ public static List<Method> getMethodsListWithAnnotation(final Class<?> cls,
 
         Objects.requireNonNull(cls, "cls");
         Validate.notNull(annotationCls, "annotationCls");
-        final List<Class<?>> classes = searchSupers ? getAllSuperclassesAndInterfaces(cls) : new ArrayList<>();
-        classes.add(0, cls);
+        final List<Class<?>> classes = new ArrayList<>();
+        classes.add(cls);
+        if (searchSupers) {
+            classes.addAll(getAllSuperclassesAndInterfaces(cls));
+        }
         final List<Method> annotatedMethods = new ArrayList<>();
         classes.forEach(acls -> {
             final Method[] methods = ignoreAccess ? acls.getDeclaredMethods() : acls.getMethods();
@@ -974,19 +1105,26 @@ public static <A extends Annotation> A getAnnotation(final Method method, final
      * from interfaces, and so on in a breadth first way.
      *
      * @param cls  the class to look up, may be {@code null}
-     * @return the combined {@link List} of superclasses and interfaces in order
+     * @return the combined unmodifiable {@link List} of superclasses and interfaces in order
      * going up from this one
      *  {@code null} if null input
      */
     private static List<Class<?>> getAllSuperclassesAndInterfaces(final Class<?> cls) {
-        if (cls == null) {
-            return null;
-        }
+        return cls == null ? null : SUPERCLASSES_AND_INTERFACES.get(cls);
+    }
 
+    /**
+     * Computes the result of {@link #getAllSuperclassesAndInterfaces(Class)}.
+     *
+     * @param cls  the class to look up, not null
+     * @return the combined {@link List} of superclasses and interfaces in order
+     * going up from this one
+     */
+    private static List<Class<?>> computeAllSuperclassesAndInterfaces(final Class<?> cls) {
         final List<Class<?>> allSuperClassesAndInterfaces = new ArrayList<>();
-        final List<Class<?>> allSuperclasses = ClassUtils.getAllSuperclasses(cls);
+        final List<Class<?>> allSuperclasses = ClassUtils.getAllSuperclassesCached(cls);
         int superClassIndex = 0;
-        final List<Class<?>> allInterfaces = ClassUtils.getAllInterfaces(cls);
+        final List<Class<?>> allInterfaces = ClassUtils.getAllInterfacesCached(cls);
         int interfaceIndex = 0;
         while (interfaceIndex < allInterfaces.size() ||
                 superClassIndex < allSuperclasses.size()) {
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+/**
+ * The result of a method lookup by {@link MethodUtils}, cached by the looked up class, name and parameter types.
+ *
+ * <p>
+ * Invokes the method through a {@link MethodHandle} typed {@code (Object, Object[])Object}, created on first use,
+ * which behaves like {@link Method#invoke(Object, Object...)}: exceptions thrown by the method are wrapped in an
+ * {@link InvocationTargetException} and arguments that don't fit the parameter types cause an
+ * {@link IllegalArgumentException}.
+ * </p>
+ */
+final class ResolvedMethod {
+
+    /** The result of a lookup that found no method. */
+    static final ResolvedMethod NONE = new ResolvedMethod(null);
+
+    /** Stands for the invoker of a method that can't be invoked through a method handle. */
+    private static final MethodHandle NO_INVOKER = MethodHandles.constant(Object.class, null);
+
+    /** Typed {@code (Throwable)Object}, throws an {@link InvocationTargetException} wrapping its argument. */
+    private static final MethodHandle WRAP_TARGET_EXCEPTION;
+
+    static {
+        try {
+            WRAP_TARGET_EXCEPTION = MethodHandles.lookup().findStatic(ResolvedMethod.class, "wrapTargetException",
+                MethodType.methodType(Object.class, Throwable.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates an invoker typed {@code (Object, Object[])Object} for the given method.
+     *
+     * @param method the method to invoke.
+     * @return the invoker, or {@code null} if the method can't be invoked through a method handle.
+     */
+    private static MethodHandle createInvoker(final Method method) {
+        final MethodHandle target;
+        try {
+            target = MethodHandles.lookup().unreflect(method).asFixedArity();
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+        final MethodType type = target.type();
+        // Only exceptions of the target are wrapped, conversion failures of the arguments are thrown as is.
+        final MethodHandle handler = MethodHandles.dropArguments(
+            WRAP_TARGET_EXCEPTION.asType(MethodType.methodType(type.returnType(), Throwable.class)), 1, type.parameterList());
+        MethodHandle invoker = MethodHandles.catchException(target, Throwable.class, handler);
+        if (Modifier.isStatic(method.getModifiers())) {
+            invoker = MethodHandles.dropArguments(invoker, 0, Object.class);
+        }
+        final int parameterCount = method.getParameterCount();
+        return invoker.asType(MethodType.genericMethodType(parameterCount + 1)).asSpreader(Object[].class, parameterCount);
+    }
+
+    static ResolvedMethod of(final Method method) {
+        return method == null ? NONE : new ResolvedMethod(method);
+    }
+
+    @SuppressWarnings("unused") // Called through WRAP_TARGET_EXCEPTION.
+    private static Object wrapTargetException(final Throwable throwable) throws InvocationTargetException {
+        throw new InvocationTargetException(throwable);
+    }
+
+    /** The method, {@code null} for {@link #NONE}. */
+    final Method method;
+
+    private final boolean isStatic;
+
+    /**
+     * Created on first use, {@code null} until then and {@link #NO_INVOKER} if the method can't be invoked through a
+     * method handle. Threads that race may each create an equivalent invoker.
+     */
+    private volatile MethodHandle invoker;
+
+    private ResolvedMethod(final Method method) {
+        this.method = method;
+        this.isStatic = method != null && Modifier.isStatic(method.getModifiers());
+    }
+
+    /**
+     * Invokes the method like {@link Method#invoke(Object, Object...)}.
+     *
+     * @param object the object to invoke the method on, ignored for static methods.
+     * @param args the arguments, in the canonical varargs form, not null.
+     * @return the value returned by the method, {@code null} for {@code void} methods.
+     * @throws IllegalAccessException if the method is not accessible.
+     * @throws InvocationTargetException wraps an exception thrown by the method.
+     */
+    Object invoke(final Object object, final Object[] args) throws IllegalAccessException, InvocationTargetException {
+        final MethodHandle handle = getInvoker();
+        if (handle == NO_INVOKER || object == null && !isStatic) {
+            return method.invoke(object, args);
+        }
+        try {
+            return handle.invokeExact(object, args);
+        } catch (final ClassCastException | NullPointerException e) {
+            // An argument doesn't fit its parameter type, the method's own exceptions are wrapped.
+            throw new IllegalArgumentException(e);
+        } catch (final Throwable t) {
+            // InvocationTargetException, IllegalArgumentException for the wrong number of arguments, or an Error.
+            return ExceptionUtils.rethrow(t);
+        }
+    }
+
+    private MethodHandle getInvoker() {
+        MethodHandle handle = invoker;
+        if (handle == null) {
+            handle = createInvoker(method);
+            if (handle == null) {
+                handle = NO_INVOKER;
+            }
+            invoker = handle;
+        }
+        return handle;
+    }
+}
@@ -44,6 +44,26 @@ public AggregateTranslator(final CharSequenceTranslator... translators) {
         this.translators = ArrayUtils.clone(translators);
     }
 
+    /**
+     * Returns the smallest index returned by the aggregated translators.
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextTranslatableIndex(final CharSequence input, final int index, final int end) {
+        if (getClass() != AggregateTranslator.class) {
+            // A subclass may translate differently.
+            return index;
+        }
+        int next = end;
+        for (final CharSequenceTranslator translator : translators) {
+            next = translator.nextTranslatableIndex(input, index, next);
+            if (next == index) {
+                break;
+            }
+        }
+        return next;
+    }
+
     /**
      * The first translator to consume code points from the input is the 'winner'.
      * Execution stops with the number of consumed code points being returned.
@@ -52,8 +52,59 @@ public abstract class CharSequenceTranslator {
      */
     public abstract int translate(CharSequence input, int index, Writer out) throws IOException;
 
+    /**
+     * The length of the first run {@link #translate(CharSequence, Writer)} scans for with
+     * {@link #nextTranslatableIndex(CharSequence, int, int)} after a translation.
+     */
+    private static final int MIN_SCAN = 16;
+
+    /**
+     * The maximum length of a run {@link #translate(CharSequence, Writer)} scans for with
+     * {@link #nextTranslatableIndex(CharSequence, int, int)}.
+     */
+    private static final int MAX_SCAN = 8192;
+
+    /**
+     * Moves an index back to the start of the surrogate pair it splits, if any.
+     *
+     * @param input CharSequence that is being translated
+     * @param start the index the scan started at, a code point boundary
+     * @param index the index to check
+     * @return the index, at a code point boundary
+     */
+    private static int alignToCodePoint(final CharSequence input, final int start, final int index) {
+        if (index > start && index < input.length() && Character.isLowSurrogate(input.charAt(index))
+            && Character.isHighSurrogate(input.charAt(index - 1))) {
+            return index - 1;
+        }
+        return index;
+    }
+
+    /**
+     * Writes a range of the input unchanged.
+     *
+     * @param input CharSequence that is being translated
+     * @param start the index of the first char to write
+     * @param end the index after the last char to write
+     * @param writer Writer to write to
+     * @throws IOException if and only if the Writer produces an IOException
+     */
+    private static void write(final CharSequence input, final int start, final int end, final Writer writer) throws IOException {
+        if (input instanceof String) {
+            writer.write((String) input, start, end - start);
+        } else {
+            writer.append(input, start, end);
+        }
+    }
+
     /**
      * Helper for non-Writer usage.
+     *
+     * <p>
+     * Returns the input as a String, without copying it to a Writer, if
+     * {@link #nextTranslatableIndex(CharSequence, int, int)} finds nothing to translate.
+     * </p>
+     *
      * @param input CharSequence to be translated
      * @return String output of translation
      */
@@ -61,9 +112,15 @@ public final String translate(final CharSequence input) {
         if (input == null) {
             return null;
         }
+        final int len = input.length();
+        final int first = alignToCodePoint(input, 0, nextTranslatableIndex(input, 0, len));
+        if (first >= len) {
+            return input.toString();
+        }
         try {
-            final StringWriter writer = new StringWriter(input.length() * 2);
-            translate(input, writer);
+            final StringWriter writer = new StringWriter(len * 2);
+            write(input, 0, first, writer);
+            translateFrom(input, first, writer);
             return writer.toString();
         } catch (final IOException ioe) {
             // this should never ever happen while writing to a StringWriter
@@ -75,6 +132,11 @@ public final String translate(final CharSequence input) {
      * Translate an input onto a Writer. This is intentionally final as its algorithm is
      * tightly coupled with the abstract method of this class.
      *
+     * <p>
+     * Runs of the input before the index returned by {@link #nextTranslatableIndex(CharSequence, int, int)} are
+     * written as is, in bulk.
+     * </p>
+     *
      * @param input CharSequence that is being translated
      * @param writer Writer to translate the text to
      * @throws IOException if and only if the Writer produces an IOException
@@ -84,9 +146,33 @@ public final void translate(final CharSequence input, final Writer writer) throw
         if (input == null) {
             return;
         }
-        int pos = 0;
+        translateFrom(input, 0, writer);
+    }
+
+    /**
+     * Translates an input onto a Writer, from a given index.
+     *
+     * @param input CharSequence that is being translated
+     * @param start the index to start at, a code point boundary
+     * @param writer Writer to translate the text to
+     * @throws IOException if and only if the Writer produces an IOException
+     */
+    private void translateFrom(final CharSequence input, final int start, final Writer writer) throws IOException {
+        int pos = start;
         final int len = input.length();
+        // Scan for longer runs while runs are clean, so that a translator that rarely matches does not rescan the
+        // input after each translation of another one.
+        int scan = MIN_SCAN;
         while (pos < len) {
+            final int limit = len - pos > scan ? pos + scan : len;
+            final int next = alignToCodePoint(input, pos, nextTranslatableIndex(input, pos, limit));
+            if (next > pos) {
+                write(input, pos, next, writer);
+                pos = next;
+                scan = next == limit ? Math.min(scan << 1, MAX_SCAN) : MIN_SCAN;
+                continue;
+            }
+            scan = MIN_SCAN;
             final int consumed = translate(input, pos, writer);
             if (consumed == 0) {
                 // inlined implementation of Character.toChars(Character.codePointAt(input, pos))
@@ -111,6 +197,26 @@ public final void translate(final CharSequence input, final Writer writer) throw
         }
     }
 
+    /**
+     * Finds the first index in a range of the input where this translator may translate something. That is,
+     * {@link #translate(CharSequence, int, Writer)} consumes nothing at the code points before the returned index.
+     *
+     * <p>
+     * This lets {@link #translate(CharSequence, Writer)} copy runs of input that need no translation in bulk.
+     * Implementations may be conservative and return an index where nothing is translated after all, and may return
+     * an index inside a surrogate pair. The default implementation returns {@code index}: anything may be translated.
+     * </p>
+     *
+     * @param input CharSequence that is being translated
+     * @param index the index to start scanning at
+     * @param end the index to stop scanning at, excluded, at most the length of the input
+     * @return the index of the first char that may be translated, {@code end} if none
+     * @since 3.13.0
+     */
+    public int nextTranslatableIndex(final CharSequence input, final int index, final int end) {
+        return index;
+    }
+
     /**
      * Helper method to create a merger of this translator with another set of
      * translators. Useful in customizing the standard functionality.
@@ -18,12 +18,19 @@
 
 import java.io.IOException;
 import java.io.Writer;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Translates a value using a lookup table.
  *
+ * <p>
+ * The lookup table is compiled into a trie indexed by character, so that finding the longest key at an index reads
+ * each candidate character once and allocates nothing.
+ * </p>
+ *
  * @since 3.0
  * @deprecated As of 3.6, use Apache Commons Text
  * <a href="https://commons.apache.org/proper/commons-text/javadocs/api-release/org/apache/commons/text/translate/LookupTranslator.html">
@@ -32,10 +39,60 @@
 @Deprecated
 public class LookupTranslator extends CharSequenceTranslator {
 
-    private final HashMap<String, String> lookupMap;
-    private final HashSet<Character> prefixSet;
-    private final int shortest;
-    private final int longest;
+    /**
+     * A trie node: the keys of the lookup table that start with the characters leading to this node.
+     */
+    private static final class Node {
+
+        /** Builds a node before its children are frozen into arrays. */
+        private static final class Builder {
+
+            private final Map<Character, Builder> children = new TreeMap<>();
+            private String value;
+
+            Node build() {
+                final char[] chars = new char[children.size()];
+                final Node[] nodes = new Node[children.size()];
+                int i = 0;
+                for (final Map.Entry<Character, Builder> entry : children.entrySet()) {
+                    chars[i] = entry.getKey().charValue();
+                    nodes[i] = entry.getValue().build();
+                    i++;
+                }
+                return new Node(chars, nodes, value);
+            }
+
+            Builder child(final char c) {
+                return children.computeIfAbsent(Character.valueOf(c), k -> new Builder());
+            }
+        }
+
+        /** The sorted characters leading to the children. */
+        private final char[] chars;
+
+        /** The children, in the order of {@link #chars}. */
+        private final Node[] children;
+
+        /** The translation of the key ending at this node, {@code null} if none. */
+        private final String value;
+
+        Node(final char[] chars, final Node[] children, final String value) {
+            this.chars = chars;
+            this.children = children;
+            this.value = value;
+        }
+
+        Node child(final char c) {
+            final int i = Arrays.binarySearch(chars, c);
+            return i < 0 ? null : children[i];
+        }
+    }
+
+    /** The root of the trie of keys. */
+    private final Node root;
+
+    /** The first characters of the keys. */
+    private final BitSet prefixSet;
 
     /**
      * Define the lookup table to be used in translation
@@ -47,25 +104,39 @@ public class LookupTranslator extends CharSequenceTranslator {
      * @param lookup CharSequence[][] table of size [*][2]
      */
     public LookupTranslator(final CharSequence[]... lookup) {
-        lookupMap = new HashMap<>();
-        prefixSet = new HashSet<>();
-        int tmpShortest = Integer.MAX_VALUE;
-        int tmpLongest = 0;
+        final Node.Builder rootBuilder = new Node.Builder();
+        prefixSet = new BitSet();
         if (lookup != null) {
             for (final CharSequence[] seq : lookup) {
-                this.lookupMap.put(seq[0].toString(), seq[1].toString());
-                this.prefixSet.add(seq[0].charAt(0));
-                final int sz = seq[0].length();
-                if (sz < tmpShortest) {
-                    tmpShortest = sz;
-                }
-                if (sz > tmpLongest) {
-                    tmpLongest = sz;
+                final String key = seq[0].toString();
+                prefixSet.set(key.charAt(0));
+                Node.Builder node = rootBuilder;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.child(key.charAt(i));
                 }
+                // As with a map, a later duplicate key replaces an earlier one.
+                node.value = seq[1].toString();
             }
         }
-        this.shortest = tmpShortest;
-        this.longest = tmpLongest;
+        root = rootBuilder.build();
+    }
+
+    /**
+     * Returns the index of the first char that starts a key.
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextTranslatableIndex(final CharSequence input, final int index, final int end) {
+        if (getClass() != LookupTranslator.class) {
+            // A subclass may translate differently.
+            return index;
+        }
+        for (int i = index; i < end; i++) {
+            if (prefixSet.get(input.charAt(i))) {
+                return i;
+            }
+        }
+        return end;
     }
 
     /**
@@ -74,20 +145,25 @@ public LookupTranslator(final CharSequence[]... lookup) {
     @Override
     public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
         // check if translation exists for the input at position index
-        if (prefixSet.contains(input.charAt(index))) {
-            int max = longest;
-            if (index + longest > input.length()) {
-                max = input.length() - index;
-            }
-            // implement greedy algorithm by trying maximum match first
-            for (int i = max; i >= shortest; i--) {
-                final CharSequence subSeq = input.subSequence(index, index + i);
-                final String result = lookupMap.get(subSeq.toString());
-
-                if (result != null) {
-                    out.write(result);
-                    return i;
+        if (prefixSet.get(input.charAt(index))) {
+            // implement greedy algorithm by keeping the longest match
+            String result = null;
+            int resultLength = 0;
+            Node node = root;
+            final int length = input.length();
+            for (int i = index; i < length; i++) {
+                node = node.child(input.charAt(i));
+                if (node == null) {
+                    break;
                 }
+                if (node.value != null) {
+                    result = node.value;
+                    resultLength = i - index + 1;
+                }
+            }
+            if (result != null) {
+                out.write(result);
+                return resultLength;
             }
         }
         return 0;
@@ -92,6 +92,24 @@ public boolean isSet(final OPTION option) {
         return options != null && options.contains(option);
     }
 
+    /**
+     * Returns the index of the first {@code '&'}.
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextTranslatableIndex(final CharSequence input, final int index, final int end) {
+        if (getClass() != NumericEntityUnescaper.class) {
+            // A subclass may translate differently.
+            return index;
+        }
+        for (int i = index; i < end; i++) {
+            if (input.charAt(i) == '&') {
+                return i;
+            }
+        }
+        return end;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -99,6 +99,27 @@ public static UnicodeEscaper between(final int codePointLow, final int codePoint
         return new UnicodeEscaper(codePointLow, codePointHigh, true);
     }
 
+    /**
+     * Returns the index of the first code point in the range of code points to escape.
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextTranslatableIndex(final CharSequence input, final int index, final int end) {
+        if (getClass() != UnicodeEscaper.class && getClass() != JavaUnicodeEscaper.class) {
+            // A subclass may translate differently.
+            return index;
+        }
+        int i = index;
+        while (i < end) {
+            final int codePoint = Character.codePointAt(input, i);
+            if (between ? codePoint >= below && codePoint <= above : codePoint < below || codePoint > above) {
+                return i;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return end;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -32,6 +32,24 @@
 @Deprecated
 public class UnicodeUnescaper extends CharSequenceTranslator {
 
+    /**
+     * Returns the index of the first backslash.
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextTranslatableIndex(final CharSequence input, final int index, final int end) {
+        if (getClass() != UnicodeUnescaper.class) {
+            // A subclass may translate differently.
+            return index;
+        }
+        for (int i = index; i < end; i++) {
+            if (input.charAt(i) == '\\') {
+                return i;
+            }
+        }
+        return end;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -28,6 +28,27 @@
  */
 @Deprecated
 public class UnicodeUnpairedSurrogateRemover extends CodePointTranslator {
+    /**
+     * Returns the index of the first unpaired surrogate.
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextTranslatableIndex(final CharSequence input, final int index, final int end) {
+        if (getClass() != UnicodeUnpairedSurrogateRemover.class) {
+            // A subclass may translate differently.
+            return index;
+        }
+        int i = index;
+        while (i < end) {
+            final int codePoint = Character.codePointAt(input, i);
+            if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+                return i;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return end;
+    }
+
     /**
      * Implementation of translate that throws out unpaired surrogates.
      * {@inheritDoc}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A concurrent map bounded by evicting entries with the CLOCK algorithm, an approximation of LRU that doesn't
+ * lock or reorder anything on a hit.
+ *
+ * <p>Keys are queued in insertion order. To evict, the head of the queue is removed if its entry was not used
+ * since it was last queued, and queued again otherwise, giving it a second chance.</p>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+final class BoundedCache<K, V> {
+
+    /**
+     * A cached value and whether it was used since its key was last queued.
+     *
+     * @param <V> the type of the value
+     */
+    private static final class Entry<V> {
+
+        final V value;
+
+        volatile boolean referenced;
+
+        Entry(final V value) {
+            this.value = value;
+        }
+    }
+
+    private final ConcurrentMap<K, Entry<V>> map = new ConcurrentHashMap<>(7);
+
+    /** The keys in the order they are examined for eviction. */
+    private final Queue<K> queue = new ConcurrentLinkedQueue<>();
+
+    /** Held by the thread evicting entries, other threads don't wait for it. */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private volatile int maximumSize;
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a cache.
+     *
+     * @param maximumSize the maximum number of entries, not negative
+     */
+    BoundedCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Evicts entries until the map is no larger than its maximum size, unless another thread is already at it.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            while (map.size() > maximumSize) {
+                final K key = queue.poll();
+                if (key == null) {
+                    return;
+                }
+                final Entry<V> entry = map.get(key);
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.referenced && maximumSize > 0) {
+                    entry.referenced = false;
+                    queue.add(key);
+                } else if (map.remove(key, entry)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the value for a key, creating and caching it if absent.
+     *
+     * @param key the key
+     * @param factory creates the value for an absent key
+     * @return the value
+     */
+    V get(final K key, final Function<? super K, ? extends V> factory) {
+        requests.increment();
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            entry = map.computeIfAbsent(key, k -> {
+                misses.increment();
+                final Entry<V> created = new Entry<>(factory.apply(k));
+                queue.add(k);
+                return created;
+            });
+            if (map.size() > maximumSize) {
+                evict();
+            }
+        } else {
+            entry.referenced = true;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Gets the number of entries evicted to keep the cache under its maximum size.
+     *
+     * @return the number of evictions
+     */
+    long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the number of times a key was found in the cache.
+     *
+     * @return the number of hits
+     */
+    long getHitCount() {
+        // Of two threads missing the same key at once, only one creates the value, the other counts as a hit.
+        return requests.sum() - misses.sum();
+    }
+
+    /**
+     * Gets the maximum number of entries.
+     *
+     * @return the maximum size
+     */
+    int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the number of times a key was not found in the cache and its value was created.
+     *
+     * @return the number of misses
+     */
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Sets the maximum number of entries, evicting entries if there are more.
+     *
+     * @param maximumSize the maximum size, 0 disables caching
+     * @throws IllegalArgumentException if the maximum size is negative
+     */
+    void setMaximumSize(final int maximumSize) {
+        Validate.isTrue(maximumSize >= 0, "maximumSize must not be negative: %d", maximumSize);
+        this.maximumSize = maximumSize;
+        evict();
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the size of the cache
+     */
+    int size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,489 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.function.FailableRunnable;
+import org.apache.commons.lang3.function.FailableSupplier;
+
+/**
+ * Records the times of named sections of code, from any number of threads, into latency histograms.
+ *
+ * <p>
+ * Where a {@link StopWatch} times one task in one thread, a {@code ConcurrentStopWatch} is shared: each task
+ * {@link #start() starts} its own {@link Timing}, which {@link Timing#split(String) splits} and
+ * {@link Timing#lap(String) laps} like a {@link StopWatch}, and records each split or lap time in the {@link Histogram}
+ * of its name. Recording a time doesn't lock: the histograms count times in per-thread stripes, so that threads don't
+ * contend, and read all stripes when queried.
+ * </p>
+ *
+ * <pre>
+ * ConcurrentStopWatch watch = ConcurrentStopWatch.create();
+ * // In any thread:
+ * ConcurrentStopWatch.Timing timing = watch.start();
+ * parse();
+ * timing.lap("parse");
+ * render();
+ * timing.lap("render");
+ * timing.split("request");
+ * // Later:
+ * long p99 = watch.getHistogram("request").getPercentile(99);
+ * </pre>
+ *
+ * <p>
+ * Times are in nanoseconds, from {@link System#nanoTime()}.
+ * </p>
+ *
+ * <p>
+ * #ThreadSafe#
+ * </p>
+ *
+ * @see StopWatch
+ * @since 3.13.0
+ */
+public final class ConcurrentStopWatch {
+
+    /**
+     * A latency histogram, which counts values in buckets with a relative width of at most 1/64.
+     *
+     * <p>
+     * As in an HDR histogram, values below 128 have their own bucket, and each larger power of two is split into 64
+     * buckets of equal width. The percentiles are then within 1.6% of the recorded values, for a fixed size of 3712
+     * buckets per stripe whatever the range of the values.
+     * </p>
+     *
+     * <p>
+     * Recording a value doesn't lock, the queries read all stripes and are not atomic with concurrent recordings.
+     * </p>
+     *
+     * <p>
+     * #ThreadSafe#
+     * </p>
+     */
+    public static final class Histogram {
+
+        /** The number of bits of the values below which each value has its own bucket. */
+        private static final int SUB_BUCKET_BITS = 7;
+
+        /** The number of buckets per power of two above the values with their own bucket. */
+        private static final int SUB_BUCKET_HALF_COUNT = 1 << (SUB_BUCKET_BITS - 1);
+
+        /** The number of buckets. */
+        private static final int BUCKET_COUNT = bucketIndex(Long.MAX_VALUE) + 1;
+
+        /** The index of the sum of the values in a stripe. */
+        private static final int TOTAL = BUCKET_COUNT;
+
+        /** The index of the largest value in a stripe. */
+        private static final int MAX = BUCKET_COUNT + 1;
+
+        /** The length of a stripe. */
+        private static final int STRIPE_LENGTH = BUCKET_COUNT + 2;
+
+        /** The number of stripes, the smallest power of two not less than the number of processors. */
+        private static final int STRIPE_COUNT = 1 << (32 - Integer.numberOfLeadingZeros(Runtime.getRuntime().availableProcessors() - 1));
+
+        /**
+         * Gets the index of the bucket of a value.
+         *
+         * @param value the value, not negative
+         * @return the index of the bucket
+         */
+        private static int bucketIndex(final long value) {
+            final int shift = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+            return (shift << (SUB_BUCKET_BITS - 1)) + (int) (value >>> shift);
+        }
+
+        /**
+         * Gets the largest value of a bucket.
+         *
+         * @param index the index of the bucket
+         * @return the largest value counted in the bucket
+         */
+        private static long highestValue(final int index) {
+            final int shift = Math.max(0, (index >> (SUB_BUCKET_BITS - 1)) - 1);
+            final long lowest = (long) (index - shift * SUB_BUCKET_HALF_COUNT) << shift;
+            return lowest + (1L << shift) - 1;
+        }
+
+        /** The stripes, created on first use: the counts of the buckets, the sum and the largest of the values. */
+        private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPE_COUNT);
+
+        /**
+         * Constructs a new empty histogram.
+         */
+        public Histogram() {
+            // empty
+        }
+
+        /**
+         * Gets the counts of the buckets, over all stripes.
+         *
+         * @return the counts of the buckets
+         */
+        private long[] getBucketCounts() {
+            final long[] counts = new long[BUCKET_COUNT];
+            for (int i = 0; i < STRIPE_COUNT; i++) {
+                final AtomicLongArray stripe = stripes.get(i);
+                if (stripe != null) {
+                    for (int j = 0; j < BUCKET_COUNT; j++) {
+                        counts[j] += stripe.get(j);
+                    }
+                }
+            }
+            return counts;
+        }
+
+        /**
+         * Gets the number of recorded values.
+         *
+         * @return the number of recorded values
+         */
+        public long getCount() {
+            long count = 0;
+            for (final long bucketCount : getBucketCounts()) {
+                count += bucketCount;
+            }
+            return count;
+        }
+
+        /**
+         * Gets the largest recorded value.
+         *
+         * @return the largest recorded value, 0 if none
+         */
+        public long getMax() {
+            long max = 0;
+            for (int i = 0; i < STRIPE_COUNT; i++) {
+                final AtomicLongArray stripe = stripes.get(i);
+                if (stripe != null) {
+                    max = Math.max(max, stripe.get(MAX));
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Gets the mean of the recorded values.
+         *
+         * @return the mean of the recorded values, 0 if none
+         */
+        public double getMean() {
+            final long count = getCount();
+            return count == 0 ? 0 : (double) getTotal() / count;
+        }
+
+        /**
+         * Gets a percentile of the recorded values, like {@code getPercentile(99.9)} for the p999.
+         *
+         * <p>
+         * The result is the largest value of the bucket of the percentile, not more than the largest recorded value.
+         * </p>
+         *
+         * @param percentile the percentile, from 0 to 100
+         * @return the value below or at which the given percentage of the recorded values are, 0 if none
+         * @throws IllegalArgumentException if the percentile is not between 0 and 100
+         */
+        public long getPercentile(final double percentile) {
+            Validate.inclusiveBetween(0, 100, percentile, "percentile must be between 0 and 100");
+            final long[] counts = getBucketCounts();
+            long count = 0;
+            for (final long bucketCount : counts) {
+                count += bucketCount;
+            }
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValue(i), getMax());
+                }
+            }
+            return getMax();
+        }
+
+        /**
+         * Gets the stripe of the current thread, creating it if needed.
+         *
+         * @return the stripe of the current thread
+         */
+        private AtomicLongArray getStripe() {
+            final int index = (int) Thread.currentThread().getId() & (STRIPE_COUNT - 1);
+            final AtomicLongArray stripe = stripes.get(index);
+            if (stripe != null) {
+                return stripe;
+            }
+            stripes.compareAndSet(index, null, new AtomicLongArray(STRIPE_LENGTH));
+            return stripes.get(index);
+        }
+
+        /**
+         * Gets the sum of the recorded values.
+         *
+         * @return the sum of the recorded values
+         */
+        public long getTotal() {
+            long total = 0;
+            for (int i = 0; i < STRIPE_COUNT; i++) {
+                final AtomicLongArray stripe = stripes.get(i);
+                if (stripe != null) {
+                    total += stripe.get(TOTAL);
+                }
+            }
+            return total;
+        }
+
+        /**
+         * Records a value.
+         *
+         * @param value the value, not negative
+         * @throws IllegalArgumentException if the value is negative
+         */
+        public void record(final long value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("value must not be negative: " + value);
+            }
+            final AtomicLongArray stripe = getStripe();
+            stripe.getAndIncrement(bucketIndex(value));
+            stripe.getAndAdd(TOTAL, value);
+            long max = stripe.get(MAX);
+            while (value > max && !stripe.compareAndSet(MAX, max, value)) {
+                max = stripe.get(MAX);
+            }
+        }
+
+        /**
+         * Forgets the recorded values. Values recorded concurrently may be lost.
+         */
+        public void reset() {
+            for (int i = 0; i < STRIPE_COUNT; i++) {
+                stripes.set(i, null);
+            }
+        }
+
+        /**
+         * Gets a summary of this histogram: the count, mean, p50, p99, p999 and max of the recorded values.
+         *
+         * @return a summary of this histogram
+         */
+        @Override
+        public String toString() {
+            return String.format("count=%d, mean=%.1f, p50=%d, p99=%d, p999=%d, max=%d", getCount(), getMean(),
+                getPercentile(50), getPercentile(99), getPercentile(99.9), getMax());
+        }
+    }
+
+    /**
+     * The timing of one task, which records its split and lap times in the histograms of its
+     * {@link ConcurrentStopWatch}.
+     *
+     * <p>
+     * Like a {@link StopWatch}, a timing is meant for one thread.
+     * </p>
+     *
+     * <p>
+     * #NotThreadSafe#
+     * </p>
+     */
+    public static final class Timing {
+
+        private final ConcurrentStopWatch stopWatch;
+
+        private final long startNanos;
+
+        /** The time of the last split or lap, or the start time. */
+        private long lapNanos;
+
+        /**
+         * Constructs a timing started now.
+         *
+         * @param stopWatch the stop watch to record in
+         */
+        private Timing(final ConcurrentStopWatch stopWatch) {
+            this.stopWatch = stopWatch;
+            this.startNanos = System.nanoTime();
+            this.lapNanos = startNanos;
+        }
+
+        /**
+         * Gets the time this timing started, from {@link System#nanoTime()}.
+         *
+         * @return the start time in nanoseconds
+         */
+        public long getStartNanoTime() {
+            return startNanos;
+        }
+
+        /**
+         * Records the time since the last split or lap, or since the start, in the histogram of a name.
+         *
+         * @param name the name of the section of code
+         * @return the lap time in nanoseconds
+         * @throws NullPointerException if the name is null
+         */
+        public long lap(final String name) {
+            final long now = System.nanoTime();
+            final long lapTime = now - lapNanos;
+            lapNanos = now;
+            stopWatch.record(name, lapTime);
+            return lapTime;
+        }
+
+        /**
+         * Records the time since the start in the histogram of a name.
+         *
+         * @param name the name of the section of code
+         * @return the split time in nanoseconds
+         * @throws NullPointerException if the name is null
+         */
+        public long split(final String name) {
+            final long now = System.nanoTime();
+            final long splitTime = now - startNanos;
+            lapNanos = now;
+            stopWatch.record(name, splitTime);
+            return splitTime;
+        }
+    }
+
+    /**
+     * Creates a new stop watch without recorded times.
+     *
+     * @return a new ConcurrentStopWatch
+     */
+    public static ConcurrentStopWatch create() {
+        return new ConcurrentStopWatch();
+    }
+
+    /** The histograms by name. */
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    private ConcurrentStopWatch() {
+        // use create()
+    }
+
+    /**
+     * Times a supplier and records its time in the histogram of a name, even if it throws.
+     *
+     * @param <T> the type of results supplied by the supplier
+     * @param <E> the type of exceptions thrown by the supplier
+     * @param name the name of the section of code
+     * @param supplier the supplier to time
+     * @return the result of the supplier
+     * @throws E if the supplier throws it
+     * @throws NullPointerException if the name is null
+     */
+    public <T, E extends Throwable> T get(final String name, final FailableSupplier<T, E> supplier) throws E {
+        final long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            record(name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Gets the histogram of a name.
+     *
+     * @param name the name of the section of code
+     * @return the histogram, or {@code null} if no time was recorded with that name
+     */
+    public Histogram getHistogram(final String name) {
+        return histograms.get(name);
+    }
+
+    /**
+     * Gets the names with recorded times.
+     *
+     * @return an unmodifiable view of the names
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(histograms.keySet());
+    }
+
+    /**
+     * Records a time in the histogram of a name.
+     *
+     * @param name the name of the section of code
+     * @param nanos the time in nanoseconds, not negative
+     * @throws NullPointerException if the name is null
+     * @throws IllegalArgumentException if the time is negative
+     */
+    public void record(final String name, final long nanos) {
+        Histogram histogram = histograms.get(name);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(name, k -> new Histogram());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Forgets all recorded times and names.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Times a runnable and records its time in the histogram of a name, even if it throws.
+     *
+     * @param <E> the type of exceptions thrown by the runnable
+     * @param name the name of the section of code
+     * @param runnable the runnable to time
+     * @throws E if the runnable throws it
+     * @throws NullPointerException if the name is null
+     */
+    public <E extends Throwable> void run(final String name, final FailableRunnable<E> runnable) throws E {
+        final long start = System.nanoTime();
+        try {
+            runnable.run();
+        } finally {
+            record(name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Starts the timing of a task.
+     *
+     * @return a new timing, started now
+     */
+    public Timing start() {
+        return new Timing(this);
+    }
+
+    /**
+     * Gets a summary of the histograms, by name.
+     *
+     * @return a summary of the histograms
+     */
+    @Override
+    public String toString() {
+        final Map<String, Histogram> sorted = new TreeMap<>(histograms);
+        return sorted.toString();
+    }
+}
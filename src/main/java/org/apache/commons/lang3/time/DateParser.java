@@ -18,11 +18,15 @@
 
 import java.text.ParseException;
 import java.text.ParsePosition;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
 
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.Validate;
+
 /**
  * DateParser is the "missing" interface for the parsing methods of
  * {@link java.text.DateFormat}. You can obtain an object implementing this
@@ -75,6 +79,68 @@ public interface DateParser {
      */
     boolean parse(String source, ParsePosition pos, Calendar calendar);
 
+    /**
+     * Parses the beginnings of strings into milliseconds, like {@link #parse(String)}.
+     *
+     * @param sources the strings to parse.
+     * @return the milliseconds of the dates parsed from the strings.
+     * @throws ParseException if the beginning of one of the strings cannot be parsed, the error offset being in that
+     *         string.
+     * @throws NullPointerException if the array or one of its strings is null.
+     * @since 3.13.0
+     */
+    default long[] parseAll(final CharSequence[] sources) throws ParseException {
+        final long[] millis = new long[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            millis[i] = parse(sources[i].toString()).getTime();
+        }
+        return millis;
+    }
+
+    /**
+     * Parses a string of dates separated by a delimiter into milliseconds.
+     *
+     * <p>
+     * Each date must be followed by the delimiter or the end of the string. An empty string has no dates.
+     * </p>
+     *
+     * @param source the string to parse.
+     * @param delimiter the delimiter between the dates, not empty.
+     * @return the milliseconds of the dates parsed from the string.
+     * @throws ParseException if a date cannot be parsed or is not followed by the delimiter, the error offset being in
+     *         the string.
+     * @throws NullPointerException if the string or delimiter is null.
+     * @throws IllegalArgumentException if the delimiter is empty.
+     * @since 3.13.0
+     */
+    default long[] parseDelimited(final String source, final String delimiter) throws ParseException {
+        Validate.notEmpty(delimiter, "delimiter");
+        if (source.isEmpty()) {
+            return ArrayUtils.EMPTY_LONG_ARRAY;
+        }
+        long[] millis = new long[16];
+        int count = 0;
+        final ParsePosition pos = new ParsePosition(0);
+        while (true) {
+            final int index = pos.getIndex();
+            final Date date = parse(source, pos);
+            if (date == null) {
+                throw new ParseException("Unparseable date at " + index, pos.getErrorIndex());
+            }
+            if (count == millis.length) {
+                millis = Arrays.copyOf(millis, count * 2);
+            }
+            millis[count++] = date.getTime();
+            if (pos.getIndex() == source.length()) {
+                return Arrays.copyOf(millis, count);
+            }
+            if (!source.startsWith(delimiter, pos.getIndex())) {
+                throw new ParseException("Expected delimiter at " + pos.getIndex(), pos.getIndex());
+            }
+            pos.setIndex(pos.getIndex() + delimiter.length());
+        }
+    }
+
     // Accessors
     /**
      * Gets the pattern used by this parser.
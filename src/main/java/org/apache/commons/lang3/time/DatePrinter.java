@@ -16,6 +16,7 @@
  */
 package org.apache.commons.lang3.time;
 
+import java.io.IOException;
 import java.text.FieldPosition;
 import java.util.Calendar;
 import java.util.Date;
@@ -23,6 +24,8 @@
 import java.util.Locale;
 import java.util.TimeZone;
 
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
 /**
  * DatePrinter is the "missing" interface for the format methods of
  * {@link java.text.DateFormat}. You can obtain an object implementing this
@@ -139,6 +142,30 @@ public interface DatePrinter {
      */
     <B extends Appendable> B format(Calendar calendar, B buf);
 
+    /**
+     * Formats millisecond {@code long} values into the supplied {@link Appendable}, separated by a delimiter.
+     *
+     * @param millis  the millisecond values to format
+     * @param delimiter  the delimiter to append between the values
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     * @since 3.13.0
+     */
+    default <B extends Appendable> B format(final long[] millis, final CharSequence delimiter, final B buf) {
+        try {
+            for (int i = 0; i < millis.length; i++) {
+                if (i > 0) {
+                    buf.append(delimiter);
+                }
+                format(millis[i], buf);
+            }
+        } catch (final IOException e) {
+            ExceptionUtils.rethrow(e);
+        }
+        return buf;
+    }
+
 
     // Accessors
     /**
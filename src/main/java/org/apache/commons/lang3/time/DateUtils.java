@@ -20,6 +20,7 @@
 import java.text.ParsePosition;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.NoSuchElementException;
@@ -280,6 +281,7 @@ public static Date parseDate(final String str, final String... parsePatterns) th
      * @return the parsed date
      * @throws NullPointerException if the date string or pattern array is null
      * @throws ParseException if none of the date patterns were suitable (or there were none)
+     * @see MultiPatternDateParser
      * @since 3.2
      */
     public static Date parseDate(final String str, final Locale locale, final String... parsePatterns) throws ParseException {
@@ -321,6 +323,7 @@ public static Date parseDateStrictly(final String str, final String... parsePatt
      * @return the parsed date
      * @throws NullPointerException if the date string or pattern array is null
      * @throws ParseException if none of the date patterns were suitable
+     * @see MultiPatternDateParser
      * @since 3.2
      */
     public static Date parseDateStrictly(final String str, final Locale locale, final String... parsePatterns) throws ParseException {
@@ -754,6 +757,27 @@ public static Date round(final Object date, final int field) {
         throw new ClassCastException("Could not round " + date);
     }
 
+    /**
+     * Rounds an instant, leaving the field specified as the most
+     * significant field, in a time zone.
+     *
+     * <p>This gives the same result as the {@link Calendar} method for a {@link GregorianCalendar}
+     * in the given time zone, without creating one for the usual fields and instants: the local time
+     * is computed with an offset from a cached table of the offset transitions of the time zone.
+     * For example, bucketing timestamps by the nearest hour:
+     * {@code DateUtils.round(millis, Calendar.HOUR_OF_DAY, timeZone)}.</p>
+     *
+     * @param millis  the instant to work with, in milliseconds since the epoch
+     * @param field  the field from {@link Calendar} or {@code SEMI_MONTH}
+     * @param timeZone  the time zone of the fields, null means {@link TimeZone#getDefault()}
+     * @return the different rounded instant, in milliseconds since the epoch
+     * @throws ArithmeticException if the year is over 280 million
+     * @since 3.13.0
+     */
+    public static long round(final long millis, final int field, final TimeZone timeZone) {
+        return modify(millis, field, timeZone, ModifyType.ROUND);
+    }
+
     /**
      * Truncates a date, leaving the field specified as the most
      * significant field.
@@ -820,6 +844,27 @@ public static Date truncate(final Object date, final int field) {
         throw new ClassCastException("Could not truncate " + date);
     }
 
+    /**
+     * Truncates an instant, leaving the field specified as the most
+     * significant field, in a time zone.
+     *
+     * <p>This gives the same result as the {@link Calendar} method for a {@link GregorianCalendar}
+     * in the given time zone, without creating one for the usual fields and instants: the local time
+     * is computed with an offset from a cached table of the offset transitions of the time zone.
+     * For example, bucketing timestamps by hour:
+     * {@code DateUtils.truncate(millis, Calendar.HOUR_OF_DAY, timeZone)}.</p>
+     *
+     * @param millis  the instant to work with, in milliseconds since the epoch
+     * @param field  the field from {@link Calendar} or {@code SEMI_MONTH}
+     * @param timeZone  the time zone of the fields, null means {@link TimeZone#getDefault()}
+     * @return the different truncated instant, in milliseconds since the epoch
+     * @throws ArithmeticException if the year is over 280 million
+     * @since 3.13.0
+     */
+    public static long truncate(final long millis, final int field, final TimeZone timeZone) {
+        return modify(millis, field, timeZone, ModifyType.TRUNCATE);
+    }
+
     /**
      * Gets a date ceiling, leaving the field specified as the most
      * significant field.
@@ -889,6 +934,27 @@ public static Date ceiling(final Object date, final int field) {
         throw new ClassCastException("Could not find ceiling of for type: " + date.getClass());
     }
 
+    /**
+     * Gets an instant ceiling, leaving the field specified as the most
+     * significant field, in a time zone.
+     *
+     * <p>This gives the same result as the {@link Calendar} method for a {@link GregorianCalendar}
+     * in the given time zone, without creating one for the usual fields and instants: the local time
+     * is computed with an offset from a cached table of the offset transitions of the time zone.
+     * For example, the end of the day of a timestamp:
+     * {@code DateUtils.ceiling(millis, Calendar.DATE, timeZone)}.</p>
+     *
+     * @param millis  the instant to work with, in milliseconds since the epoch
+     * @param field  the field from {@link Calendar} or {@code SEMI_MONTH}
+     * @param timeZone  the time zone of the fields, null means {@link TimeZone#getDefault()}
+     * @return the different ceil instant, in milliseconds since the epoch
+     * @throws ArithmeticException if the year is over 280 million
+     * @since 3.13.0
+     */
+    public static long ceiling(final long millis, final int field, final TimeZone timeZone) {
+        return modify(millis, field, timeZone, ModifyType.CEILING);
+    }
+
     /**
      * Internal calculation method.
      *
@@ -1037,6 +1103,155 @@ private static Calendar modify(final Calendar val, final int field, final Modify
         throw new IllegalArgumentException("The field " + field + " is not supported");
     }
 
+
+    /**
+     * Internal calculation method for instants, which works on the local time when the offset of the time zone
+     * doesn't change between the truncated instant and the result, and on a {@link GregorianCalendar} otherwise.
+     *
+     * @param millis  the instant, in milliseconds since the epoch
+     * @param field  the field constant
+     * @param timeZone  the time zone, null means the default time zone
+     * @param modType  type to truncate, round or ceiling
+     * @return the modified instant, in milliseconds since the epoch
+     * @throws ArithmeticException if the year is over 280 million
+     */
+    private static long modify(final long millis, final int field, final TimeZone timeZone, final ModifyType modType) {
+        final TimeZone zone = TimeZones.toTimeZone(timeZone);
+        final ZoneOffsetTable table = ZoneOffsetTable.getInstance(zone);
+        final int offset = table != null ? table.getOffset(millis) : ZoneOffsetTable.UNKNOWN;
+        if (offset != ZoneOffsetTable.UNKNOWN) {
+            if (field == Calendar.MILLISECOND) {
+                return millis;
+            }
+            final long local = millis + offset;
+            final long truncated = truncateLocal(local, field);
+            if (truncated != Long.MIN_VALUE) {
+                final long result = modType == ModifyType.CEILING || modType == ModifyType.ROUND && isRoundUp(local, field)
+                    ? ceilingLocal(truncated, field) : truncated;
+                // Rounding up AM_PM and SEMI_MONTH goes back to the start of the day and month first.
+                final long start = field == Calendar.AM_PM ? truncateLocal(local, Calendar.DATE)
+                    : field == SEMI_MONTH ? truncateLocal(local, Calendar.MONTH) : truncated;
+                // With a single offset, and no repeated local times that the Calendar could resolve to the other
+                // instant, the Calendar fields are those of the local time.
+                if (start - offset >= table.getOffsetStart(millis) && Math.max(millis, result - offset) < table.getOffsetEnd(millis)
+                    && table.getOffsetOfLocal(start) == offset && table.getOffsetOfLocal(Math.max(local, result)) == offset) {
+                    return result - offset;
+                }
+            }
+        }
+        final Calendar calendar = new GregorianCalendar(zone);
+        calendar.setTimeInMillis(millis);
+        return modify(calendar, field, modType).getTimeInMillis();
+    }
+
+    /**
+     * Truncates a local time like {@link #modify(Calendar, int, ModifyType)}.
+     *
+     * @param local  the local time, in milliseconds since 1970-01-01T00:00 local time
+     * @param field  the field constant
+     * @return the truncated local time, or {@link Long#MIN_VALUE} if the field is not one of the usual fields
+     */
+    private static long truncateLocal(final long local, final int field) {
+        final long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+        switch (field) {
+        case Calendar.SECOND:
+            return Math.floorDiv(local, MILLIS_PER_SECOND) * MILLIS_PER_SECOND;
+        case Calendar.MINUTE:
+            return Math.floorDiv(local, MILLIS_PER_MINUTE) * MILLIS_PER_MINUTE;
+        case Calendar.HOUR:
+        case Calendar.HOUR_OF_DAY:
+            return Math.floorDiv(local, MILLIS_PER_HOUR) * MILLIS_PER_HOUR;
+        case Calendar.AM_PM:
+            return epochDay * MILLIS_PER_DAY + (local - epochDay * MILLIS_PER_DAY) / (MILLIS_PER_DAY / 2) * (MILLIS_PER_DAY / 2);
+        case Calendar.DATE:
+            return epochDay * MILLIS_PER_DAY;
+        case SEMI_MONTH:
+            final int day = ZoneOffsetTable.getLocalDate(epochDay) & 0x1F;
+            return (epochDay - (day < 16 ? day - 1 : day - 16)) * MILLIS_PER_DAY;
+        case Calendar.MONTH:
+            return (epochDay - (ZoneOffsetTable.getLocalDate(epochDay) & 0x1F) + 1) * MILLIS_PER_DAY;
+        case Calendar.YEAR:
+            return ZoneOffsetTable.toEpochDay(ZoneOffsetTable.getLocalDate(epochDay) >> 9, Calendar.JANUARY) * MILLIS_PER_DAY;
+        default:
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Tests whether {@link #modify(Calendar, int, ModifyType)} rounds a local time up, from the value of the next less
+     * significant field.
+     *
+     * @param local  the local time, in milliseconds since 1970-01-01T00:00 local time
+     * @param field  the field constant, one of those supported by {@link #truncateLocal(long, int)}
+     * @return whether the local time is rounded up
+     */
+    private static boolean isRoundUp(final long local, final int field) {
+        final long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+        final int millisOfDay = (int) (local - epochDay * MILLIS_PER_DAY);
+        switch (field) {
+        case Calendar.SECOND:
+            return millisOfDay % MILLIS_PER_SECOND > 499;
+        case Calendar.MINUTE:
+            return millisOfDay / MILLIS_PER_SECOND % 60 > 29;
+        case Calendar.HOUR:
+        case Calendar.HOUR_OF_DAY:
+            return millisOfDay / MILLIS_PER_MINUTE % 60 > 29;
+        case Calendar.AM_PM:
+            return millisOfDay / MILLIS_PER_HOUR % 12 >= 6;
+        case Calendar.DATE:
+            return millisOfDay / MILLIS_PER_HOUR > 11;
+        case SEMI_MONTH:
+            final int day = ZoneOffsetTable.getLocalDate(epochDay) & 0x1F;
+            return (day < 16 ? day - 1 : day - 16) > 7;
+        case Calendar.MONTH:
+            final int date = ZoneOffsetTable.getLocalDate(epochDay);
+            final int month = (date >> 5 & 0xF) - 1;
+            final int year = date >> 9;
+            final long monthLength = (month == Calendar.DECEMBER ? ZoneOffsetTable.toEpochDay(year + 1, Calendar.JANUARY)
+                : ZoneOffsetTable.toEpochDay(year, month + 1)) - ZoneOffsetTable.toEpochDay(year, month);
+            return (date & 0x1F) - 1 > (monthLength - 1) / 2;
+        default:
+            // Calendar.YEAR
+            return (ZoneOffsetTable.getLocalDate(epochDay) >> 5 & 0xF) - 1 > Calendar.JUNE;
+        }
+    }
+
+    /**
+     * Adds one unit of a field to a truncated local time like {@link #modify(Calendar, int, ModifyType)}.
+     *
+     * @param truncated  the truncated local time, in milliseconds since 1970-01-01T00:00 local time
+     * @param field  the field constant, one of those supported by {@link #truncateLocal(long, int)}
+     * @return the next local time
+     */
+    private static long ceilingLocal(final long truncated, final int field) {
+        switch (field) {
+        case Calendar.SECOND:
+            return truncated + MILLIS_PER_SECOND;
+        case Calendar.MINUTE:
+            return truncated + MILLIS_PER_MINUTE;
+        case Calendar.HOUR:
+        case Calendar.HOUR_OF_DAY:
+            return truncated + MILLIS_PER_HOUR;
+        case Calendar.AM_PM:
+            return truncated + MILLIS_PER_DAY / 2;
+        case Calendar.DATE:
+            return truncated + MILLIS_PER_DAY;
+        default:
+            final long epochDay = Math.floorDiv(truncated, MILLIS_PER_DAY);
+            final int date = ZoneOffsetTable.getLocalDate(epochDay);
+            if (field == SEMI_MONTH && (date & 0x1F) == 1) {
+                return truncated + 15 * MILLIS_PER_DAY;
+            }
+            final int month = (date >> 5 & 0xF) - 1;
+            final int year = date >> 9;
+            if (field == Calendar.YEAR) {
+                return ZoneOffsetTable.toEpochDay(year + 1, Calendar.JANUARY) * MILLIS_PER_DAY;
+            }
+            return (month == Calendar.DECEMBER ? ZoneOffsetTable.toEpochDay(year + 1, Calendar.JANUARY)
+                : ZoneOffsetTable.toEpochDay(year, month + 1)) * MILLIS_PER_DAY;
+        }
+    }
+
     /**
      * Constructs an {@link Iterator} over each day in a date
      * range defined by a focus date and range style.
@@ -18,11 +18,7 @@
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.GregorianCalendar;
 import java.util.TimeZone;
-import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
@@ -48,6 +44,9 @@
  * Token values are printed using decimal digits.
  * A token character can be repeated to ensure that the field occupies a certain minimum
  * size. Values will be left-padded with 0 unless padding is disabled in the method invocation.
+ * <p>
+ * To format many durations with the same pattern, use a {@link DurationFormatter}, which compiles the pattern once.
+ * </p>
  * @since 2.1
  */
 public class DurationFormatUtils {
@@ -129,33 +128,7 @@ public static String formatDuration(final long durationMillis, final String form
      */
     public static String formatDuration(final long durationMillis, final String format, final boolean padWithZeros) {
         Validate.inclusiveBetween(0, Long.MAX_VALUE, durationMillis, "durationMillis must not be negative");
-
-        final Token[] tokens = lexx(format);
-
-        long days = 0;
-        long hours = 0;
-        long minutes = 0;
-        long seconds = 0;
-        long milliseconds = durationMillis;
-
-        if (Token.containsTokenWithValue(tokens, d)) {
-            days = milliseconds / DateUtils.MILLIS_PER_DAY;
-            milliseconds = milliseconds - (days * DateUtils.MILLIS_PER_DAY);
-        }
-        if (Token.containsTokenWithValue(tokens, H)) {
-            hours = milliseconds / DateUtils.MILLIS_PER_HOUR;
-            milliseconds = milliseconds - (hours * DateUtils.MILLIS_PER_HOUR);
-        }
-        if (Token.containsTokenWithValue(tokens, m)) {
-            minutes = milliseconds / DateUtils.MILLIS_PER_MINUTE;
-            milliseconds = milliseconds - (minutes * DateUtils.MILLIS_PER_MINUTE);
-        }
-        if (Token.containsTokenWithValue(tokens, s)) {
-            seconds = milliseconds / DateUtils.MILLIS_PER_SECOND;
-            milliseconds = milliseconds - (seconds * DateUtils.MILLIS_PER_SECOND);
-        }
-
-        return format(tokens, 0, 0, days, hours, minutes, seconds, milliseconds, padWithZeros);
+        return DurationFormatter.getInstance(format, padWithZeros).format(durationMillis);
     }
 
     /**
@@ -278,202 +251,7 @@ public static String formatPeriod(final long startMillis, final long endMillis,
     public static String formatPeriod(final long startMillis, final long endMillis, final String format, final boolean padWithZeros,
             final TimeZone timezone) {
         Validate.isTrue(startMillis <= endMillis, "startMillis must not be greater than endMillis");
-
-
-        // Used to optimise for differences under 28 days and
-        // called formatDuration(millis, format); however this did not work
-        // over leap years.
-        // TODO: Compare performance to see if anything was lost by
-        // losing this optimisation.
-
-        final Token[] tokens = lexx(format);
-
-        // time zones get funky around 0, so normalizing everything to GMT
-        // stops the hours being off
-        final Calendar start = Calendar.getInstance(timezone);
-        start.setTime(new Date(startMillis));
-        final Calendar end = Calendar.getInstance(timezone);
-        end.setTime(new Date(endMillis));
-
-        // initial estimates
-        int milliseconds = end.get(Calendar.MILLISECOND) - start.get(Calendar.MILLISECOND);
-        int seconds = end.get(Calendar.SECOND) - start.get(Calendar.SECOND);
-        int minutes = end.get(Calendar.MINUTE) - start.get(Calendar.MINUTE);
-        int hours = end.get(Calendar.HOUR_OF_DAY) - start.get(Calendar.HOUR_OF_DAY);
-        int days = end.get(Calendar.DAY_OF_MONTH) - start.get(Calendar.DAY_OF_MONTH);
-        int months = end.get(Calendar.MONTH) - start.get(Calendar.MONTH);
-        int years = end.get(Calendar.YEAR) - start.get(Calendar.YEAR);
-
-        // each initial estimate is adjusted in case it is under 0
-        while (milliseconds < 0) {
-            milliseconds += 1000;
-            seconds -= 1;
-        }
-        while (seconds < 0) {
-            seconds += 60;
-            minutes -= 1;
-        }
-        while (minutes < 0) {
-            minutes += 60;
-            hours -= 1;
-        }
-        while (hours < 0) {
-            hours += 24;
-            days -= 1;
-        }
-
-        if (Token.containsTokenWithValue(tokens, M)) {
-            while (days < 0) {
-                days += start.getActualMaximum(Calendar.DAY_OF_MONTH);
-                months -= 1;
-                start.add(Calendar.MONTH, 1);
-            }
-
-            while (months < 0) {
-                months += 12;
-                years -= 1;
-            }
-
-            if (!Token.containsTokenWithValue(tokens, y) && years != 0) {
-                while (years != 0) {
-                    months += 12 * years;
-                    years = 0;
-                }
-            }
-        } else {
-            // there are no M's in the format string
-
-            if (!Token.containsTokenWithValue(tokens, y)) {
-                int target = end.get(Calendar.YEAR);
-                if (months < 0) {
-                    // target is end-year -1
-                    target -= 1;
-                }
-
-                while (start.get(Calendar.YEAR) != target) {
-                    days += start.getActualMaximum(Calendar.DAY_OF_YEAR) - start.get(Calendar.DAY_OF_YEAR);
-
-                    // Not sure I grok why this is needed, but the brutal tests show it is
-                    if (start instanceof GregorianCalendar &&
-                            start.get(Calendar.MONTH) == Calendar.FEBRUARY &&
-                            start.get(Calendar.DAY_OF_MONTH) == 29) {
-                        days += 1;
-                    }
-
-                    start.add(Calendar.YEAR, 1);
-
-                    days += start.get(Calendar.DAY_OF_YEAR);
-                }
-
-                years = 0;
-            }
-
-            while (start.get(Calendar.MONTH) != end.get(Calendar.MONTH)) {
-                days += start.getActualMaximum(Calendar.DAY_OF_MONTH);
-                start.add(Calendar.MONTH, 1);
-            }
-
-            months = 0;
-
-            while (days < 0) {
-                days += start.getActualMaximum(Calendar.DAY_OF_MONTH);
-                months -= 1;
-                start.add(Calendar.MONTH, 1);
-            }
-
-        }
-
-        // The rest of this code adds in values that
-        // aren't requested. This allows the user to ask for the
-        // number of months and get the real count and not just 0->11.
-
-        if (!Token.containsTokenWithValue(tokens, d)) {
-            hours += 24 * days;
-            days = 0;
-        }
-        if (!Token.containsTokenWithValue(tokens, H)) {
-            minutes += 60 * hours;
-            hours = 0;
-        }
-        if (!Token.containsTokenWithValue(tokens, m)) {
-            seconds += 60 * minutes;
-            minutes = 0;
-        }
-        if (!Token.containsTokenWithValue(tokens, s)) {
-            milliseconds += 1000 * seconds;
-            seconds = 0;
-        }
-
-        return format(tokens, years, months, days, hours, minutes, seconds, milliseconds, padWithZeros);
-    }
-
-    /**
-     * The internal method to do the formatting.
-     *
-     * @param tokens  the tokens
-     * @param years  the number of years
-     * @param months  the number of months
-     * @param days  the number of days
-     * @param hours  the number of hours
-     * @param minutes  the number of minutes
-     * @param seconds  the number of seconds
-     * @param milliseconds  the number of millis
-     * @param padWithZeros  whether to pad
-     * @return the formatted string
-     */
-    static String format(final Token[] tokens, final long years, final long months, final long days, final long hours, final long minutes, final long seconds,
-            final long milliseconds, final boolean padWithZeros) {
-        final StringBuilder buffer = new StringBuilder();
-        boolean lastOutputSeconds = false;
-        for (final Token token : tokens) {
-            final Object value = token.getValue();
-            final int count = token.getCount();
-            if (value instanceof StringBuilder) {
-                buffer.append(value.toString());
-            } else if (value.equals(y)) {
-                buffer.append(paddedValue(years, padWithZeros, count));
-                lastOutputSeconds = false;
-            } else if (value.equals(M)) {
-                buffer.append(paddedValue(months, padWithZeros, count));
-                lastOutputSeconds = false;
-            } else if (value.equals(d)) {
-                buffer.append(paddedValue(days, padWithZeros, count));
-                lastOutputSeconds = false;
-            } else if (value.equals(H)) {
-                buffer.append(paddedValue(hours, padWithZeros, count));
-                lastOutputSeconds = false;
-            } else if (value.equals(m)) {
-                buffer.append(paddedValue(minutes, padWithZeros, count));
-                lastOutputSeconds = false;
-            } else if (value.equals(s)) {
-                buffer.append(paddedValue(seconds, padWithZeros, count));
-                lastOutputSeconds = true;
-            } else if (value.equals(S)) {
-                if (lastOutputSeconds) {
-                    // ensure at least 3 digits are displayed even if padding is not selected
-                    final int width = padWithZeros ? Math.max(3, count) : 3;
-                    buffer.append(paddedValue(milliseconds, true, width));
-                } else {
-                    buffer.append(paddedValue(milliseconds, padWithZeros, count));
-                }
-                lastOutputSeconds = false;
-            }
-        }
-        return buffer.toString();
-    }
-
-    /**
-     * Converts a {@code long} to a {@link String} with optional
-     * zero padding.
-     *
-     * @param value the value to convert
-     * @param padWithZeros whether to pad with zeroes
-     * @param count the size to pad to (ignored if {@code padWithZeros} is false)
-     * @return the string result
-     */
-    private static String paddedValue(final long value, final boolean padWithZeros, final int count) {
-        final String longString = Long.toString(value);
-        return padWithZeros ? StringUtils.leftPad(longString, count, '0') : longString;
+        return DurationFormatter.getInstance(format, padWithZeros).formatPeriod(startMillis, endMillis, timezone);
     }
 
     static final String y = "y";
@@ -571,17 +349,6 @@ static class Token {
         /** Empty array. */
         private static final Token[] EMPTY_ARRAY = {};
 
-        /**
-         * Helper method to determine if a set of tokens contain a value
-         *
-         * @param tokens set to look in
-         * @param value to look for
-         * @return boolean {@code true} if contained
-         */
-        static boolean containsTokenWithValue(final Token[] tokens, final Object value) {
-            return Stream.of(tokens).anyMatch(token -> token.getValue() == value);
-        }
-
         private final Object value;
         private int count;
 
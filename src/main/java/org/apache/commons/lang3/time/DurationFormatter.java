@@ -0,0 +1,480 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.io.IOException;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.commons.lang3.time.DurationFormatUtils.Token;
+
+/**
+ * Formats durations and periods with a pattern compiled once, like the methods of {@link DurationFormatUtils}.
+ *
+ * <p>The pattern language is described by {@link DurationFormatUtils}. Obtain a formatter with
+ * {@link #getInstance(String)} or {@link #getInstance(String, boolean)}, which cache the formatters they create,
+ * and reuse it: formatting neither parses the pattern again nor builds intermediate strings.</p>
+ *
+ * <pre>
+ * DurationFormatter formatter = DurationFormatter.getInstance("HH:mm:ss.SSS");
+ * formatter.format(3_723_004L) = "01:02:03.004"
+ * </pre>
+ *
+ * <p>#ThreadSafe#</p>
+ *
+ * @see DurationFormatUtils
+ * @since 3.13.0
+ */
+public final class DurationFormatter {
+
+    /** The index of years in the values of a duration. */
+    private static final int YEARS = 0;
+
+    /** The index of months in the values of a duration. */
+    private static final int MONTHS = 1;
+
+    /** The index of days in the values of a duration. */
+    private static final int DAYS = 2;
+
+    /** The index of hours in the values of a duration. */
+    private static final int HOURS = 3;
+
+    /** The index of minutes in the values of a duration. */
+    private static final int MINUTES = 4;
+
+    /** The index of seconds in the values of a duration. */
+    private static final int SECONDS = 5;
+
+    /** The index of milliseconds in the values of a duration. */
+    private static final int MILLISECONDS = 6;
+
+    /** The kind of a literal text element. */
+    private static final int LITERAL = -1;
+
+    /** The duration elements, in the order of their indices. */
+    private static final String[] VALUES = {DurationFormatUtils.y, DurationFormatUtils.M, DurationFormatUtils.d,
+        DurationFormatUtils.H, DurationFormatUtils.m, DurationFormatUtils.s, DurationFormatUtils.S};
+
+    /** The formatters padding with zeros, by pattern. */
+    private static final BoundedCache<String, DurationFormatter> PADDED = new BoundedCache<>(FormatCache.DEFAULT_MAXIMUM_SIZE);
+
+    /** The formatters not padding with zeros, by pattern. */
+    private static final BoundedCache<String, DurationFormatter> UNPADDED = new BoundedCache<>(FormatCache.DEFAULT_MAXIMUM_SIZE);
+
+    /**
+     * Appends a {@code long} padded with zeros.
+     *
+     * @param buf the buffer to append to
+     * @param value the value to append
+     * @param width the minimum number of characters to append
+     * @throws IOException if an I/O error occurs
+     */
+    private static void appendPadded(final Appendable buf, final long value, final int width) throws IOException {
+        if (value < 0) {
+            // As StringUtils.leftPad, zeros before the sign.
+            buf.append(StringUtils.leftPad(Long.toString(value), width, '0'));
+            return;
+        }
+        long power = 1;
+        int digits = 1;
+        while (digits < 19 && value >= power * 10) {
+            power *= 10;
+            digits++;
+        }
+        for (int i = digits; i < width; i++) {
+            buf.append('0');
+        }
+        for (; power > 0; power /= 10) {
+            buf.append((char) ('0' + value / power % 10));
+        }
+    }
+
+    /**
+     * Gets a formatter for a pattern, padding the left-hand side of numbers with zeros.
+     *
+     * @param pattern the way in which to format durations, not null
+     * @return a formatter
+     * @throws NullPointerException if the pattern is null
+     * @throws IllegalArgumentException if the pattern has an unmatched quote
+     */
+    public static DurationFormatter getInstance(final String pattern) {
+        return getInstance(pattern, true);
+    }
+
+    /**
+     * Gets a formatter for a pattern.
+     *
+     * @param pattern the way in which to format durations, not null
+     * @param padWithZeros whether to pad the left-hand side of numbers with 0's
+     * @return a formatter
+     * @throws NullPointerException if the pattern is null
+     * @throws IllegalArgumentException if the pattern has an unmatched quote
+     */
+    public static DurationFormatter getInstance(final String pattern, final boolean padWithZeros) {
+        Objects.requireNonNull(pattern, "pattern");
+        return (padWithZeros ? PADDED : UNPADDED).get(pattern, k -> new DurationFormatter(pattern, padWithZeros));
+    }
+
+    private final String pattern;
+
+    private final boolean padWithZeros;
+
+    /** Whether the pattern has each duration element, by index. */
+    private final boolean[] present = new boolean[VALUES.length];
+
+    /** The index of the value of each element of the pattern, {@link #LITERAL} for text. */
+    private final int[] kinds;
+
+    /** The minimum width of each element of the pattern. */
+    private final int[] widths;
+
+    /** Whether to pad each element of the pattern with zeros. */
+    private final boolean[] pads;
+
+    /** The text of each literal element of the pattern. */
+    private final String[] literals;
+
+    private DurationFormatter(final String pattern, final boolean padWithZeros) {
+        this.pattern = pattern;
+        this.padWithZeros = padWithZeros;
+        final Token[] tokens = DurationFormatUtils.lexx(pattern);
+        kinds = new int[tokens.length];
+        widths = new int[tokens.length];
+        pads = new boolean[tokens.length];
+        literals = new String[tokens.length];
+        boolean lastOutputSeconds = false;
+        for (int i = 0; i < tokens.length; i++) {
+            final Object value = tokens[i].getValue();
+            final int count = tokens[i].getCount();
+            if (value instanceof StringBuilder) {
+                kinds[i] = LITERAL;
+                literals[i] = value.toString();
+                continue;
+            }
+            int kind = 0;
+            while (VALUES[kind] != value) {
+                kind++;
+            }
+            kinds[i] = kind;
+            present[kind] = true;
+            if (kind == MILLISECONDS && lastOutputSeconds) {
+                // ensure at least 3 digits are displayed even if padding is not selected
+                widths[i] = padWithZeros ? Math.max(3, count) : 3;
+                pads[i] = true;
+            } else {
+                widths[i] = count;
+                pads[i] = padWithZeros;
+            }
+            lastOutputSeconds = kind == SECONDS;
+        }
+    }
+
+    /**
+     * Appends the elements of the pattern.
+     *
+     * @param buf the buffer to append to
+     * @param years the years of the duration
+     * @param months the months of the duration
+     * @param days the days of the duration
+     * @param hours the hours of the duration
+     * @param minutes the minutes of the duration
+     * @param seconds the seconds of the duration
+     * @param milliseconds the milliseconds of the duration
+     * @return the buffer
+     */
+    private <B extends Appendable> B append(final B buf, final long years, final long months, final long days,
+        final long hours, final long minutes, final long seconds, final long milliseconds) {
+        try {
+            for (int i = 0; i < kinds.length; i++) {
+                final long value;
+                switch (kinds[i]) {
+                case LITERAL:
+                    buf.append(literals[i]);
+                    continue;
+                case YEARS:
+                    value = years;
+                    break;
+                case MONTHS:
+                    value = months;
+                    break;
+                case DAYS:
+                    value = days;
+                    break;
+                case HOURS:
+                    value = hours;
+                    break;
+                case MINUTES:
+                    value = minutes;
+                    break;
+                case SECONDS:
+                    value = seconds;
+                    break;
+                default:
+                    value = milliseconds;
+                    break;
+                }
+                appendPadded(buf, value, pads[i] ? widths[i] : 0);
+            }
+        } catch (final IOException e) {
+            ExceptionUtils.rethrow(e);
+        }
+        return buf;
+    }
+
+    /**
+     * Formats a duration.
+     *
+     * <p>This method formats durations using the days and lower fields of the pattern. Months and larger are not
+     * used.</p>
+     *
+     * @param durationMillis the duration to format
+     * @return the formatted duration, not null
+     * @throws IllegalArgumentException if durationMillis is negative
+     * @see DurationFormatUtils#formatDuration(long, String, boolean)
+     */
+    public String format(final long durationMillis) {
+        return format(durationMillis, new StringBuilder(pattern.length() + 8)).toString();
+    }
+
+    /**
+     * Formats a duration into the supplied {@link Appendable}.
+     *
+     * <p>This method formats durations using the days and lower fields of the pattern. Months and larger are not
+     * used.</p>
+     *
+     * @param durationMillis the duration to format
+     * @param buf the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     * @throws IllegalArgumentException if durationMillis is negative
+     */
+    public <B extends Appendable> B format(final long durationMillis, final B buf) {
+        Validate.inclusiveBetween(0, Long.MAX_VALUE, durationMillis, "durationMillis must not be negative");
+
+        long days = 0;
+        long hours = 0;
+        long minutes = 0;
+        long seconds = 0;
+        long milliseconds = durationMillis;
+
+        if (present[DAYS]) {
+            days = milliseconds / DateUtils.MILLIS_PER_DAY;
+            milliseconds = milliseconds - days * DateUtils.MILLIS_PER_DAY;
+        }
+        if (present[HOURS]) {
+            hours = milliseconds / DateUtils.MILLIS_PER_HOUR;
+            milliseconds = milliseconds - hours * DateUtils.MILLIS_PER_HOUR;
+        }
+        if (present[MINUTES]) {
+            minutes = milliseconds / DateUtils.MILLIS_PER_MINUTE;
+            milliseconds = milliseconds - minutes * DateUtils.MILLIS_PER_MINUTE;
+        }
+        if (present[SECONDS]) {
+            seconds = milliseconds / DateUtils.MILLIS_PER_SECOND;
+            milliseconds = milliseconds - seconds * DateUtils.MILLIS_PER_SECOND;
+        }
+
+        return append(buf, 0, 0, days, hours, minutes, seconds, milliseconds);
+    }
+
+    /**
+     * Formats the time gap between two instants.
+     *
+     * @param startMillis the start of the duration
+     * @param endMillis the end of the duration
+     * @param timeZone the time zone the millis are defined in
+     * @return the formatted duration, not null
+     * @throws IllegalArgumentException if startMillis is greater than endMillis
+     * @see DurationFormatUtils#formatPeriod(long, long, String, boolean, TimeZone)
+     */
+    public String formatPeriod(final long startMillis, final long endMillis, final TimeZone timeZone) {
+        return formatPeriod(startMillis, endMillis, timeZone, new StringBuilder(pattern.length() + 8)).toString();
+    }
+
+    /**
+     * Formats the time gap between two instants into the supplied {@link Appendable}.
+     *
+     * <p>When calculating the difference between months/days, it chooses to
+     * calculate months first. So when working out the number of months and
+     * days between January 15th and March 10th, it choose 1 month and
+     * 23 days gained by choosing January-&gt;February = 1 month and then
+     * calculating days forwards, and not the 1 month and 26 days gained by
+     * choosing March -&gt; February = 1 month and then calculating days
+     * backwards.</p>
+     *
+     * @param startMillis the start of the duration
+     * @param endMillis the end of the duration
+     * @param timeZone the time zone the millis are defined in
+     * @param buf the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     * @throws IllegalArgumentException if startMillis is greater than endMillis
+     */
+    public <B extends Appendable> B formatPeriod(final long startMillis, final long endMillis, final TimeZone timeZone,
+        final B buf) {
+        Validate.isTrue(startMillis <= endMillis, "startMillis must not be greater than endMillis");
+
+        // time zones get funky around 0, so normalizing everything to GMT
+        // stops the hours being off
+        final Calendar start = Calendar.getInstance(timeZone);
+        start.setTimeInMillis(startMillis);
+        final Calendar end = Calendar.getInstance(timeZone);
+        end.setTimeInMillis(endMillis);
+
+        // initial estimates
+        int milliseconds = end.get(Calendar.MILLISECOND) - start.get(Calendar.MILLISECOND);
+        int seconds = end.get(Calendar.SECOND) - start.get(Calendar.SECOND);
+        int minutes = end.get(Calendar.MINUTE) - start.get(Calendar.MINUTE);
+        int hours = end.get(Calendar.HOUR_OF_DAY) - start.get(Calendar.HOUR_OF_DAY);
+        int days = end.get(Calendar.DAY_OF_MONTH) - start.get(Calendar.DAY_OF_MONTH);
+        int months = end.get(Calendar.MONTH) - start.get(Calendar.MONTH);
+        int years = end.get(Calendar.YEAR) - start.get(Calendar.YEAR);
+
+        // each initial estimate is adjusted in case it is under 0
+        while (milliseconds < 0) {
+            milliseconds += 1000;
+            seconds -= 1;
+        }
+        while (seconds < 0) {
+            seconds += 60;
+            minutes -= 1;
+        }
+        while (minutes < 0) {
+            minutes += 60;
+            hours -= 1;
+        }
+        while (hours < 0) {
+            hours += 24;
+            days -= 1;
+        }
+
+        if (present[MONTHS]) {
+            while (days < 0) {
+                days += start.getActualMaximum(Calendar.DAY_OF_MONTH);
+                months -= 1;
+                start.add(Calendar.MONTH, 1);
+            }
+
+            while (months < 0) {
+                months += 12;
+                years -= 1;
+            }
+
+            if (!present[YEARS] && years != 0) {
+                months += 12 * years;
+                years = 0;
+            }
+        } else {
+            // there are no M's in the format string
+
+            if (!present[YEARS]) {
+                int target = end.get(Calendar.YEAR);
+                if (months < 0) {
+                    // target is end-year -1
+                    target -= 1;
+                }
+
+                while (start.get(Calendar.YEAR) != target) {
+                    days += start.getActualMaximum(Calendar.DAY_OF_YEAR) - start.get(Calendar.DAY_OF_YEAR);
+
+                    // Not sure I grok why this is needed, but the brutal tests show it is
+                    if (start instanceof GregorianCalendar &&
+                            start.get(Calendar.MONTH) == Calendar.FEBRUARY &&
+                            start.get(Calendar.DAY_OF_MONTH) == 29) {
+                        days += 1;
+                    }
+
+                    start.add(Calendar.YEAR, 1);
+
+                    days += start.get(Calendar.DAY_OF_YEAR);
+                }
+
+                years = 0;
+            }
+
+            while (start.get(Calendar.MONTH) != end.get(Calendar.MONTH)) {
+                days += start.getActualMaximum(Calendar.DAY_OF_MONTH);
+                start.add(Calendar.MONTH, 1);
+            }
+
+            months = 0;
+
+            while (days < 0) {
+                days += start.getActualMaximum(Calendar.DAY_OF_MONTH);
+                months -= 1;
+                start.add(Calendar.MONTH, 1);
+            }
+
+        }
+
+        // The rest of this code adds in values that
+        // aren't requested. This allows the user to ask for the
+        // number of months and get the real count and not just 0->11.
+
+        if (!present[DAYS]) {
+            hours += 24 * days;
+            days = 0;
+        }
+        if (!present[HOURS]) {
+            minutes += 60 * hours;
+            hours = 0;
+        }
+        if (!present[MINUTES]) {
+            seconds += 60 * minutes;
+            minutes = 0;
+        }
+        if (!present[SECONDS]) {
+            milliseconds += 1000 * seconds;
+            seconds = 0;
+        }
+
+        return append(buf, years, months, days, hours, minutes, seconds, milliseconds);
+    }
+
+    /**
+     * Gets the pattern of this formatter.
+     *
+     * @return the pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Tests whether this formatter pads the left-hand side of numbers with zeros.
+     *
+     * @return whether this formatter pads numbers with zeros
+     */
+    public boolean isPadWithZeros() {
+        return padWithZeros;
+    }
+
+    /**
+     * Gets a string version of this formatter.
+     *
+     * @return a debugging string
+     */
+    @Override
+    public String toString() {
+        return "DurationFormatter[" + pattern + ", padWithZeros=" + padWithZeros + "]";
+    }
+}
@@ -101,6 +101,121 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
      */
     public static final int SHORT = DateFormat.SHORT;
 
+    /**
+     * Formats and parses dates with a {@link FastDateFormat}, reusing a Calendar, a buffer and a parse position between
+     * calls.
+     *
+     * <p>A {@link FastDateFormat} creates a Calendar for each date it can't format or parse without one, and a buffer
+     * for each formatted string. A context is meant to be held by a single thread, for example in a loop or a
+     * {@link ThreadLocal}, so that formatting a date allocates the output String only, and parsing a date the output
+     * {@link Date} only. Obtain one with {@link FastDateFormat#newContext()}.</p>
+     *
+     * <p>#NotThreadSafe#</p>
+     *
+     * @since 3.13.0
+     */
+    public final class Context {
+
+        /** The Calendar of the printer, for the dates that can't be formatted without one. */
+        private final Calendar calendar = printer.newCalendar();
+
+        /** Parses with a Calendar reused for the dates that can't be scanned. */
+        private final FastDateParser.BatchParser batchParser = parser.new BatchParser();
+
+        /** The buffer of {@link #format(long)}. */
+        private final StringBuilder builder = new StringBuilder(printer.getMaxLengthEstimate());
+
+        private Context() {
+            // use FastDateFormat.newContext()
+        }
+
+        /**
+         * Formats a millisecond {@code long} value, like {@link FastDateFormat#format(long)}.
+         *
+         * @param millis  the millisecond value to format
+         * @return the formatted string
+         */
+        public String format(final long millis) {
+            builder.setLength(0);
+            return printer.applyRules(millis, builder, calendar).toString();
+        }
+
+        /**
+         * Formats a {@link Date} object, like {@link FastDateFormat#format(Date)}.
+         *
+         * @param date  the date to format
+         * @return the formatted string
+         */
+        public String format(final Date date) {
+            return format(date.getTime());
+        }
+
+        /**
+         * Formats a millisecond {@code long} value into the supplied {@link Appendable}, like
+         * {@link FastDateFormat#format(long, Appendable)}.
+         *
+         * @param millis  the millisecond value to format
+         * @param buf  the buffer to format into
+         * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+         * @return the specified string buffer
+         */
+        public <B extends Appendable> B format(final long millis, final B buf) {
+            return printer.applyRules(millis, buf, calendar);
+        }
+
+        /**
+         * Formats a {@link Date} object into the supplied {@link Appendable}, like
+         * {@link FastDateFormat#format(Date, Appendable)}.
+         *
+         * @param date  the date to format
+         * @param buf  the buffer to format into
+         * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+         * @return the specified string buffer
+         */
+        public <B extends Appendable> B format(final Date date, final B buf) {
+            return format(date.getTime(), buf);
+        }
+
+        /**
+         * Gets the format of this context.
+         *
+         * @return the format
+         */
+        public FastDateFormat getFormat() {
+            return FastDateFormat.this;
+        }
+
+        /**
+         * Parses the beginning of a string into a {@link Date}, like {@link FastDateFormat#parse(String)}.
+         *
+         * @param source  the string to parse
+         * @return the parsed date
+         * @throws ParseException if the beginning of the string cannot be parsed
+         */
+        public Date parse(final String source) throws ParseException {
+            if (!batchParser.parse(source, 0)) {
+                throw parser.newParseException(source, batchParser.pos.getErrorIndex());
+            }
+            return new Date(batchParser.millis);
+        }
+
+        /**
+         * Parses a string into a {@link Date} from a position, like
+         * {@link FastDateFormat#parse(String, ParsePosition)}.
+         *
+         * @param source  the string to parse
+         * @param pos  on input, the position to start parsing at, on output, updated like by
+         *  {@link FastDateFormat#parse(String, ParsePosition)}
+         * @return the parsed date, null if the string cannot be parsed
+         */
+        public Date parse(final String source, final ParsePosition pos) {
+            final boolean parsed = batchParser.parse(source, pos.getIndex());
+            pos.setIndex(batchParser.pos.getIndex());
+            pos.setErrorIndex(batchParser.pos.getErrorIndex());
+            return parsed ? new Date(batchParser.millis) : null;
+        }
+    }
+
     private static final FormatCache<FastDateFormat> cache = new FormatCache<FastDateFormat>() {
         @Override
         protected FastDateFormat createInstance(final String pattern, final TimeZone timeZone, final Locale locale) {
@@ -370,6 +485,71 @@ public static FastDateFormat getDateTimeInstance(
         return cache.getDateTimeInstance(dateStyle, timeStyle, timeZone, locale);
     }
 
+    /**
+     * Gets the maximum number of instances cached by the {@code getInstance} methods,
+     * 1000 unless set by {@link #setCacheMaximumSize(int)}.
+     *
+     * @return the maximum size of the instance cache
+     * @since 3.13.0
+     */
+    public static int getCacheMaximumSize() {
+        return cache.getMaximumSize();
+    }
+
+    /**
+     * Sets the maximum number of instances cached by the {@code getInstance} methods.
+     *
+     * <p>When the cache is full, the instances least recently used, approximately,
+     * are evicted.</p>
+     *
+     * @param maximumSize  the maximum size of the instance cache, 0 disables caching
+     * @throws IllegalArgumentException if the maximum size is negative
+     * @since 3.13.0
+     */
+    public static void setCacheMaximumSize(final int maximumSize) {
+        cache.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * Gets the number of instances currently cached by the {@code getInstance} methods.
+     *
+     * @return the size of the instance cache
+     * @since 3.13.0
+     */
+    public static int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Gets the number of times the {@code getInstance} methods found an instance in the cache.
+     *
+     * @return the number of cache hits
+     * @since 3.13.0
+     */
+    public static long getCacheHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * Gets the number of times the {@code getInstance} methods created an instance missing from the cache.
+     *
+     * @return the number of cache misses
+     * @since 3.13.0
+     */
+    public static long getCacheMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * Gets the number of instances evicted from the cache to keep it under its maximum size.
+     *
+     * @return the number of cache evictions
+     * @since 3.13.0
+     */
+    public static long getCacheEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
     // Constructor
     /**
      * Constructs a new FastDateFormat.
@@ -536,6 +716,21 @@ public <B extends Appendable> B format(final Calendar calendar, final B buf) {
         return printer.format(calendar, buf);
     }
 
+    /**
+     * Formats millisecond {@code long} values into the supplied {@link Appendable}, separated by a delimiter.
+     *
+     * @param millis  the millisecond values to format
+     * @param delimiter  the delimiter to append between the values
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     * @since 3.13.0
+     */
+    @Override
+    public <B extends Appendable> B format(final long[] millis, final CharSequence delimiter, final B buf) {
+        return printer.format(millis, delimiter, buf);
+    }
+
     // Parsing
 
 
@@ -564,6 +759,22 @@ public boolean parse(final String source, final ParsePosition pos, final Calenda
         return parser.parse(source, pos, calendar);
     }
 
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DateParser#parseAll(CharSequence[])
+     */
+    @Override
+    public long[] parseAll(final CharSequence[] sources) throws ParseException {
+        return parser.parseAll(sources);
+    }
+
+    /* (non-Javadoc)
+     * @see org.apache.commons.lang3.time.DateParser#parseDelimited(String, String)
+     */
+    @Override
+    public long[] parseDelimited(final String source, final String delimiter) throws ParseException {
+        return parser.parseDelimited(source, delimiter);
+    }
+
     /* (non-Javadoc)
      * @see java.text.Format#parseObject(String, java.text.ParsePosition)
      */
@@ -572,6 +783,19 @@ public Object parseObject(final String source, final ParsePosition pos) {
         return parser.parseObject(source, pos);
     }
 
+    /**
+     * Creates a context to format and parse dates with this format, reusing a Calendar, a buffer and a parse position
+     * between calls.
+     *
+     * <p>This format is thread-safe, the context is not: hold one context per thread.</p>
+     *
+     * @return a new context
+     * @since 3.13.0
+     */
+    public Context newContext() {
+        return new Context();
+    }
+
     // Accessors
     /**
      * Gets the pattern used by this formatter.
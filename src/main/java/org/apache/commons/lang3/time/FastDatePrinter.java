@@ -26,6 +26,7 @@
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -96,6 +97,12 @@ public class FastDatePrinter implements DatePrinter, Serializable {
     /** Empty array. */
     private static final Rule[] EMPTY_RULE_ARRAY = {};
 
+    /** Empty array. */
+    private static final MillisRule[] EMPTY_MILLIS_RULE_ARRAY = {};
+
+    /** The number of milliseconds in a day. */
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
     /**
      * Required for serialization support.
      *
@@ -136,6 +143,14 @@ public class FastDatePrinter implements DatePrinter, Serializable {
      * The parsed rules.
      */
     private transient Rule[] rules;
+    /**
+     * The parsed rules, if they can all format a local time without a Calendar, else {@code null}.
+     */
+    private transient MillisRule[] millisRules;
+    /**
+     * The offsets of the time zone, {@code null} if {@link #millisRules} is {@code null}.
+     */
+    private transient ZoneOffsetTable zoneOffsets;
     /**
      * The estimated maximum length.
      */
@@ -172,6 +187,23 @@ private void init() {
         }
 
         maxLengthEstimate = len;
+
+        millisRules = null;
+        zoneOffsets = null;
+        final List<MillisRule> millisRulesList = new ArrayList<>(rules.length);
+        for (final Rule rule : rules) {
+            if (!(rule instanceof MillisRule) || !((MillisRule) rule).isMillisSupported()) {
+                return;
+            }
+            millisRulesList.add((MillisRule) rule);
+        }
+        // Other calendars, like the Buddhist or Japanese ones, number years differently.
+        if (newCalendar().getClass() == GregorianCalendar.class) {
+            zoneOffsets = ZoneOffsetTable.getInstance(timeZone);
+            if (zoneOffsets != null) {
+                millisRules = millisRulesList.toArray(EMPTY_MILLIS_RULE_ARRAY);
+            }
+        }
     }
 
     // Parse the pattern
@@ -453,25 +485,14 @@ String format(final Object obj) {
      */
     @Override
     public String format(final long millis) {
-        final Calendar c = newCalendar();
-        c.setTimeInMillis(millis);
-        return applyRulesToString(c);
-    }
-
-    /**
-     * Creates a String representation of the given Calendar by applying the rules of this printer to it.
-     * @param c the Calendar to apply the rules to.
-     * @return a String representation of the given Calendar.
-     */
-    private String applyRulesToString(final Calendar c) {
-        return applyRules(c, new StringBuilder(maxLengthEstimate)).toString();
+        return applyRules(millis, new StringBuilder(maxLengthEstimate)).toString();
     }
 
     /**
      * Creates a new Calendar instance.
      * @return a new Calendar instance.
      */
-    private Calendar newCalendar() {
+    Calendar newCalendar() {
         return Calendar.getInstance(timeZone, locale);
     }
 
@@ -480,9 +501,7 @@ private Calendar newCalendar() {
      */
     @Override
     public String format(final Date date) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return applyRulesToString(c);
+        return format(date.getTime());
     }
 
     /* (non-Javadoc)
@@ -498,9 +517,7 @@ public String format(final Calendar calendar) {
      */
     @Override
     public StringBuffer format(final long millis, final StringBuffer buf) {
-        final Calendar c = newCalendar();
-        c.setTimeInMillis(millis);
-        return (StringBuffer) applyRules(c, (Appendable) buf);
+        return (StringBuffer) applyRules(millis, (Appendable) buf);
     }
 
     /* (non-Javadoc)
@@ -508,9 +525,7 @@ public StringBuffer format(final long millis, final StringBuffer buf) {
      */
     @Override
     public StringBuffer format(final Date date, final StringBuffer buf) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return (StringBuffer) applyRules(c, (Appendable) buf);
+        return (StringBuffer) applyRules(date.getTime(), (Appendable) buf);
     }
 
     /* (non-Javadoc)
@@ -527,9 +542,7 @@ public StringBuffer format(final Calendar calendar, final StringBuffer buf) {
      */
     @Override
     public <B extends Appendable> B format(final long millis, final B buf) {
-        final Calendar c = newCalendar();
-        c.setTimeInMillis(millis);
-        return applyRules(c, buf);
+        return applyRules(millis, buf);
     }
 
     /* (non-Javadoc)
@@ -537,9 +550,7 @@ public <B extends Appendable> B format(final long millis, final B buf) {
      */
     @Override
     public <B extends Appendable> B format(final Date date, final B buf) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return applyRules(c, buf);
+        return applyRules(date.getTime(), buf);
     }
 
     /* (non-Javadoc)
@@ -555,6 +566,53 @@ public <B extends Appendable> B format(Calendar calendar, final B buf) {
         return applyRules(calendar, buf);
     }
 
+    /**
+     * Formats millisecond {@code long} values into the supplied {@link Appendable}, separated by a delimiter.
+     *
+     * <p>The offset of the time zone is looked up once for each period the offset doesn't change, and at most one
+     * Calendar is created for the values that need one.</p>
+     *
+     * @param millis  the millisecond values to format
+     * @param delimiter  the delimiter to append between the values
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     * @since 3.13.0
+     */
+    @Override
+    public <B extends Appendable> B format(final long[] millis, final CharSequence delimiter, final B buf) {
+        Calendar calendar = null;
+        int offset = ZoneOffsetTable.UNKNOWN;
+        // The period of the offset, empty if the offset is unknown.
+        long offsetStart = 0;
+        long offsetEnd = 0;
+        try {
+            for (int i = 0; i < millis.length; i++) {
+                if (i > 0) {
+                    buf.append(delimiter);
+                }
+                final long value = millis[i];
+                if (millisRules != null && (value < offsetStart || value >= offsetEnd)) {
+                    offset = zoneOffsets.getOffset(value);
+                    offsetStart = offset == ZoneOffsetTable.UNKNOWN ? 0 : zoneOffsets.getOffsetStart(value);
+                    offsetEnd = offset == ZoneOffsetTable.UNKNOWN ? 0 : zoneOffsets.getOffsetEnd(value);
+                }
+                if (offset != ZoneOffsetTable.UNKNOWN) {
+                    applyRules(value + offset, offset, buf);
+                } else {
+                    if (calendar == null) {
+                        calendar = newCalendar();
+                    }
+                    calendar.setTimeInMillis(value);
+                    applyRules(calendar, buf);
+                }
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.rethrow(ioe);
+        }
+        return buf;
+    }
+
     /**
      * Performs the formatting by applying the rules to the
      * specified calendar.
@@ -590,6 +648,63 @@ private <B extends Appendable> B applyRules(final Calendar calendar, final B buf
         return buf;
     }
 
+    /**
+     * Performs the formatting by applying the rules to the
+     * specified instant.
+     *
+     * <p>The fields are computed from the milliseconds and the offset of the time zone, without a Calendar, when the
+     * rules allow it.</p>
+     *
+     * @param millis  the instant to format, in milliseconds since the epoch
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     */
+    private <B extends Appendable> B applyRules(final long millis, final B buf) {
+        return applyRules(millis, buf, null);
+    }
+
+    /**
+     * Performs the formatting by applying the rules to the
+     * specified instant, with a Calendar reused by the caller when one is needed.
+     *
+     * @param millis  the instant to format, in milliseconds since the epoch
+     * @param buf  the buffer to format into
+     * @param calendar  the calendar to reuse, created by {@link #newCalendar()}, null to create one when needed
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     */
+    <B extends Appendable> B applyRules(final long millis, final B buf, final Calendar calendar) {
+        final int offset = millisRules == null ? ZoneOffsetTable.UNKNOWN : zoneOffsets.getOffset(millis);
+        if (offset == ZoneOffsetTable.UNKNOWN) {
+            final Calendar c = calendar != null ? calendar : newCalendar();
+            c.setTimeInMillis(millis);
+            return applyRules(c, buf);
+        }
+        return applyRules(millis + offset, offset, buf);
+    }
+
+    /**
+     * Performs the formatting by applying the rules that can format a
+     * local time without a Calendar.
+     *
+     * @param localMillis  the local time, in milliseconds since 1970-01-01T00:00 local time
+     * @param offset  the offset of the time zone from UTC, in milliseconds
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     */
+    private <B extends Appendable> B applyRules(final long localMillis, final int offset, final B buf) {
+        try {
+            for (final MillisRule rule : millisRules) {
+                rule.appendTo(buf, localMillis, offset);
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.rethrow(ioe);
+        }
+        return buf;
+    }
+
     // Accessors
     /* (non-Javadoc)
      * @see org.apache.commons.lang3.time.DatePrinter#getPattern()
@@ -768,6 +883,81 @@ private static void appendFullDigits(final Appendable buffer, int value, int min
         }
     }
 
+    /**
+     * Gets the value of a Calendar field of a Gregorian local time.
+     *
+     * @param field the Calendar field, one of those accepted by {@link #isLocalField(int)}.
+     * @param localMillis the local time, in milliseconds since 1970-01-01T00:00 local time.
+     * @return the value of the field, as returned by {@link Calendar#get(int)}.
+     */
+    private static int getLocalField(final int field, final long localMillis) {
+        final long epochDay = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+        final int millisOfDay = (int) (localMillis - epochDay * MILLIS_PER_DAY);
+        switch (field) {
+        case Calendar.ERA:
+            // Local times with a Calendar free path are after the Gregorian change.
+            return GregorianCalendar.AD;
+        case Calendar.YEAR:
+            return ZoneOffsetTable.getLocalDate(epochDay) >> 9;
+        case Calendar.MONTH:
+            return (ZoneOffsetTable.getLocalDate(epochDay) >> 5 & 0xF) - 1;
+        case Calendar.DAY_OF_MONTH:
+            return ZoneOffsetTable.getLocalDate(epochDay) & 0x1F;
+        case Calendar.DAY_OF_WEEK_IN_MONTH:
+            return ((ZoneOffsetTable.getLocalDate(epochDay) & 0x1F) - 1) / 7 + 1;
+        case Calendar.DAY_OF_YEAR:
+            final int year = ZoneOffsetTable.getLocalDate(epochDay) >> 9;
+            final int yearsBefore = year - 1;
+            // The number of days from 0001-01-01 to 1970-01-01 is 719,162.
+            final long firstDay = 365L * yearsBefore + yearsBefore / 4 - yearsBefore / 100 + yearsBefore / 400 - 719_162;
+            return (int) (epochDay - firstDay) + 1;
+        case Calendar.DAY_OF_WEEK:
+            // 1970-01-01 was a Thursday.
+            return (int) Math.floorMod(epochDay + 4, 7L) + Calendar.SUNDAY;
+        case Calendar.AM_PM:
+            return millisOfDay < MILLIS_PER_DAY / 2 ? Calendar.AM : Calendar.PM;
+        case Calendar.HOUR:
+            return millisOfDay / 3_600_000 % 12;
+        case Calendar.HOUR_OF_DAY:
+            return millisOfDay / 3_600_000;
+        case Calendar.MINUTE:
+            return millisOfDay / 60_000 % 60;
+        case Calendar.SECOND:
+            return millisOfDay / 1000 % 60;
+        case Calendar.MILLISECOND:
+            return millisOfDay % 1000;
+        default:
+            throw new IllegalArgumentException("Unsupported field: " + field);
+        }
+    }
+
+    /**
+     * Tests whether {@link #getLocalField(int, long)} supports a Calendar field.
+     *
+     * @param field the Calendar field.
+     * @return whether the field can be computed without a Calendar.
+     */
+    private static boolean isLocalField(final int field) {
+        switch (field) {
+        case Calendar.ERA:
+        case Calendar.YEAR:
+        case Calendar.MONTH:
+        case Calendar.DAY_OF_MONTH:
+        case Calendar.DAY_OF_WEEK_IN_MONTH:
+        case Calendar.DAY_OF_YEAR:
+        case Calendar.DAY_OF_WEEK:
+        case Calendar.AM_PM:
+        case Calendar.HOUR:
+        case Calendar.HOUR_OF_DAY:
+        case Calendar.MINUTE:
+        case Calendar.SECOND:
+        case Calendar.MILLISECOND:
+            return true;
+        default:
+            return false;
+        }
+    }
+
     // Rules
     /**
      * Inner class defining a rule.
@@ -804,10 +994,34 @@ private interface NumberRule extends Rule {
         void appendTo(Appendable buffer, int value) throws IOException;
     }
 
+    /**
+     * Inner class defining a rule that can format a local time without a Calendar.
+     */
+    private interface MillisRule extends Rule {
+        /**
+         * Tests whether {@link #appendTo(Appendable, long, int)} is supported.
+         *
+         * @return whether this rule can format a local time without a Calendar.
+         */
+        default boolean isMillisSupported() {
+            return true;
+        }
+
+        /**
+         * Appends the value of the specified local time to the output buffer based on the rule implementation.
+         *
+         * @param buffer the output buffer
+         * @param localMillis the local time, in milliseconds since 1970-01-01T00:00 local time
+         * @param offset the offset of the time zone from UTC, in milliseconds
+         * @throws IOException if an I/O error occurs.
+         */
+        void appendTo(Appendable buffer, long localMillis, int offset) throws IOException;
+    }
+
     /**
      * Inner class to output a constant single character.
      */
-    private static class CharacterLiteral implements Rule {
+    private static class CharacterLiteral implements MillisRule {
         private final char mValue;
 
         /**
@@ -835,12 +1049,20 @@ public int estimateLength() {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(mValue);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            buffer.append(mValue);
+        }
     }
 
     /**
      * Inner class to output a constant string.
      */
-    private static class StringLiteral implements Rule {
+    private static class StringLiteral implements MillisRule {
         private final String mValue;
 
         /**
@@ -868,12 +1090,20 @@ public int estimateLength() {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(mValue);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            buffer.append(mValue);
+        }
     }
 
     /**
      * Inner class to output one of a set of values.
      */
-    private static class TextField implements Rule {
+    private static class TextField implements MillisRule {
         private final int mField;
         private final String[] mValues;
 
@@ -911,12 +1141,28 @@ public int estimateLength() {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(mValues[calendar.get(mField)]);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isMillisSupported() {
+            return isLocalField(mField);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            buffer.append(mValues[getLocalField(mField, localMillis)]);
+        }
     }
 
     /**
      * Inner class to output an unpadded number.
      */
-    private static class UnpaddedNumberField implements NumberRule {
+    private static class UnpaddedNumberField implements NumberRule, MillisRule {
         private final int mField;
 
         /**
@@ -944,6 +1190,22 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(mField));
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isMillisSupported() {
+            return isLocalField(mField);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            appendTo(buffer, getLocalField(mField, localMillis));
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -962,7 +1224,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output an unpadded month.
      */
-    private static class UnpaddedMonthField implements NumberRule {
+    private static class UnpaddedMonthField implements NumberRule, MillisRule {
         static final UnpaddedMonthField INSTANCE = new UnpaddedMonthField();
 
         /**
@@ -988,6 +1250,14 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(Calendar.MONTH) + 1);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            appendTo(buffer, getLocalField(Calendar.MONTH, localMillis) + 1);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1004,7 +1274,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output a padded number.
      */
-    private static class PaddedNumberField implements NumberRule {
+    private static class PaddedNumberField implements NumberRule, MillisRule {
         private final int mField;
         private final int mSize;
 
@@ -1039,6 +1309,22 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(mField));
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isMillisSupported() {
+            return isLocalField(mField);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            appendTo(buffer, getLocalField(mField, localMillis));
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1051,7 +1337,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output a two digit number.
      */
-    private static class TwoDigitNumberField implements NumberRule {
+    private static class TwoDigitNumberField implements NumberRule, MillisRule {
         private final int mField;
 
         /**
@@ -1079,6 +1365,22 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(mField));
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isMillisSupported() {
+            return isLocalField(mField);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            appendTo(buffer, getLocalField(mField, localMillis));
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1095,7 +1397,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output a two digit year.
      */
-    private static class TwoDigitYearField implements NumberRule {
+    private static class TwoDigitYearField implements NumberRule, MillisRule {
         static final TwoDigitYearField INSTANCE = new TwoDigitYearField();
 
         /**
@@ -1120,6 +1422,14 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(Calendar.YEAR) % 100);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            appendTo(buffer, getLocalField(Calendar.YEAR, localMillis) % 100);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1132,7 +1442,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output a two digit month.
      */
-    private static class TwoDigitMonthField implements NumberRule {
+    private static class TwoDigitMonthField implements NumberRule, MillisRule {
         static final TwoDigitMonthField INSTANCE = new TwoDigitMonthField();
 
         /**
@@ -1157,6 +1467,14 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(Calendar.MONTH) + 1);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            appendTo(buffer, getLocalField(Calendar.MONTH, localMillis) + 1);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1169,7 +1487,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output the twelve hour field.
      */
-    private static class TwelveHourField implements NumberRule {
+    private static class TwelveHourField implements NumberRule, MillisRule {
         private final NumberRule mRule;
 
         /**
@@ -1202,6 +1520,15 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             mRule.appendTo(buffer, value);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            final int value = getLocalField(Calendar.HOUR, localMillis);
+            mRule.appendTo(buffer, value == 0 ? 12 : value);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1214,7 +1541,7 @@ public void appendTo(final Appendable buffer, final int value) throws IOExceptio
     /**
      * Inner class to output the twenty four hour field.
      */
-    private static class TwentyFourHourField implements NumberRule {
+    private static class TwentyFourHourField implements NumberRule, MillisRule {
         private final NumberRule mRule;
 
         /**
@@ -1247,6 +1574,15 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             mRule.appendTo(buffer, value);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            final int value = getLocalField(Calendar.HOUR_OF_DAY, localMillis);
+            mRule.appendTo(buffer, value == 0 ? 24 : value);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1259,7 +1595,7 @@ public void appendTo(final Appendable buffer, final int value) throws IOExceptio
     /**
      * Inner class to output the numeric day in week.
      */
-    private static class DayInWeekField implements NumberRule {
+    private static class DayInWeekField implements NumberRule, MillisRule {
         private final NumberRule mRule;
 
         DayInWeekField(final NumberRule rule) {
@@ -1277,6 +1613,12 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             mRule.appendTo(buffer, value == Calendar.SUNDAY ? 7 : value - 1);
         }
 
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            final int value = getLocalField(Calendar.DAY_OF_WEEK, localMillis);
+            mRule.appendTo(buffer, value == Calendar.SUNDAY ? 7 : value - 1);
+        }
+
         @Override
         public void appendTo(final Appendable buffer, final int value) throws IOException {
             mRule.appendTo(buffer, value);
@@ -1381,7 +1723,7 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
      * Inner class to output a time zone as a number {@code +/-HHMM}
      * or {@code +/-HH:MM}.
      */
-    private static class TimeZoneNumberRule implements Rule {
+    private static class TimeZoneNumberRule implements MillisRule {
         static final TimeZoneNumberRule INSTANCE_COLON = new TimeZoneNumberRule(true);
         static final TimeZoneNumberRule INSTANCE_NO_COLON = new TimeZoneNumberRule(false);
 
@@ -1409,9 +1751,25 @@ public int estimateLength() {
          */
         @Override
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
+            appendOffset(buffer, calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET));
+        }
 
-            int offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            appendOffset(buffer, offset);
+        }
 
+        /**
+         * Appends an offset from UTC to the output buffer.
+         *
+         * @param buffer the output buffer
+         * @param offset the offset, in milliseconds
+         * @throws IOException if an I/O error occurs.
+         */
+        private void appendOffset(final Appendable buffer, int offset) throws IOException {
             if (offset < 0) {
                 buffer.append('-');
                 offset = -offset;
@@ -1435,7 +1793,7 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
      * Inner class to output a time zone as a number {@code +/-HHMM}
      * or {@code +/-HH:MM}.
      */
-    private static class Iso8601_Rule implements Rule {
+    private static class Iso8601_Rule implements MillisRule {
 
         // Sign TwoDigitHours or Z
         static final Iso8601_Rule ISO8601_HOURS = new Iso8601_Rule(3);
@@ -1488,7 +1846,25 @@ public int estimateLength() {
          */
         @Override
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
-            int offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
+            appendOffset(buffer, calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final long localMillis, final int offset) throws IOException {
+            appendOffset(buffer, offset);
+        }
+
+        /**
+         * Appends an offset from UTC to the output buffer.
+         *
+         * @param buffer the output buffer
+         * @param offset the offset, in milliseconds
+         * @throws IOException if an I/O error occurs.
+         */
+        private void appendOffset(final Appendable buffer, int offset) throws IOException {
             if (offset == 0) {
                 buffer.append("Z");
                 return;
@@ -23,14 +23,15 @@
 import java.util.Locale;
 import java.util.Objects;
 import java.util.TimeZone;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.LocaleUtils;
 
 /**
  * FormatCache is a cache and factory for {@link Format}s.
  *
+ * <p>The cache holds at most {@link #getMaximumSize()} formats, evicting
+ * the least recently used ones, approximately, when it is full.</p>
+ *
  * @param <F> The Format type.
  *
  * @since 3.0
@@ -43,9 +44,14 @@
      */
     static final int NONE = -1;
 
-    private final ConcurrentMap<ArrayKey, F> cInstanceCache = new ConcurrentHashMap<>(7);
+    /**
+     * The default maximum number of entries of a cache.
+     */
+    static final int DEFAULT_MAXIMUM_SIZE = 1000;
 
-    private static final ConcurrentMap<ArrayKey, String> cDateTimeInstanceCache = new ConcurrentHashMap<>(7);
+    private final BoundedCache<ArrayKey, F> cInstanceCache = new BoundedCache<>(DEFAULT_MAXIMUM_SIZE);
+
+    private static final BoundedCache<ArrayKey, String> cDateTimeInstanceCache = new BoundedCache<>(DEFAULT_MAXIMUM_SIZE);
 
     /**
      * Gets a formatter instance using the default pattern in the
@@ -74,7 +80,62 @@ public F getInstance(final String pattern, final TimeZone timeZone, final Locale
         final TimeZone actualTimeZone = TimeZones.toTimeZone(timeZone);
         final Locale actualLocale = LocaleUtils.toLocale(locale);
         final ArrayKey key = new ArrayKey(pattern, actualTimeZone, actualLocale);
-        return cInstanceCache.computeIfAbsent(key, k -> createInstance(pattern, actualTimeZone, actualLocale));
+        return cInstanceCache.get(key, k -> createInstance(pattern, actualTimeZone, actualLocale));
+    }
+
+    /**
+     * Gets the number of times a format was found in the cache.
+     *
+     * @return the number of cache hits
+     */
+    long getHitCount() {
+        return cInstanceCache.getHitCount();
+    }
+
+    /**
+     * Gets the number of times a format was not found in the cache and was created.
+     *
+     * @return the number of cache misses
+     */
+    long getMissCount() {
+        return cInstanceCache.getMissCount();
+    }
+
+    /**
+     * Gets the number of formats evicted from the cache to keep it under its maximum size.
+     *
+     * @return the number of cache evictions
+     */
+    long getEvictionCount() {
+        return cInstanceCache.getEvictionCount();
+    }
+
+    /**
+     * Gets the maximum number of formats held by the cache.
+     *
+     * @return the maximum size of the cache
+     */
+    int getMaximumSize() {
+        return cInstanceCache.getMaximumSize();
+    }
+
+    /**
+     * Sets the maximum number of formats held by the cache, evicting formats if it holds more.
+     *
+     * @param maximumSize the maximum size of the cache, 0 disables caching
+     * @throws IllegalArgumentException if the maximum size is negative
+     */
+    void setMaximumSize(final int maximumSize) {
+        cInstanceCache.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * Gets the number of formats held by the cache.
+     *
+     * @return the size of the cache
+     */
+    int size() {
+        return cInstanceCache.size();
     }
 
     /**
@@ -175,7 +236,7 @@ F getTimeInstance(final int timeStyle, final TimeZone timeZone, final Locale loc
     static String getPatternForStyle(final Integer dateStyle, final Integer timeStyle, final Locale locale) {
         final Locale safeLocale = LocaleUtils.toLocale(locale);
         final ArrayKey key = new ArrayKey(dateStyle, timeStyle, safeLocale);
-        return cDateTimeInstanceCache.computeIfAbsent(key, k -> {
+        return cDateTimeInstanceCache.get(key, k -> {
             try {
                 final DateFormat formatter;
                 if (dateStyle == null) {
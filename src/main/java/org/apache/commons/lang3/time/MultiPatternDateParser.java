@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import org.apache.commons.lang3.LocaleUtils;
+
+/**
+ * Parses dates with the first of several patterns that matches, like {@link DateUtils#parseDate(String, String...)}
+ * and {@link DateUtils#parseDateStrictly(String, String...)}, with the patterns compiled once.
+ *
+ * <p>
+ * Before trying a pattern, the parser checks that the string contains the literal texts of the pattern, like its
+ * separators, in order, and is long enough for the pattern. Patterns that can't match are skipped without parsing, so
+ * that a string is usually only parsed with the pattern that matches it.
+ * </p>
+ *
+ * <pre>
+ * MultiPatternDateParser parser = MultiPatternDateParser.getInstance(TimeZone.getDefault(), Locale.US,
+ *     "yyyy-MM-dd'T'HH:mm:ss", "yyyy-MM-dd", "dd/MM/yyyy", "MMM d, yyyy");
+ * Date date = parser.parse("12/03/2021");
+ * MultiPatternDateParser.Match match = parser.match("Mar 12, 2021");
+ * match.getPattern() = "MMM d, yyyy"
+ * </pre>
+ *
+ * <p>
+ * #ThreadSafe#
+ * </p>
+ *
+ * @see DateUtils#parseDate(String, Locale, String...)
+ * @see DateUtils#parseDateStrictly(String, Locale, String...)
+ * @since 3.13.0
+ */
+public final class MultiPatternDateParser {
+
+    /**
+     * A date parsed by a {@link MultiPatternDateParser}, with the pattern that matched.
+     */
+    public static final class Match {
+
+        private final Date date;
+
+        private final String pattern;
+
+        private final int patternIndex;
+
+        private Match(final Date date, final String pattern, final int patternIndex) {
+            this.date = date;
+            this.pattern = pattern;
+            this.patternIndex = patternIndex;
+        }
+
+        /**
+         * Gets the parsed date.
+         *
+         * @return the parsed date
+         */
+        public Date getDate() {
+            return date;
+        }
+
+        /**
+         * Gets the pattern that matched.
+         *
+         * @return the pattern that matched
+         */
+        public String getPattern() {
+            return pattern;
+        }
+
+        /**
+         * Gets the index of the pattern that matched, in the patterns of the parser.
+         *
+         * @return the index of the pattern that matched
+         */
+        public int getPatternIndex() {
+            return patternIndex;
+        }
+
+        @Override
+        public String toString() {
+            return "Match [date=" + date + ", pattern=" + pattern + ", patternIndex=" + patternIndex + "]";
+        }
+    }
+
+    /**
+     * Gets a parser that parses leniently, like {@link DateUtils#parseDate(String, Locale, String...)}.
+     *
+     * @param timeZone the time zone of the dates, null means {@link TimeZone#getDefault()}
+     * @param locale the locale of the dates, null means {@link Locale#getDefault()}
+     * @param patterns the date format patterns to use, see {@link java.text.SimpleDateFormat}, not null
+     * @return a parser
+     * @throws NullPointerException if the patterns or one of them is null
+     * @throws IllegalArgumentException if a pattern is invalid
+     */
+    public static MultiPatternDateParser getInstance(final TimeZone timeZone, final Locale locale, final String... patterns) {
+        return new MultiPatternDateParser(timeZone, locale, patterns, true);
+    }
+
+    /**
+     * Gets a parser that parses strictly, like {@link DateUtils#parseDateStrictly(String, Locale, String...)}.
+     *
+     * @param timeZone the time zone of the dates, null means {@link TimeZone#getDefault()}
+     * @param locale the locale of the dates, null means {@link Locale#getDefault()}
+     * @param patterns the date format patterns to use, see {@link java.text.SimpleDateFormat}, not null
+     * @return a parser
+     * @throws NullPointerException if the patterns or one of them is null
+     * @throws IllegalArgumentException if a pattern is invalid
+     */
+    public static MultiPatternDateParser getStrictInstance(final TimeZone timeZone, final Locale locale, final String... patterns) {
+        return new MultiPatternDateParser(timeZone, locale, patterns, false);
+    }
+
+    private final TimeZone timeZone;
+
+    private final Locale locale;
+
+    private final String[] patterns;
+
+    private final FastDateParser[] parsers;
+
+    private final boolean lenient;
+
+    private MultiPatternDateParser(final TimeZone timeZone, final Locale locale, final String[] patterns, final boolean lenient) {
+        Objects.requireNonNull(patterns, "patterns");
+        this.timeZone = TimeZones.toTimeZone(timeZone);
+        this.locale = LocaleUtils.toLocale(locale);
+        this.patterns = patterns.clone();
+        this.parsers = new FastDateParser[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            parsers[i] = new FastDateParser(Objects.requireNonNull(patterns[i], "pattern"), this.timeZone, this.locale);
+        }
+        this.lenient = lenient;
+    }
+
+    /**
+     * Gets the locale of the dates.
+     *
+     * @return the locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Gets the patterns, in the order they are tried.
+     *
+     * @return a copy of the patterns
+     */
+    public String[] getPatterns() {
+        return patterns.clone();
+    }
+
+    /**
+     * Gets the time zone of the dates.
+     *
+     * @return the time zone
+     */
+    public TimeZone getTimeZone() {
+        return timeZone;
+    }
+
+    /**
+     * Tests whether this parser parses leniently.
+     *
+     * @return whether this parser parses leniently
+     */
+    public boolean isLenient() {
+        return lenient;
+    }
+
+    /**
+     * Parses a string with the first pattern that matches all of it.
+     *
+     * @param str the date to parse, not null
+     * @return the first match, or {@code null} if no pattern matches
+     * @throws NullPointerException if the date string is null
+     */
+    public Match match(final String str) {
+        Objects.requireNonNull(str, "str");
+        final ParsePosition pos = new ParsePosition(0);
+        Calendar calendar = null;
+        for (int i = 0; i < parsers.length; i++) {
+            final FastDateParser parser = parsers[i];
+            if (!parser.mayMatch(str)) {
+                continue;
+            }
+            if (calendar == null) {
+                calendar = Calendar.getInstance(timeZone, locale);
+                calendar.setLenient(lenient);
+            }
+            calendar.clear();
+            pos.setIndex(0);
+            pos.setErrorIndex(-1);
+            try {
+                if (parser.parse(str, pos, calendar) && pos.getIndex() == str.length()) {
+                    return new Match(calendar.getTime(), patterns[i], i);
+                }
+            } catch (final IllegalArgumentException ignored) {
+                // leniency is preventing calendar from being set
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses a string with the first pattern that matches all of it.
+     *
+     * @param str the date to parse, not null
+     * @return the parsed date
+     * @throws NullPointerException if the date string is null
+     * @throws ParseException if none of the patterns match
+     */
+    public Date parse(final String str) throws ParseException {
+        final Match match = match(str);
+        if (match == null) {
+            throw new ParseException("Unable to parse the date: " + str, -1);
+        }
+        return match.getDate();
+    }
+
+    @Override
+    public String toString() {
+        return "MultiPatternDateParser [patterns=" + String.join(", ", patterns) + ", timeZone=" + timeZone.getID() + ", locale=" + locale
+            + ", lenient=" + lenient + "]";
+    }
+}
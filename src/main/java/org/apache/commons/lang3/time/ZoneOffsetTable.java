@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The offsets from UTC of a time zone and the instants they change, between {@link #START} and {@link #END}, so that
+ * {@link FastDatePrinter}, {@link FastDateParser} and {@link DateUtils} can convert between instants and local times
+ * without a Calendar.
+ *
+ * @since 3.13.0
+ */
+final class ZoneOffsetTable {
+
+    /** The returned offset when the offset is unknown. */
+    static final int UNKNOWN = Integer.MIN_VALUE;
+
+    /** The start of the table, 1900-01-01T00:00Z. */
+    static final long START = -2_208_988_800_000L;
+
+    /** The end of the table, exclusive, 2100-01-01T00:00Z. */
+    static final long END = 4_102_444_800_000L;
+
+    /** The period of the instants where {@link #create(TimeZone)} checks the offsets, 30 days. */
+    private static final long SAMPLE_PERIOD = 2_592_000_000L;
+
+    /**
+     * The table of a time zone with {@link ZoneRules}.
+     */
+    private static final class Entry {
+
+        /** The time zone of the ZoneId, a private copy that the table matches. */
+        final TimeZone timeZone;
+
+        /** The table, {@code null} if the time zone and its ZoneRules disagree. */
+        final ZoneOffsetTable table;
+
+        Entry(final TimeZone timeZone, final ZoneOffsetTable table) {
+            this.timeZone = timeZone;
+            this.table = table;
+        }
+    }
+
+    /**
+     * The tables by time zone ID, for the time zones with the rules of their ZoneId only, so that there are at most as
+     * many as the IDs of the ZoneIds.
+     */
+    private static final ConcurrentMap<String, Entry> cInstances = new ConcurrentHashMap<>(7);
+
+    /**
+     * Creates the table of a time zone.
+     *
+     * @param timeZone the time zone, with the rules of its ZoneId
+     * @param rules the rules of its ZoneId
+     * @return the table, {@code null} if the time zone and its ZoneRules disagree.
+     */
+    private static ZoneOffsetTable create(final TimeZone timeZone, final ZoneRules rules) {
+        final List<ZoneOffsetTransition> transitions = new ArrayList<>();
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(START));
+        while (transition != null && transition.toEpochSecond() * 1000 < END) {
+            transitions.add(transition);
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        final long[] starts = new long[transitions.size() + 1];
+        final int[] offsets = new int[starts.length];
+        starts[0] = START;
+        offsets[0] = rules.getOffset(Instant.ofEpochMilli(START)).getTotalSeconds() * 1000;
+        for (int i = 1; i < starts.length; i++) {
+            transition = transitions.get(i - 1);
+            starts[i] = transition.toEpochSecond() * 1000;
+            offsets[i] = transition.getOffsetAfter().getTotalSeconds() * 1000;
+        }
+        // The rules of the time zone and the ZoneRules must agree on each offset.
+        for (int i = 0; i < starts.length; i++) {
+            if (timeZone.getOffset(starts[i]) != offsets[i] || i > 0 && timeZone.getOffset(starts[i] - 1) != offsets[i - 1]) {
+                return null;
+            }
+        }
+        final ZoneOffsetTable table = new ZoneOffsetTable(starts, offsets);
+        // And between transitions, where a TimeZone past the end of its own data can follow other rules.
+        for (long millis = START; millis < END; millis += SAMPLE_PERIOD) {
+            if (timeZone.getOffset(millis) != table.getOffset(millis)) {
+                return null;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Gets the table of a time zone, creating it if needed.
+     *
+     * @param timeZone the time zone
+     * @return the table, {@code null} if the time zone has no table.
+     */
+    static ZoneOffsetTable getInstance(final TimeZone timeZone) {
+        final String id = timeZone.getID();
+        final Entry entry = cInstances.get(id);
+        // A TimeZone is mutable and its ID needn't match its rules, the cached one must have the same rules.
+        if (entry != null && entry.timeZone.hasSameRules(timeZone)) {
+            return entry.table;
+        }
+        final TimeZone zoneTimeZone;
+        final ZoneRules rules;
+        try {
+            final ZoneId zoneId = timeZone.toZoneId();
+            zoneTimeZone = TimeZone.getTimeZone(zoneId);
+            // Custom time zones, like a SimpleTimeZone, have no ZoneRules and aren't cached.
+            if (!zoneTimeZone.hasSameRules(timeZone)) {
+                return null;
+            }
+            rules = zoneId.getRules();
+        } catch (final DateTimeException e) {
+            return null;
+        }
+        final Entry created = new Entry(zoneTimeZone, create(zoneTimeZone, rules));
+        cInstances.put(id, created);
+        return created.table;
+    }
+
+    /**
+     * Gets the Gregorian date of a day.
+     *
+     * @param epochDay the number of days since 1970-01-01.
+     * @return the year, month from 1 to 12 and day of month, packed as {@code year << 9 | month << 5 | day}.
+     */
+    static int getLocalDate(final long epochDay) {
+        // Counts from 0000-03-01 so that leap days end the years.
+        final long shifted = epochDay + 719_468;
+        final long era = Math.floorDiv(shifted, 146_097L);
+        final int dayOfEra = (int) (shifted - era * 146_097);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        final int year = (int) (era * 400) + yearOfEra + (month <= 2 ? 1 : 0);
+        return year << 9 | month << 5 | day;
+    }
+
+    /**
+     * Gets the number of days from 1970-01-01 to the first day of a month in the Gregorian calendar.
+     *
+     * @param year the year
+     * @param month the month, from 0 to 11
+     * @return the number of days
+     */
+    static long toEpochDay(final int year, final int month) {
+        // Counts from 0000-03-01 so that leap days end the years.
+        final long shiftedYear = month < Calendar.MARCH ? year - 1L : year;
+        final long era = Math.floorDiv(shiftedYear, 400L);
+        final int yearOfEra = (int) (shiftedYear - era * 400);
+        final int shiftedMonth = month < Calendar.MARCH ? month + 10 : month - 2;
+        final int dayOfYear = (153 * shiftedMonth + 2) / 5;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /** The instants the offsets start, ascending. */
+    private final long[] starts;
+
+    /** The offsets, in milliseconds. */
+    private final int[] offsets;
+
+    /** The smallest offset. */
+    private final int minOffset;
+
+    /** The largest offset. */
+    private final int maxOffset;
+
+    /**
+     * Constructs an instance of {@link ZoneOffsetTable}.
+     *
+     * @param starts the instants the offsets start, ascending
+     * @param offsets the offsets, in milliseconds
+     */
+    private ZoneOffsetTable(final long[] starts, final int[] offsets) {
+        this.starts = starts;
+        this.offsets = offsets;
+        int min = offsets[0];
+        int max = offsets[0];
+        for (final int offset : offsets) {
+            min = Math.min(min, offset);
+            max = Math.max(max, offset);
+        }
+        this.minOffset = min;
+        this.maxOffset = max;
+    }
+
+    /**
+     * Gets the offset from UTC at an instant.
+     *
+     * @param millis the instant, in milliseconds since the epoch
+     * @return the offset, in milliseconds, {@link #UNKNOWN} if the instant is outside of the table
+     */
+    int getOffset(final long millis) {
+        if (millis < START || millis >= END) {
+            return UNKNOWN;
+        }
+        return offsets[indexOf(millis)];
+    }
+
+    /**
+     * Gets the end of the period with the same offset from UTC as an instant.
+     *
+     * @param millis the instant, in milliseconds since the epoch, in the table
+     * @return the instant the offset changes, or {@link #END}
+     */
+    long getOffsetEnd(final long millis) {
+        final int index = indexOf(millis) + 1;
+        return index < starts.length ? starts[index] : END;
+    }
+
+    /**
+     * Gets the start of the period with the same offset from UTC as an instant.
+     *
+     * @param millis the instant, in milliseconds since the epoch, in the table
+     * @return the instant the offset started, or {@link #START}
+     */
+    long getOffsetStart(final long millis) {
+        return starts[indexOf(millis)];
+    }
+
+    /**
+     * Gets the offset from UTC of a local time.
+     *
+     * @param localMillis the local time, in milliseconds since 1970-01-01T00:00 local time
+     * @return the offset, in milliseconds, {@link #UNKNOWN} if the local time is skipped or repeated by a transition,
+     *         or outside of the table
+     */
+    int getOffsetOfLocal(final long localMillis) {
+        if (localMillis - maxOffset < START || localMillis - minOffset >= END) {
+            return UNKNOWN;
+        }
+        int result = UNKNOWN;
+        final int last = indexOf(localMillis - minOffset);
+        for (int i = indexOf(localMillis - maxOffset); i <= last; i++) {
+            final long millis = localMillis - offsets[i];
+            if (millis >= starts[i] && (i + 1 == starts.length || millis < starts[i + 1])) {
+                if (result != UNKNOWN) {
+                    return UNKNOWN;
+                }
+                result = offsets[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the index of the offset at an instant in the table.
+     *
+     * @param millis the instant, in milliseconds since the epoch, in the table
+     * @return the index
+     */
+    private int indexOf(final long millis) {
+        final int index = Arrays.binarySearch(starts, millis);
+        return index >= 0 ? index : -index - 2;
+    }
+}
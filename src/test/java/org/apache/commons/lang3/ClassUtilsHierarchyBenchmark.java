@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.ClassUtils.Interfaces;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares computing class hierarchies with {@link ClassUtils} on every call against the cached variants.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=ClassUtilsHierarchyBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ClassUtilsHierarchyBenchmark {
+
+    /** A class with a deep hierarchy and many interfaces. */
+    private final Class<?> type = java.util.concurrent.ConcurrentSkipListMap.class;
+
+    @Benchmark
+    public List<Class<?>> getAllInterfaces() {
+        return ClassUtils.getAllInterfaces(type);
+    }
+
+    @Benchmark
+    public List<Class<?>> getAllInterfacesCached() {
+        return ClassUtils.getAllInterfacesCached(type);
+    }
+
+    @Benchmark
+    public List<Class<?>> getAllSuperclasses() {
+        return ClassUtils.getAllSuperclasses(type);
+    }
+
+    @Benchmark
+    public List<Class<?>> getAllSuperclassesCached() {
+        return ClassUtils.getAllSuperclassesCached(type);
+    }
+
+    @Benchmark
+    public void hierarchy(final Blackhole blackhole) {
+        ClassUtils.hierarchy(type, Interfaces.INCLUDE).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void hierarchyCached(final Blackhole blackhole) {
+        ClassUtils.hierarchyCached(type, Interfaces.INCLUDE).forEach(blackhole::consume);
+    }
+}
@@ -227,6 +227,16 @@ public void test_getAllInterfaces_Class() {
         assertNull(ClassUtils.getAllInterfaces(null));
     }
 
+    @Test
+    public void test_getAllInterfacesCached_Class() {
+        final List<Class<?>> list = ClassUtils.getAllInterfacesCached(CY.class);
+        assertEquals(ClassUtils.getAllInterfaces(CY.class), list);
+        assertSame(list, ClassUtils.getAllInterfacesCached(CY.class));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(IA.class));
+
+        assertNull(ClassUtils.getAllInterfacesCached(null));
+    }
+
     @Test
     public void test_getAllSuperclasses_Class() {
         final List<?> list = ClassUtils.getAllSuperclasses(CY.class);
@@ -1300,6 +1310,29 @@ public void testGetPublicMethod() throws Exception {
         assertEquals(Object.class.getMethod("toString"), toStringMethod);
     }
 
+    @Test
+    public void test_getAllSuperclassesCached_Class() {
+        final List<Class<?>> list = ClassUtils.getAllSuperclassesCached(CY.class);
+        assertEquals(ClassUtils.getAllSuperclasses(CY.class), list);
+        assertSame(list, ClassUtils.getAllSuperclassesCached(CY.class));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(CX.class));
+
+        assertNull(ClassUtils.getAllSuperclassesCached(null));
+    }
+
+    @Test
+    public void testHierarchyCached() {
+        for (final Interfaces interfaces : Interfaces.values()) {
+            final List<Class<?>> expected = new ArrayList<>();
+            ClassUtils.hierarchy(StringParameterizedChild.class, interfaces).forEach(expected::add);
+            final List<Class<?>> list = ClassUtils.hierarchyCached(StringParameterizedChild.class, interfaces);
+            assertEquals(expected, list);
+            assertSame(list, ClassUtils.hierarchyCached(StringParameterizedChild.class, interfaces));
+            assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+            assertTrue(ClassUtils.hierarchyCached(null, interfaces).isEmpty());
+        }
+    }
+
     @Test
     public void testHierarchyExcludingInterfaces() {
         final Iterator<Class<?>> iter = ClassUtils.hierarchy(StringParameterizedChild.class).iterator();
@@ -20,6 +20,7 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -30,7 +31,9 @@
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Random;
 
+import org.apache.commons.lang3.text.translate.AggregateTranslator;
 import org.apache.commons.lang3.text.translate.CharSequenceTranslator;
 import org.apache.commons.lang3.text.translate.NumericEntityEscaper;
 import org.junit.jupiter.api.Test;
@@ -52,6 +55,56 @@ public void testConstructor() {
         assertFalse(Modifier.isFinal(StringEscapeUtils.class.getModifiers()));
     }
 
+    /**
+     * Tests that copying runs that need no translation in bulk gives the same results as translating one code point at a
+     * time.
+     */
+    @Test
+    public void testBulkTranslationMatchesPerCodePoint() {
+        final CharSequenceTranslator[] translators = {StringEscapeUtils.ESCAPE_JAVA, StringEscapeUtils.ESCAPE_ECMASCRIPT,
+            StringEscapeUtils.ESCAPE_JSON, StringEscapeUtils.ESCAPE_XML10, StringEscapeUtils.ESCAPE_XML11, StringEscapeUtils.ESCAPE_HTML3,
+            StringEscapeUtils.ESCAPE_HTML4, StringEscapeUtils.UNESCAPE_JAVA, StringEscapeUtils.UNESCAPE_HTML3, StringEscapeUtils.UNESCAPE_HTML4,
+            StringEscapeUtils.UNESCAPE_XML};
+        final char[] alphabet = {'a', 'Z', ' ', '&', '#', 'x', '1', '7', ';', '\\', 'u', '0', '"', '\'', '<', '/', '\n', '\u0001', '\u0085',
+            '\u00e9', '\u20ac', '\ud83d', '\ude00', '\uffff'};
+        final Random random = new Random(7);
+        for (final CharSequenceTranslator translator : translators) {
+            // A subclass does not get the bulk copy.
+            final CharSequenceTranslator perCodePoint = new AggregateTranslator(translator) {
+                // empty
+            };
+            for (int run = 0; run < 500; run++) {
+                final char[] chars = new char[random.nextInt(40)];
+                for (int i = 0; i < chars.length; i++) {
+                    chars[i] = random.nextInt(3) == 0 ? alphabet[random.nextInt(alphabet.length)] : 'a';
+                }
+                final String input = new String(chars);
+                String expected;
+                try {
+                    expected = perCodePoint.translate(input);
+                } catch (final IllegalArgumentException e) {
+                    assertThrows(IllegalArgumentException.class, () -> translator.translate(input));
+                    continue;
+                }
+                assertEquals(expected, translator.translate(input), input);
+                assertEquals(expected, translator.translate(new StringBuilder(input)), input);
+            }
+        }
+    }
+
+    @Test
+    public void testCleanInputIsNotCopied() {
+        final String input = "Nothing to escape here, caf\u00e9 \ud83d\ude00.";
+        assertSame(input, StringEscapeUtils.escapeXml10(input));
+        final String ascii = "Nothing to escape here";
+        assertSame(ascii, StringEscapeUtils.escapeHtml4(ascii));
+        assertSame(ascii, StringEscapeUtils.escapeJava(ascii));
+        assertSame(ascii, StringEscapeUtils.escapeJson(ascii));
+        assertSame(input, StringEscapeUtils.unescapeJava(input));
+        assertSame(input, StringEscapeUtils.unescapeHtml4(input));
+        assertEquals("caf\\u00E9 &", StringEscapeUtils.escapeJava("caf\u00e9 &"));
+    }
+
     @Test
     public void testEscapeJava() throws IOException {
         assertNull(StringEscapeUtils.escapeJava(null));
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link StringReplacer}.
+ */
+public class StringReplacerTest extends AbstractLangTest {
+
+    private static String randomString(final Random random, final int maxLength) {
+        final char[] chars = new char[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+
+    @Test
+    public void testLengthMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> StringReplacer.of(new String[] {"a"}, new String[] {"b", "a"}));
+    }
+
+    /**
+     * Compares random replacements with {@link StringUtils#replaceEach(String, String[], String[])} and
+     * {@link StringUtils#replaceEachRepeatedly(String, String[], String[])}.
+     */
+    @Test
+    public void testMatchesStringUtils() {
+        final Random random = new Random(42);
+        for (int run = 0; run < 2000; run++) {
+            final int count = 1 + random.nextInt(6);
+            final String[] searchList = new String[count];
+            final String[] replacementList = new String[count];
+            for (int i = 0; i < count; i++) {
+                searchList[i] = random.nextInt(10) == 0 ? null : randomString(random, 4);
+                replacementList[i] = random.nextInt(10) == 0 ? null : randomString(random, 3);
+            }
+            final StringReplacer replacer = StringReplacer.of(searchList, replacementList);
+            for (int t = 0; t < 5; t++) {
+                final String text = randomString(random, 20);
+                final String message = text + " " + Arrays.toString(searchList) + " " + Arrays.toString(replacementList);
+                assertEquals(StringUtils.replaceEach(text, searchList, replacementList), replacer.replace(text), message);
+                String expected;
+                try {
+                    expected = StringUtils.replaceEachRepeatedly(text, searchList, replacementList);
+                } catch (final IllegalStateException e) {
+                    assertThrows(IllegalStateException.class, () -> replacer.replaceRepeatedly(text), message);
+                    continue;
+                }
+                assertEquals(expected, replacer.replaceRepeatedly(text), message);
+            }
+        }
+    }
+
+    @Test
+    public void testReplace() {
+        assertNull(StringReplacer.of(new String[] {"a"}, new String[] {"b"}).replace(null));
+        assertEquals("", StringReplacer.of(new String[] {"a"}, new String[] {"b"}).replace(""));
+        assertEquals("aba", StringReplacer.of(null, null).replace("aba"));
+        assertEquals("aba", StringReplacer.of(new String[0], null).replace("aba"));
+        assertEquals("aba", StringReplacer.of(null, new String[0]).replace("aba"));
+        assertEquals("aba", StringReplacer.of(new String[] {"a"}, null).replace("aba"));
+        assertEquals("b", StringReplacer.of(new String[] {"a"}, new String[] {""}).replace("aba"));
+        assertEquals("aba", StringReplacer.of(new String[] {null}, new String[] {"a"}).replace("aba"));
+        assertEquals("wcte", StringReplacer.of(new String[] {"ab", "d"}, new String[] {"w", "t"}).replace("abcde"));
+        assertEquals("dcte", StringReplacer.of(new String[] {"ab", "d"}, new String[] {"d", "t"}).replace("abcde"));
+        // LANG-552
+        assertEquals("aba", StringReplacer.of(new String[] {"a"}, new String[] {null}).replace("aba"));
+        assertEquals("cbc", StringReplacer.of(new String[] {"a", "b"}, new String[] {"c", null}).replace("aba"));
+        // The leftmost occurrence wins, then the first in the search list.
+        assertEquals("X", StringReplacer.of(new String[] {"bc", "abcd"}, new String[] {"Y", "X"}).replace("abcd"));
+        assertEquals("Ycd", StringReplacer.of(new String[] {"ab", "abc"}, new String[] {"Y", "X"}).replace("abcd"));
+        assertEquals("Xd", StringReplacer.of(new String[] {"abc", "ab"}, new String[] {"X", "Y"}).replace("abcd"));
+        final String text = "no match";
+        assertSame(text, StringReplacer.of(new String[] {"x"}, new String[] {"y"}).replace(text));
+    }
+
+    @Test
+    public void testReplaceRepeatedly() {
+        assertNull(StringReplacer.of(new String[] {"a"}, new String[] {"b"}).replaceRepeatedly(null));
+        assertEquals("", StringReplacer.of(new String[] {"a"}, new String[] {"b"}).replaceRepeatedly(""));
+        assertEquals("aba", StringReplacer.of(null, null).replaceRepeatedly("aba"));
+        assertEquals("b", StringReplacer.of(new String[] {"a"}, new String[] {""}).replaceRepeatedly("aba"));
+        assertEquals("aba", StringReplacer.of(new String[] {null}, new String[] {"a"}).replaceRepeatedly("aba"));
+        assertEquals("wcte", StringReplacer.of(new String[] {"ab", "d"}, new String[] {"w", "t"}).replaceRepeatedly("abcde"));
+        assertEquals("tcte", StringReplacer.of(new String[] {"ab", "d"}, new String[] {"d", "t"}).replaceRepeatedly("abcde"));
+        assertEquals("blaan", StringReplacer.of(new String[] {"llaan"}, new String[] {"laan"}).replaceRepeatedly("blllaan"));
+        assertThrows(IllegalStateException.class,
+            () -> StringReplacer.of(new String[] {"ab", "d"}, new String[] {"d", "ab"}).replaceRepeatedly("abcde"));
+    }
+}
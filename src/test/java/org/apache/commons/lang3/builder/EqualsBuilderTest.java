@@ -265,6 +265,35 @@ public void testReflectionEquals() {
         assertTrue(EqualsBuilder.reflectionEquals(null, null));
     }
 
+    static class TestPrimitiveFieldsObject {
+        private final double d;
+        private final float f;
+        private final long l;
+
+        TestPrimitiveFieldsObject(final double d, final float f, final long l) {
+            this.d = d;
+            this.f = f;
+            this.l = l;
+        }
+    }
+
+    /**
+     * Primitive fields compare like their wrappers, as they did when read with Field.get(Object).
+     */
+    @Test
+    public void testReflectionEqualsPrimitiveFields() {
+        assertTrue(EqualsBuilder.reflectionEquals(new TestPrimitiveFieldsObject(Double.NaN, Float.NaN, 1),
+            new TestPrimitiveFieldsObject(Double.NaN, Float.NaN, 1)));
+        assertFalse(EqualsBuilder.reflectionEquals(new TestPrimitiveFieldsObject(0.0d, 0.0f, 1),
+            new TestPrimitiveFieldsObject(-0.0d, 0.0f, 1)));
+        assertFalse(EqualsBuilder.reflectionEquals(new TestPrimitiveFieldsObject(0.0d, 0.0f, 1),
+            new TestPrimitiveFieldsObject(0.0d, -0.0f, 1)));
+        assertFalse(EqualsBuilder.reflectionEquals(new TestPrimitiveFieldsObject(0.0d, 0.0f, 1),
+            new TestPrimitiveFieldsObject(0.0d, 0.0f, 2)));
+        assertTrue(EqualsBuilder.reflectionEquals(new TestPrimitiveFieldsObject(0.0d, 0.0f, 2),
+            new TestPrimitiveFieldsObject(0.0d, 0.0f, 2), false, null, true));
+    }
+
     @Test
     public void testReflectionHierarchyEquals() {
         testReflectionHierarchyEquals(false);
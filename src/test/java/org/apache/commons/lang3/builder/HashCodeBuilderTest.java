@@ -143,6 +143,27 @@ static class TestObjectWithMultipleFields {
         }
     }
 
+    static class TestObjectWithPrimitiveFields {
+        @SuppressWarnings("unused")
+        private final boolean a = true;
+        @SuppressWarnings("unused")
+        private final byte b = -1;
+        @SuppressWarnings("unused")
+        private final char c = 'c';
+        @SuppressWarnings("unused")
+        private final double d = -1.5d;
+        @SuppressWarnings("unused")
+        private final float f = -2.5f;
+        @SuppressWarnings("unused")
+        private final int i = -3;
+        @SuppressWarnings("unused")
+        private final long l = -4L;
+        @SuppressWarnings("unused")
+        private final short s = -5;
+        @SuppressWarnings("unused")
+        private final Object[] z = {"z"};
+    }
+
     static class TestSubObject extends TestObject {
         private int b;
 
@@ -481,6 +502,24 @@ public void testReflectionHashCode() {
         assertEquals(17 * 37 + 123456, HashCodeBuilder.reflectionHashCode(new TestObject(123456)));
     }
 
+    /**
+     * Primitive fields hash like their wrappers, as they did when read with Field.get(Object).
+     */
+    @Test
+    public void testReflectionHashCodePrimitiveFields() {
+        final HashCodeBuilder expected = new HashCodeBuilder(17, 37)
+            .append(Boolean.valueOf(true))
+            .append(Byte.valueOf((byte) -1))
+            .append(Character.valueOf('c'))
+            .append(Double.valueOf(-1.5d))
+            .append(Float.valueOf(-2.5f))
+            .append(Integer.valueOf(-3))
+            .append(Long.valueOf(-4L))
+            .append(Short.valueOf((short) -5))
+            .append(new Object[] {"z"});
+        assertEquals(expected.toHashCode(), HashCodeBuilder.reflectionHashCode(new TestObjectWithPrimitiveFields()));
+    }
+
     @Test
     public void testReflectionHashCodeEx1() {
         assertThrows(IllegalArgumentException.class, () -> HashCodeBuilder.reflectionHashCode(0, 0, new TestObject(0), true));
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link IdentityRegistry}.
+ */
+public class IdentityRegistryTest extends AbstractLangTest {
+
+    /**
+     * Objects that are all equal and share a hash code, to make sure the registry only uses identity.
+     */
+    private static final class Same {
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Same;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    @Test
+    public void testGrowAndShrink() {
+        final IdentityRegistry registry = new IdentityRegistry();
+        final Object[] objects = new Object[5000];
+        for (int i = 0; i < objects.length; i++) {
+            objects[i] = new Same();
+            registry.register(objects[i], objects[i]);
+        }
+        for (final Object object : objects) {
+            assertTrue(registry.contains(object, object));
+        }
+        for (int i = 0; i < objects.length; i += 2) {
+            registry.unregister(objects[i], objects[i]);
+        }
+        for (int i = 0; i < objects.length; i++) {
+            assertTrue(registry.contains(objects[i], objects[i]) == (i % 2 == 1));
+        }
+        for (int i = objects.length - 1; i >= 0; i--) {
+            registry.unregister(objects[i], objects[i]);
+        }
+        assertTrue(registry.isEmpty());
+        registry.register(objects[0], objects[0]);
+        assertTrue(registry.contains(objects[0], objects[0]));
+        registry.unregister(objects[0], objects[0]);
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    public void testIdentity() {
+        final IdentityRegistry registry = new IdentityRegistry();
+        final Same a = new Same();
+        final Same b = new Same();
+        assertTrue(registry.isEmpty());
+        assertFalse(registry.contains(a, b));
+        registry.register(a, b);
+        assertFalse(registry.isEmpty());
+        assertTrue(registry.contains(a, b));
+        assertFalse(registry.contains(b, a));
+        assertFalse(registry.contains(a, a));
+        assertFalse(registry.contains(new Same(), b));
+        // registering twice is a no-op, as for a Set
+        registry.register(a, b);
+        registry.unregister(a, b);
+        assertFalse(registry.contains(a, b));
+        assertTrue(registry.isEmpty());
+        // unregistering an unknown pair is a no-op
+        registry.unregister(a, b);
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    public void testPerThread() throws Exception {
+        final IdentityRegistry registry = new IdentityRegistry();
+        final Object a = new Object();
+        registry.register(a, a);
+        try {
+            assertFalse(CompletableFuture.supplyAsync(() -> registry.contains(a, a)).get().booleanValue());
+            assertTrue(registry.contains(a, a));
+        } finally {
+            registry.unregister(a, a);
+        }
+    }
+}
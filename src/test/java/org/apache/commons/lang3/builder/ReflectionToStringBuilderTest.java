@@ -16,13 +16,73 @@
  */
 package org.apache.commons.lang3.builder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.lang.reflect.Field;
+
 import org.apache.commons.lang3.AbstractLangTest;
 import org.junit.jupiter.api.Test;
 
 public class ReflectionToStringBuilderTest extends AbstractLangTest {
 
+    static class CachedFieldsFixture {
+        @SuppressWarnings("unused")
+        private final int a = 1;
+        @SuppressWarnings("unused")
+        private final String b = "x";
+        @SuppressWarnings("unused")
+        private final transient int c = 3;
+    }
+
+    @Test
+    public void testCachedFieldsAfterClear() {
+        final CachedFieldsFixture fixture = new CachedFieldsFixture();
+        final String expected = ReflectionToStringBuilder.toString(fixture, ToStringStyle.SHORT_PREFIX_STYLE);
+        ReflectionToStringBuilder.clearFieldCache();
+        assertEquals(expected, ReflectionToStringBuilder.toString(fixture, ToStringStyle.SHORT_PREFIX_STYLE));
+        assertEquals("ReflectionToStringBuilderTest.CachedFieldsFixture[a=1,b=x]", expected);
+    }
+
+    @Test
+    public void testCachedFieldsPerFilter() {
+        final CachedFieldsFixture fixture = new CachedFieldsFixture();
+        final ToStringStyle style = ToStringStyle.SHORT_PREFIX_STYLE;
+        assertEquals("ReflectionToStringBuilderTest.CachedFieldsFixture[a=1,b=x]",
+            ReflectionToStringBuilder.toString(fixture, style));
+        assertEquals("ReflectionToStringBuilderTest.CachedFieldsFixture[a=1,b=x,c=3]",
+            ReflectionToStringBuilder.toString(fixture, style, true));
+        assertEquals("ReflectionToStringBuilderTest.CachedFieldsFixture[b=x]",
+            new ReflectionToStringBuilder(fixture, style).setExcludeFieldNames("a").toString());
+        assertEquals("ReflectionToStringBuilderTest.CachedFieldsFixture[a=1]",
+            new ReflectionToStringBuilder(fixture, style).setExcludeFieldNames("b").toString());
+        assertEquals("ReflectionToStringBuilderTest.CachedFieldsFixture[b=x]",
+            new ReflectionToStringBuilder(fixture, style).setIncludeFieldNames("b").toString());
+        assertEquals("ReflectionToStringBuilderTest.CachedFieldsFixture[a=1,b=x]",
+            ReflectionToStringBuilder.toString(fixture, style));
+    }
+
+    @Test
+    public void testCachedFieldsWithOverriddenAccept() {
+        final CachedFieldsFixture fixture = new CachedFieldsFixture();
+        final String[] rejected = {"a"};
+        final ReflectionToStringBuilder builder = new ReflectionToStringBuilder(fixture, ToStringStyle.SHORT_PREFIX_STYLE) {
+            @Override
+            protected boolean accept(final Field field) {
+                return super.accept(field) && !field.getName().equals(rejected[0]);
+            }
+        };
+        assertEquals("ReflectionToStringBuilderTest.CachedFieldsFixture[b=x]", builder.toString());
+        rejected[0] = "b";
+        assertEquals("ReflectionToStringBuilderTest.CachedFieldsFixture[a=1]",
+            new ReflectionToStringBuilder(fixture, ToStringStyle.SHORT_PREFIX_STYLE) {
+                @Override
+                protected boolean accept(final Field field) {
+                    return super.accept(field) && !field.getName().equals(rejected[0]);
+                }
+            }.toString());
+    }
+
     @Test
     public void testConstructorWithNullObject() {
         assertThrows(NullPointerException.class,
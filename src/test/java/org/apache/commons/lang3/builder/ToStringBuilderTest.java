@@ -21,6 +21,8 @@
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -585,6 +587,30 @@ public void testAppendSuper() {
         assertEquals(baseStr + "[a=hello]", new ToStringBuilder(base).appendSuper(null).append("a", "hello").toString());
     }
 
+    @Test
+    public void testAppendTo() throws IOException {
+        final StringBuilder sb = new StringBuilder("prefix ");
+        assertSame(sb, new ToStringBuilder(base).append("a", 3).appendTo(sb));
+        assertEquals("prefix " + baseStr + "[a=3]", sb.toString());
+        final StringWriter writer = new StringWriter();
+        assertSame(writer, new ToStringBuilder(base).appendTo(writer));
+        assertEquals(baseStr + "[]", writer.toString());
+        assertEquals("<null>", new ToStringBuilder(null).appendTo(new StringBuilder()).toString());
+        final ToStringBuilder builder = new ToStringBuilder(base).append("a", 3);
+        assertThrows(NullPointerException.class, () -> builder.appendTo(null));
+        assertEquals(baseStr + "[a=3]", builder.toString());
+    }
+
+    @Test
+    public void testReflectionAppendTo() throws IOException {
+        final StringBuilder sb = new StringBuilder("prefix ");
+        assertSame(sb, new ReflectionToStringBuilder(base).appendTo(sb));
+        assertEquals("prefix " + baseStr + "[value=5]", sb.toString());
+        final ReflectionToStringBuilder builder = new ReflectionToStringBuilder(base);
+        assertThrows(NullPointerException.class, () -> builder.appendTo(null));
+        assertEquals(baseStr + "[value=5]", builder.toString());
+    }
+
     @Test
     public void testAppendToString() {
         assertEquals(baseStr + "[]", new ToStringBuilder(base).appendToString("Integer@8888[]").toString());
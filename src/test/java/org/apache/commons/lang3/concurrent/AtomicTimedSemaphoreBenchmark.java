@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares acquiring permits from a shared {@link TimedSemaphore} and a shared {@link AtomicTimedSemaphore} from 4
+ * threads, with a limit that is never reached.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=AtomicTimedSemaphoreBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class AtomicTimedSemaphoreBenchmark {
+
+    private final AtomicTimedSemaphore atomicTimedSemaphore = new AtomicTimedSemaphore(1, TimeUnit.SECONDS, Integer.MAX_VALUE);
+
+    private final TimedSemaphore timedSemaphore = new TimedSemaphore(1, TimeUnit.SECONDS, Integer.MAX_VALUE);
+
+    @Benchmark
+    public boolean atomicTimedSemaphore() {
+        return atomicTimedSemaphore.tryAcquire(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        timedSemaphore.shutdown();
+    }
+
+    @Benchmark
+    public boolean timedSemaphore() {
+        return timedSemaphore.tryAcquire();
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link AtomicTimedSemaphore}.
+ */
+public class AtomicTimedSemaphoreTest extends AbstractLangTest {
+
+    /**
+     * A test implementation of {@code AtomicTimedSemaphore} which supports mocking the timer.
+     */
+    private static class AtomicTimedSemaphoreTestImpl extends AtomicTimedSemaphore {
+
+        /** The current time in nanoseconds. */
+        private long currentTime;
+
+        AtomicTimedSemaphoreTestImpl(final long timePeriod, final TimeUnit timeUnit, final int limit) {
+            super(timePeriod, timeUnit, limit);
+        }
+
+        /**
+         * Sets the current time to be used by this test object for the next operation.
+         *
+         * @param time the time to set
+         * @return a reference to this object
+         */
+        AtomicTimedSemaphoreTestImpl at(final long time) {
+            currentTime = time;
+            return this;
+        }
+
+        @Override
+        long nanoTime() {
+            return currentTime;
+        }
+    }
+
+    /** Constant for the time period. */
+    private static final long PERIOD_MILLIS = 100;
+
+    /** Constant for the default limit. */
+    private static final int LIMIT = 10;
+
+    @Test
+    public void testAcquireAsync() throws InterruptedException, ExecutionException {
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(PERIOD_MILLIS, TimeUnit.MILLISECONDS, LIMIT);
+        final ScheduledExecutorService service = new ScheduledThreadPoolExecutor(1);
+        try {
+            final CompletableFuture<Void> first = semaphore.acquireAsync(LIMIT, service);
+            assertTrue(first.isDone());
+            final CompletableFuture<Void> second = semaphore.acquireAsync(LIMIT, service);
+            second.get();
+            assertThrows(IllegalArgumentException.class, () -> semaphore.acquireAsync(LIMIT + 1, service));
+            assertThrows(NullPointerException.class, () -> semaphore.acquireAsync(1, null));
+        } finally {
+            service.shutdownNow();
+        }
+        final AtomicTimedSemaphore hourly = new AtomicTimedSemaphore(1, TimeUnit.HOURS, 1);
+        assertTrue(hourly.tryAcquire(1));
+        final CompletableFuture<Void> rejected = hourly.acquireAsync(1, service);
+        assertTrue(rejected.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testAfterLongIdleGap() {
+        final AtomicTimedSemaphoreTestImpl semaphore = new AtomicTimedSemaphoreTestImpl(1, TimeUnit.NANOSECONDS, 1);
+        assertTrue(semaphore.at(0).tryAcquire(1));
+        assertFalse(semaphore.tryAcquire(1));
+        // More than 2^31 periods later, then exactly 2^32 periods after that.
+        assertEquals(0, semaphore.at(3_000_000_000L).getAcquireCount());
+        assertTrue(semaphore.tryAcquire(1));
+        assertFalse(semaphore.tryAcquire(1));
+        assertEquals(1, semaphore.getAcquireCount());
+        assertEquals(0, semaphore.at(3_000_000_000L + (1L << 32)).getAcquireCount());
+        assertTrue(semaphore.tryAcquire(1));
+        assertEquals(0, semaphore.getAvailablePermits());
+    }
+
+    @Test
+    public void testAcquireWaitsForNextPeriod() throws InterruptedException {
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(PERIOD_MILLIS, TimeUnit.MILLISECONDS, LIMIT);
+        for (int i = 0; i < 3 * LIMIT; i++) {
+            semaphore.acquire(1);
+        }
+        assertThrows(IllegalArgumentException.class, () -> semaphore.acquire(LIMIT + 1));
+        assertThrows(IllegalArgumentException.class, () -> semaphore.acquire(0));
+    }
+
+    @Test
+    public void testAcquireInterrupted() throws InterruptedException {
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(1, TimeUnit.HOURS, 1);
+        assertTrue(semaphore.tryAcquire(1));
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final Thread thread = new Thread(() -> {
+            try {
+                semaphore.acquire(1);
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        thread.start();
+        thread.interrupt();
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testConcurrentTryAcquire() throws InterruptedException {
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(1, TimeUnit.HOURS, 1000);
+        final AtomicInteger acquired = new AtomicInteger();
+        final Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 500; j++) {
+                    if (semaphore.tryAcquire(1)) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1000, acquired.get());
+        assertEquals(1000, semaphore.getAcquireCount());
+        assertEquals(0, semaphore.getAvailablePermits());
+    }
+
+    @Test
+    public void testInit() {
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(PERIOD_MILLIS, TimeUnit.MILLISECONDS, LIMIT);
+        assertEquals(PERIOD_MILLIS, semaphore.getPeriod());
+        assertEquals(TimeUnit.MILLISECONDS, semaphore.getUnit());
+        assertEquals(LIMIT, semaphore.getLimit());
+        assertEquals(0, semaphore.getAcquireCount());
+        assertEquals(LIMIT, semaphore.getAvailablePermits());
+        assertThrows(IllegalArgumentException.class, () -> new AtomicTimedSemaphore(0, TimeUnit.MILLISECONDS, LIMIT));
+        assertThrows(NullPointerException.class, () -> new AtomicTimedSemaphore(PERIOD_MILLIS, null, LIMIT));
+    }
+
+    @Test
+    public void testNoLimit() {
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(1, TimeUnit.HOURS, AtomicTimedSemaphore.NO_LIMIT);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(semaphore.tryAcquire(LIMIT));
+        }
+        assertEquals(1000 * LIMIT, semaphore.getAcquireCount());
+    }
+
+    @Test
+    public void testSetLimit() {
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(1, TimeUnit.HOURS, LIMIT);
+        assertTrue(semaphore.tryAcquire(LIMIT));
+        assertFalse(semaphore.tryAcquire(1));
+        semaphore.setLimit(LIMIT + 1);
+        assertEquals(1, semaphore.getAvailablePermits());
+        assertTrue(semaphore.tryAcquire(1));
+        assertFalse(semaphore.tryAcquire(1));
+    }
+
+    @Test
+    public void testTryAcquire() {
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(1, TimeUnit.HOURS, LIMIT);
+        assertTrue(semaphore.tryAcquire(3));
+        assertEquals(3, semaphore.getAcquireCount());
+        assertEquals(LIMIT - 3, semaphore.getAvailablePermits());
+        assertFalse(semaphore.tryAcquire(LIMIT - 2));
+        assertTrue(semaphore.tryAcquire(LIMIT - 3));
+        assertFalse(semaphore.tryAcquire(1));
+        assertThrows(IllegalArgumentException.class, () -> semaphore.tryAcquire(0));
+    }
+
+    @Test
+    public void testTryAcquireTimeout() throws InterruptedException {
+        final AtomicTimedSemaphore hourly = new AtomicTimedSemaphore(1, TimeUnit.HOURS, 1);
+        assertTrue(hourly.tryAcquire(1, 0, TimeUnit.MILLISECONDS));
+        assertFalse(hourly.tryAcquire(1, 20, TimeUnit.MILLISECONDS));
+        final AtomicTimedSemaphore semaphore = new AtomicTimedSemaphore(PERIOD_MILLIS, TimeUnit.MILLISECONDS, 1);
+        assertTrue(semaphore.tryAcquire(1, 0, TimeUnit.MILLISECONDS));
+        assertTrue(semaphore.tryAcquire(1, 10, TimeUnit.SECONDS));
+    }
+}
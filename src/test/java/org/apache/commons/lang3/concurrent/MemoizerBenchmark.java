@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures getting cached results from a shared {@link Memoizer} with a maximum size and an expiry from 4 threads,
+ * compared with a Memoizer without limit or expiry, and getting them as futures with
+ * {@link Memoizer#computeAsync(Object)}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=MemoizerBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class MemoizerBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private static final Function<Integer, Integer> FUNCTION = i -> i * 31;
+
+    private final Memoizer<Integer, Integer> unbounded = new Memoizer<>(FUNCTION);
+
+    private final Memoizer<Integer, Integer> bounded = new Memoizer.Builder<Integer, Integer>()
+        .function(FUNCTION)
+        .maximumSize(KEYS)
+        .expireAfterAccess(1, TimeUnit.MINUTES)
+        .build();
+
+    /**
+     * The keys requested by a thread, in turn.
+     */
+    @State(Scope.Thread)
+    public static class Keys {
+
+        private final Integer[] keys = new Integer[KEYS];
+
+        private int next;
+
+        public Keys() {
+            for (int i = 0; i < KEYS; i++) {
+                keys[i] = i;
+            }
+        }
+
+        Integer next() {
+            next = next + 1 & KEYS - 1;
+            return keys[next];
+        }
+    }
+
+    @Benchmark
+    public Integer bounded(final Keys keys) throws InterruptedException {
+        return bounded.compute(keys.next());
+    }
+
+    @Benchmark
+    public CompletableFuture<Integer> computeAsync(final Keys keys) {
+        return unbounded.computeAsync(keys.next());
+    }
+
+    @Benchmark
+    public Integer unbounded(final Keys keys) throws InterruptedException {
+        return unbounded.compute(keys.next());
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Memoizer} created with a {@link Memoizer.Builder}.
+ */
+public class MemoizerBuilderTest extends AbstractLangTest {
+
+    /**
+     * A test implementation of {@code Memoizer} which supports mocking the timer.
+     */
+    private static class MemoizerTestImpl extends Memoizer<Integer, String> {
+
+        /** The current time in nanoseconds. */
+        private long currentTime;
+
+        MemoizerTestImpl(final Builder<Integer, String> builder) {
+            super(builder);
+        }
+
+        /**
+         * Sets the current time to be used by this test object for the next operation.
+         *
+         * @param time the time to set
+         * @return a reference to this object
+         */
+        MemoizerTestImpl at(final long time) {
+            currentTime = time;
+            return this;
+        }
+
+        @Override
+        long nanoTime() {
+            return currentTime;
+        }
+    }
+
+    /** Constant for the factor for converting nanoseconds. */
+    private static final long NANO_FACTOR = 1000L * 1000L * 1000L;
+
+    /** The number of calculations. */
+    private final AtomicInteger loads = new AtomicInteger();
+
+    /** A calculation whose results tell how many calculations were made. */
+    private final Function<Integer, String> function = i -> i + "#" + loads.incrementAndGet();
+
+    private Memoizer.Builder<Integer, String> builder() {
+        return new Memoizer.Builder<Integer, String>().function(function);
+    }
+
+    @Test
+    public void testBuilderInvalidArguments() {
+        final Memoizer.Builder<Integer, String> builder = new Memoizer.Builder<>();
+        assertThrows(NullPointerException.class, builder::build);
+        assertThrows(NullPointerException.class, () -> builder.function(null));
+        assertThrows(NullPointerException.class, () -> builder.computable(null));
+        assertThrows(NullPointerException.class, () -> builder.executor(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.maximumSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.expireAfterWrite(0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> builder.expireAfterAccess(-1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> builder.refreshAfterWrite(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testComputeAsync() throws Exception {
+        final List<Runnable> tasks = new ArrayList<>();
+        final Memoizer<Integer, String> memoizer = builder().executor(tasks::add).build();
+        final CompletableFuture<String> future = memoizer.computeAsync(1);
+        assertSame(future, memoizer.computeAsync(1));
+        assertFalse(future.isDone());
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals("1#1", future.get());
+        assertEquals("1#1", memoizer.compute(1));
+        assertSame(future, memoizer.computeAsync(1));
+        assertEquals(0, tasks.size());
+        assertEquals(1, memoizer.getStats().getMissCount());
+        assertEquals(3, memoizer.getStats().getHitCount());
+    }
+
+    @Test
+    public void testComputeAsyncRunningCalculationDoesNotExpire() throws Exception {
+        final List<Runnable> tasks = new ArrayList<>();
+        final MemoizerTestImpl memoizer = new MemoizerTestImpl(builder().expireAfterAccess(100, TimeUnit.MILLISECONDS)
+            .expireAfterWrite(100, TimeUnit.MILLISECONDS).executor(tasks::add));
+        final CompletableFuture<String> future = memoizer.at(0).computeAsync(1);
+        assertSame(future, memoizer.at(250_000_000L).computeAsync(1));
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals("1#1", future.get());
+        assertEquals("1#1", memoizer.at(300_000_000L).compute(1));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testComputeAsyncCancel() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final Memoizer<Integer, String> memoizer = builder().executor(tasks::add).build();
+        final CompletableFuture<String> future = memoizer.computeAsync(1);
+        future.cancel(false);
+        assertNotSame(future, memoizer.computeAsync(1));
+    }
+
+    @Test
+    public void testComputeAsyncDoesNotRecalculate() {
+        final Memoizer<Integer, String> memoizer = new Memoizer.Builder<Integer, String>().function(i -> {
+            throw new IllegalStateException();
+        }).executor(Runnable::run).build();
+        final CompletableFuture<String> future = memoizer.computeAsync(1);
+        final ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertEquals(IllegalStateException.class, e.getCause().getClass());
+        assertSame(future, memoizer.computeAsync(1));
+        assertThrows(IllegalStateException.class, () -> memoizer.compute(1));
+    }
+
+    @Test
+    public void testComputeAsyncRecalculate() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Memoizer<Integer, String> memoizer = new Memoizer.Builder<Integer, String>().function(i -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        }).recalculate(true).executor(Runnable::run).build();
+        assertTrue(memoizer.computeAsync(1).isCompletedExceptionally());
+        assertEquals("ok", memoizer.computeAsync(1).get());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testComputeAsyncRejected() {
+        final Memoizer<Integer, String> memoizer = builder().executor(r -> {
+            throw new RejectedExecutionException();
+        }).recalculate(true).build();
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> memoizer.computeAsync(1).get());
+        assertEquals(RejectedExecutionException.class, e.getCause().getClass());
+        assertEquals(1, memoizer.getStats().getLoadFailureCount());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    public void testComputable() throws InterruptedException {
+        final Memoizer<Integer, String> memoizer = new Memoizer.Builder<Integer, String>().computable(function::apply).build();
+        assertEquals("1#1", memoizer.compute(1));
+        assertEquals("1#1", memoizer.compute(1));
+    }
+
+    @Test
+    public void testExpireAfterAccess() throws InterruptedException {
+        final MemoizerTestImpl memoizer = new MemoizerTestImpl(builder().expireAfterAccess(10, TimeUnit.SECONDS));
+        assertEquals("1#1", memoizer.at(0).compute(1));
+        assertEquals("1#1", memoizer.at(9 * NANO_FACTOR).compute(1));
+        assertEquals("1#1", memoizer.at(18 * NANO_FACTOR).compute(1));
+        assertEquals("1#2", memoizer.at(28 * NANO_FACTOR).compute(1));
+        assertEquals(1, memoizer.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void testExpireAfterWrite() throws InterruptedException {
+        final MemoizerTestImpl memoizer = new MemoizerTestImpl(builder().expireAfterWrite(10, TimeUnit.SECONDS));
+        assertEquals("1#1", memoizer.at(0).compute(1));
+        assertEquals("1#1", memoizer.at(10 * NANO_FACTOR - 1).compute(1));
+        assertEquals("1#2", memoizer.at(10 * NANO_FACTOR).compute(1));
+        assertEquals("1#2", memoizer.at(19 * NANO_FACTOR).compute(1));
+        assertEquals(1, memoizer.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void testMaximumSizeEvictsResultsNotUsedRecently() throws InterruptedException {
+        final Memoizer<Integer, String> memoizer = builder().maximumSize(2).build();
+        assertEquals("1#1", memoizer.compute(1));
+        assertEquals("2#2", memoizer.compute(2));
+        assertEquals("1#1", memoizer.compute(1));
+        assertEquals("3#3", memoizer.compute(3));
+        assertEquals("1#1", memoizer.compute(1), "Used since it was cached");
+        assertEquals("2#4", memoizer.compute(2), "Not used since it was cached");
+        assertEquals(2, memoizer.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void testEvictionQueueDropsRemovedResults() throws InterruptedException {
+        final MemoizerTestImpl memoizer = new MemoizerTestImpl(builder().maximumSize(1000).expireAfterWrite(1, TimeUnit.MILLISECONDS));
+        for (int round = 0; round < 2000; round++) {
+            memoizer.at(round * NANO_FACTOR);
+            for (int i = 0; i < 10; i++) {
+                memoizer.compute(i);
+            }
+        }
+        assertEquals(20000, loads.get());
+        assertTrue(memoizer.getQueueSize() <= 2 * 10 + 16, () -> "Queue size " + memoizer.getQueueSize());
+    }
+
+    @Test
+    public void testMaximumSizeZero() throws InterruptedException {
+        final Memoizer<Integer, String> memoizer = builder().maximumSize(0).build();
+        assertEquals("1#1", memoizer.compute(1));
+        assertEquals("1#2", memoizer.compute(1));
+    }
+
+    @Test
+    public void testRecalculate() throws InterruptedException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Memoizer<Integer, String> memoizer = new Memoizer.Builder<Integer, String>().function(i -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        }).recalculate(true).build();
+        assertThrows(IllegalStateException.class, () -> memoizer.compute(1));
+        assertEquals("ok", memoizer.compute(1));
+        assertEquals(1, memoizer.getStats().getLoadFailureCount());
+        assertEquals(1, memoizer.getStats().getLoadSuccessCount());
+    }
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        final List<Runnable> tasks = new ArrayList<>();
+        final MemoizerTestImpl memoizer = new MemoizerTestImpl(builder().refreshAfterWrite(10, TimeUnit.SECONDS).executor(tasks::add));
+        assertEquals("1#1", memoizer.at(0).compute(1));
+        assertEquals("1#1", memoizer.at(10 * NANO_FACTOR).compute(1));
+        assertEquals("1#1", memoizer.compute(1), "Refreshed once at a time");
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals("1#2", memoizer.compute(1));
+        assertEquals("1#2", memoizer.at(19 * NANO_FACTOR).compute(1));
+        assertEquals(0, tasks.size());
+        assertEquals(1, memoizer.getStats().getMissCount());
+        assertEquals(2, memoizer.getStats().getLoadSuccessCount());
+    }
+
+    @Test
+    public void testRefreshFailureKeepsResult() throws InterruptedException {
+        final AtomicInteger calls = new AtomicInteger();
+        final MemoizerTestImpl memoizer = new MemoizerTestImpl(new Memoizer.Builder<Integer, String>().function(i -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException();
+            }
+            return "ok" + calls.get();
+        }).refreshAfterWrite(10, TimeUnit.SECONDS).executor(Runnable::run));
+        assertEquals("ok1", memoizer.at(0).compute(1));
+        assertEquals("ok1", memoizer.at(10 * NANO_FACTOR).compute(1));
+        assertEquals("ok1", memoizer.compute(1));
+        assertEquals("ok3", memoizer.compute(1));
+        assertEquals(1, memoizer.getStats().getLoadFailureCount());
+    }
+
+    @Test
+    public void testSingleFlight() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Memoizer<Integer, String> memoizer = new Memoizer.Builder<Integer, String>().function(i -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return function.apply(i);
+        }).maximumSize(10).expireAfterWrite(1, TimeUnit.HOURS).build();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> memoizer.compute(1)));
+            }
+            started.await();
+            release.countDown();
+            for (final Future<String> result : results) {
+                assertEquals("1#1", result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, memoizer.getStats().getMissCount());
+        assertEquals(3, memoizer.getStats().getHitCount());
+    }
+
+    @Test
+    public void testStats() throws InterruptedException {
+        final MemoizerTestImpl memoizer = new MemoizerTestImpl(builder());
+        assertEquals(1, memoizer.getStats().getHitRate());
+        assertEquals(0, memoizer.getStats().getAverageLoadPenalty());
+        memoizer.compute(1);
+        memoizer.compute(1);
+        memoizer.compute(1);
+        memoizer.compute(2);
+        final Memoizer.Stats stats = memoizer.getStats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate());
+        assertEquals(2, stats.getLoadSuccessCount());
+        assertEquals(0, stats.getLoadFailureCount());
+        assertEquals(0, stats.getTotalLoadTime());
+        assertEquals(0, stats.getEvictionCount());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures asking a shared {@link SlidingWindowCircuitBreaker} for a permission and recording the call from 4 threads,
+ * with thresholds that are never reached, compared with counting the call with a shared {@link EventCountCircuitBreaker}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=SlidingWindowCircuitBreakerBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class SlidingWindowCircuitBreakerBenchmark {
+
+    private final EventCountCircuitBreaker eventCountCircuitBreaker = new EventCountCircuitBreaker(Integer.MAX_VALUE, 1, TimeUnit.SECONDS);
+
+    private final SlidingWindowCircuitBreaker slidingWindowCircuitBreaker = new SlidingWindowCircuitBreaker.Builder()
+        .window(10, TimeUnit.SECONDS)
+        .minimumCalls(1)
+        .build();
+
+    @Benchmark
+    public boolean eventCountCircuitBreaker() {
+        return eventCountCircuitBreaker.checkState() && eventCountCircuitBreaker.incrementAndCheckState();
+    }
+
+    @Benchmark
+    public boolean slidingWindowCircuitBreaker() {
+        return slidingWindowCircuitBreaker.tryAcquirePermission() && slidingWindowCircuitBreaker.recordSuccess(10, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SlidingWindowCircuitBreaker}.
+ */
+public class SlidingWindowCircuitBreakerTest extends AbstractLangTest {
+
+    /**
+     * A test implementation of {@code SlidingWindowCircuitBreaker} which supports mocking the timer.
+     */
+    private static class SlidingWindowCircuitBreakerTestImpl extends SlidingWindowCircuitBreaker {
+
+        /** The current time in nanoseconds. */
+        private long currentTime;
+
+        SlidingWindowCircuitBreakerTestImpl(final Builder builder) {
+            super(builder);
+        }
+
+        /**
+         * Sets the current time to be used by this test object for the next operation.
+         *
+         * @param time the time to set
+         * @return a reference to this object
+         */
+        SlidingWindowCircuitBreakerTestImpl at(final long time) {
+            currentTime = time;
+            return this;
+        }
+
+        @Override
+        long nanoTime() {
+            return currentTime;
+        }
+    }
+
+    /** Constant for the factor for converting nanoseconds. */
+    private static final long NANO_FACTOR = 1000L * 1000L * 1000L;
+
+    /**
+     * Creates a breaker with a window of 10 seconds in 10 buckets, 10 minimum calls, thresholds of 50%, a slow call
+     * duration of 1 second, a wait duration of 5 seconds and 4 permitted calls in half-open state.
+     */
+    private static SlidingWindowCircuitBreakerTestImpl newBreaker() {
+        return new SlidingWindowCircuitBreakerTestImpl(new SlidingWindowCircuitBreaker.Builder()
+            .window(10, TimeUnit.SECONDS)
+            .buckets(10)
+            .minimumCalls(10)
+            .failureRateThreshold(50)
+            .slowCallDuration(1, TimeUnit.SECONDS)
+            .slowCallRateThreshold(50)
+            .waitDurationInOpenState(5, TimeUnit.SECONDS)
+            .permittedCallsInHalfOpenState(4));
+    }
+
+    @Test
+    public void testBuilderDefaults() {
+        final SlidingWindowCircuitBreaker breaker = new SlidingWindowCircuitBreaker.Builder().build();
+        assertTrue(breaker.isClosed());
+        assertFalse(breaker.isHalfOpen());
+        assertEquals(TimeUnit.MINUTES.toNanos(1), breaker.getWindow());
+        assertEquals(100, breaker.getMinimumCalls());
+        assertEquals(50, breaker.getFailureRateThreshold());
+        assertEquals(100, breaker.getSlowCallRateThreshold());
+        assertEquals(TimeUnit.MINUTES.toNanos(1), breaker.getSlowCallDuration());
+        assertEquals(TimeUnit.MINUTES.toNanos(1), breaker.getWaitDurationInOpenState());
+        assertEquals(10, breaker.getPermittedCallsInHalfOpenState());
+        assertEquals(TimeUnit.MINUTES.toNanos(1), breaker.getMaxWaitDurationInHalfOpenState());
+        assertEquals(-1, breaker.getFailureRate());
+    }
+
+    @Test
+    public void testBuilderInvalidArguments() {
+        final SlidingWindowCircuitBreaker.Builder builder = new SlidingWindowCircuitBreaker.Builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.window(0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> builder.buckets(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.buckets(1025));
+        assertThrows(IllegalArgumentException.class, () -> builder.minimumCalls(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.failureRateThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.failureRateThreshold(101));
+        assertThrows(IllegalArgumentException.class, () -> builder.slowCallRateThreshold(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.slowCallDuration(-1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> builder.waitDurationInOpenState(0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> builder.permittedCallsInHalfOpenState(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.maxWaitDurationInHalfOpenState(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testChangeEvents() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = newBreaker();
+        final List<Object> changes = new ArrayList<>();
+        breaker.addChangeListener(e -> changes.add(e.getNewValue()));
+        long time = 0;
+        for (int i = 0; i < 10; i++) {
+            breaker.at(time).recordFailure(0, TimeUnit.SECONDS);
+        }
+        time += 5 * NANO_FACTOR;
+        assertTrue(breaker.at(time).tryAcquirePermission());
+        for (int i = 0; i < 4; i++) {
+            breaker.recordSuccess(0, TimeUnit.SECONDS);
+        }
+        assertEquals(Arrays.asList(Boolean.TRUE, Boolean.FALSE), changes);
+    }
+
+    @Test
+    public void testFewerThanMinimumCallsDoNotOpen() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = newBreaker();
+        for (int i = 0; i < 9; i++) {
+            assertTrue(breaker.at(i).recordFailure(0, TimeUnit.SECONDS));
+        }
+        assertEquals(-1, breaker.getFailureRate());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void testHalfOpenCloses() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = newBreaker();
+        breaker.at(0).open();
+        assertFalse(breaker.at(5 * NANO_FACTOR - 1).tryAcquirePermission());
+        assertFalse(breaker.isHalfOpen());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.at(5 * NANO_FACTOR).tryAcquirePermission());
+        }
+        assertTrue(breaker.isHalfOpen());
+        assertTrue(breaker.isOpen());
+        assertFalse(breaker.tryAcquirePermission(), "Only the permitted calls");
+        breaker.recordFailure(0, TimeUnit.SECONDS);
+        breaker.recordSuccess(0, TimeUnit.SECONDS);
+        assertFalse(breaker.recordSuccess(0, TimeUnit.SECONDS));
+        assertTrue(breaker.recordSuccess(0, TimeUnit.SECONDS));
+        assertTrue(breaker.isClosed());
+        assertFalse(breaker.isHalfOpen());
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(-1, breaker.getFailureRate(), "The probe calls are not counted in the window");
+    }
+
+    @Test
+    public void testHalfOpenReopensWhenProbeIsNotRecorded() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = new SlidingWindowCircuitBreakerTestImpl(new SlidingWindowCircuitBreaker.Builder()
+            .waitDurationInOpenState(5, TimeUnit.SECONDS)
+            .permittedCallsInHalfOpenState(2)
+            .maxWaitDurationInHalfOpenState(10, TimeUnit.SECONDS));
+        assertEquals(10 * NANO_FACTOR, breaker.getMaxWaitDurationInHalfOpenState());
+        breaker.at(0).open();
+        assertTrue(breaker.at(5 * NANO_FACTOR).tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.recordSuccess(0, TimeUnit.SECONDS), "Still half-open");
+        // The second probe is never recorded.
+        assertFalse(breaker.at(15 * NANO_FACTOR - 1).tryAcquirePermission());
+        assertTrue(breaker.isHalfOpen());
+        assertFalse(breaker.at(15 * NANO_FACTOR).tryAcquirePermission());
+        assertFalse(breaker.isHalfOpen());
+        assertTrue(breaker.isOpen());
+        assertFalse(breaker.recordSuccess(0, TimeUnit.SECONDS), "A late outcome is ignored");
+        assertTrue(breaker.at(20 * NANO_FACTOR).tryAcquirePermission(), "A new round of probe calls");
+        assertTrue(breaker.isHalfOpen());
+    }
+
+    @Test
+    public void testHalfOpenTimesOutOnCheckState() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = newBreaker();
+        breaker.at(0).open();
+        assertFalse(breaker.at(5 * NANO_FACTOR).checkState());
+        assertTrue(breaker.isHalfOpen());
+        assertFalse(breaker.at(5 * NANO_FACTOR + TimeUnit.MINUTES.toNanos(1)).checkState());
+        assertFalse(breaker.isHalfOpen());
+        assertTrue(breaker.isOpen());
+    }
+
+    @Test
+    public void testHalfOpenReopens() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = newBreaker();
+        breaker.at(0).open();
+        assertFalse(breaker.at(5 * NANO_FACTOR).checkState());
+        assertTrue(breaker.isHalfOpen());
+        breaker.recordSuccess(0, TimeUnit.SECONDS);
+        breaker.recordFailure(2, TimeUnit.SECONDS);
+        breaker.recordFailure(0, TimeUnit.SECONDS);
+        assertFalse(breaker.recordSuccess(0, TimeUnit.SECONDS));
+        assertTrue(breaker.isOpen());
+        assertFalse(breaker.isHalfOpen());
+        assertFalse(breaker.at(10 * NANO_FACTOR - 1).tryAcquirePermission(), "The wait duration starts again");
+        assertTrue(breaker.at(10 * NANO_FACTOR).tryAcquirePermission());
+    }
+
+    @Test
+    public void testIncrementAndCheckStateRecordsFailures() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = newBreaker();
+        assertTrue(breaker.at(0).incrementAndCheckState(4));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(breaker.recordSuccess(0, TimeUnit.SECONDS));
+        }
+        assertEquals(-1, breaker.getFailureRate(), "Not the minimum calls yet");
+        assertFalse(breaker.incrementAndCheckState(1));
+        assertTrue(breaker.isOpen());
+    }
+
+    @Test
+    public void testManualTransitions() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = newBreaker();
+        breaker.at(0).open();
+        assertTrue(breaker.isOpen());
+        assertFalse(breaker.tryAcquirePermission());
+        assertFalse(breaker.recordFailure(0, TimeUnit.SECONDS), "Calls recorded in open state are ignored");
+        breaker.close();
+        assertTrue(breaker.isClosed());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void testOpenOnFailureRate() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = newBreaker();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(breaker.at(i * NANO_FACTOR).recordSuccess(0, TimeUnit.SECONDS));
+        }
+        for (int i = 5; i < 9; i++) {
+            assertTrue(breaker.at(i * NANO_FACTOR).recordFailure(0, TimeUnit.SECONDS));
+        }
+        assertFalse(breaker.at(9 * NANO_FACTOR).recordFailure(0, TimeUnit.SECONDS));
+        assertTrue(breaker.isOpen());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void testOpenOnSlowCallRate() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = newBreaker();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(breaker.at(i).recordSuccess(999, TimeUnit.MILLISECONDS));
+        }
+        for (int i = 5; i < 9; i++) {
+            assertTrue(breaker.at(i).recordSuccess(1, TimeUnit.SECONDS));
+        }
+        assertEquals(-1, breaker.getSlowCallRate());
+        assertFalse(breaker.at(9).recordSuccess(3, TimeUnit.SECONDS));
+        assertTrue(breaker.isOpen());
+    }
+
+    @Test
+    public void testRatesOfWindow() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = newBreaker();
+        for (int i = 0; i < 6; i++) {
+            assertTrue(breaker.at(i * NANO_FACTOR).recordSuccess(0, TimeUnit.SECONDS));
+        }
+        assertTrue(breaker.recordSuccess(1500, TimeUnit.MILLISECONDS));
+        assertTrue(breaker.recordSuccess(1500, TimeUnit.MILLISECONDS));
+        assertTrue(breaker.recordFailure(0, TimeUnit.SECONDS));
+        assertTrue(breaker.recordFailure(0, TimeUnit.SECONDS));
+        assertEquals(20, breaker.getFailureRate(), 1e-9);
+        assertEquals(20, breaker.getSlowCallRate(), 1e-9);
+        assertTrue(breaker.isClosed());
+    }
+
+    @Test
+    public void testWindowSlides() {
+        final SlidingWindowCircuitBreakerTestImpl breaker = newBreaker();
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.at(0).recordFailure(0, TimeUnit.SECONDS));
+        }
+        for (int i = 0; i < 9; i++) {
+            assertTrue(breaker.at(9 * NANO_FACTOR).recordSuccess(0, TimeUnit.SECONDS));
+        }
+        assertEquals(100.0 * 4 / 13, breaker.getFailureRate(), 1e-9);
+        assertEquals(-1, breaker.at(10 * NANO_FACTOR).getFailureRate(), "The first bucket left the window");
+        assertTrue(breaker.recordFailure(0, TimeUnit.SECONDS));
+        assertEquals(10, breaker.getFailureRate(), 1e-9);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link StripedEventCountCircuitBreaker}.
+ */
+public class StripedEventCountCircuitBreakerTest extends AbstractLangTest {
+
+    /**
+     * A test implementation of {@code StripedEventCountCircuitBreaker} which supports mocking the timer.
+     */
+    private static class StripedEventCountCircuitBreakerTestImpl extends StripedEventCountCircuitBreaker {
+
+        /** The current time in nanoseconds. */
+        private long currentTime;
+
+        StripedEventCountCircuitBreakerTestImpl(final int openingThreshold, final long openingInterval, final TimeUnit openingUnit,
+            final int closingThreshold, final long closingInterval, final TimeUnit closingUnit) {
+            super(openingThreshold, openingInterval, openingUnit, closingThreshold, closingInterval, closingUnit);
+        }
+
+        /**
+         * Sets the current time to be used by this test object for the next operation.
+         *
+         * @param time the time to set
+         * @return a reference to this object
+         */
+        StripedEventCountCircuitBreakerTestImpl at(final long time) {
+            currentTime = time;
+            return this;
+        }
+
+        @Override
+        long nanoTime() {
+            return currentTime;
+        }
+    }
+
+    /** Constant for the opening threshold. */
+    private static final int OPENING_THRESHOLD = 10;
+
+    /** Constant for the closing threshold. */
+    private static final int CLOSING_THRESHOLD = 5;
+
+    /** Constant for the factor for converting nanoseconds. */
+    private static final long NANO_FACTOR = 1000L * 1000L * 1000L;
+
+    @Test
+    public void testAutomaticTransitions() {
+        final StripedEventCountCircuitBreakerTestImpl breaker = new StripedEventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 2,
+            TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS);
+        final List<Object> changes = new ArrayList<>();
+        breaker.addChangeListener(e -> changes.add(e.getNewValue()));
+        long time = 10 * NANO_FACTOR;
+        for (int i = 0; i < OPENING_THRESHOLD; i++) {
+            assertTrue(breaker.at(time++).incrementAndCheckState());
+        }
+        assertFalse(breaker.at(time++).incrementAndCheckState());
+        assertTrue(breaker.isOpen());
+        // The events before opening are not counted for closing.
+        time += NANO_FACTOR - 1000;
+        assertFalse(breaker.at(time).incrementAndCheckState(), "Closed before the closing interval");
+        time += 1001;
+        assertTrue(breaker.at(time).checkState(), "Not closed after the closing interval");
+        // The events before closing are not counted for opening.
+        assertTrue(breaker.at(time + 1).incrementAndCheckState());
+        assertEquals(Arrays.asList(Boolean.TRUE, Boolean.FALSE), changes);
+    }
+
+    @Test
+    public void testClose() {
+        final StripedEventCountCircuitBreakerTestImpl breaker = new StripedEventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 2,
+            TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS);
+        long time = 0;
+        for (int i = 0; i <= OPENING_THRESHOLD; i++, time += 1000) {
+            breaker.at(time).incrementAndCheckState();
+        }
+        assertTrue(breaker.isOpen(), "Not open");
+        breaker.at(time).close();
+        assertTrue(breaker.isClosed(), "Not closed");
+        assertTrue(breaker.at(time + 1000).incrementAndCheckState(), "Open again");
+    }
+
+    @Test
+    public void testClosingWhenThresholdReached() {
+        final StripedEventCountCircuitBreakerTestImpl breaker = new StripedEventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 10,
+            TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS);
+        breaker.at(0).open();
+        breaker.at(1000).incrementAndCheckState();
+        assertFalse(breaker.at(2000).checkState(), "Already closed");
+        assertFalse(breaker.at(NANO_FACTOR - 1).checkState(), "Closed before interval end");
+        assertTrue(breaker.at(NANO_FACTOR).checkState(), "Not closed after interval end");
+        assertTrue(breaker.isClosed(), "Not closed at end");
+    }
+
+    @Test
+    public void testConcurrentIncrements() throws InterruptedException {
+        final int threadCount = 8;
+        final int increments = 1000;
+        final StripedEventCountCircuitBreaker breaker = new StripedEventCountCircuitBreaker(threadCount * increments, 1, TimeUnit.HOURS);
+        final Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < increments; j++) {
+                    breaker.incrementAndCheckState();
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(breaker.isClosed(), "Opened at the threshold");
+        assertFalse(breaker.incrementAndCheckState(), "Not opened over the threshold");
+    }
+
+    @Test
+    public void testDefaults() {
+        final StripedEventCountCircuitBreaker breaker = new StripedEventCountCircuitBreaker(OPENING_THRESHOLD, 1, TimeUnit.SECONDS);
+        assertEquals(OPENING_THRESHOLD, breaker.getOpeningThreshold());
+        assertEquals(OPENING_THRESHOLD, breaker.getClosingThreshold());
+        assertEquals(NANO_FACTOR, breaker.getOpeningInterval());
+        assertEquals(NANO_FACTOR, breaker.getClosingInterval());
+        assertTrue(breaker.isClosed());
+        final StripedEventCountCircuitBreaker other = new StripedEventCountCircuitBreaker(OPENING_THRESHOLD, 1, TimeUnit.SECONDS,
+            CLOSING_THRESHOLD, 2, TimeUnit.MILLISECONDS);
+        assertEquals(CLOSING_THRESHOLD, other.getClosingThreshold());
+        assertEquals(2 * NANO_FACTOR / 1000, other.getClosingInterval());
+    }
+
+    @Test
+    public void testNotClosingOverThreshold() {
+        final StripedEventCountCircuitBreakerTestImpl breaker = new StripedEventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 10,
+            TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS);
+        long time = 0;
+        breaker.at(time).open();
+        for (int i = 0; i <= CLOSING_THRESHOLD; i++) {
+            assertFalse(breaker.at(time).incrementAndCheckState(), "Not open");
+            time += 1000;
+        }
+        assertFalse(breaker.at(time + NANO_FACTOR / 2).checkState(), "Closed in the closing interval");
+        assertTrue(breaker.isOpen(), "Not open at end");
+        // The events leave the sliding closing interval.
+        assertTrue(breaker.at(time + 2 * NANO_FACTOR).checkState(), "Not closed without events");
+    }
+
+    @Test
+    public void testNotOpeningOutsideInterval() {
+        final StripedEventCountCircuitBreakerTestImpl breaker = new StripedEventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 1,
+            TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS);
+        long time = 0;
+        final long timeIncrement = 3 * NANO_FACTOR / (2 * OPENING_THRESHOLD);
+        for (int i = 0; i < 5 * OPENING_THRESHOLD; i++) {
+            assertTrue(breaker.at(time).incrementAndCheckState(), "In open state");
+            time += timeIncrement;
+        }
+        assertTrue(breaker.isClosed(), "Not closed");
+    }
+
+    @Test
+    public void testOpeningInSlidingInterval() {
+        final StripedEventCountCircuitBreakerTestImpl breaker = new StripedEventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 1,
+            TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS);
+        // Events at the end of a second and at the start of the next are in the same sliding interval.
+        for (int i = 0; i < OPENING_THRESHOLD / 2; i++) {
+            assertTrue(breaker.at(NANO_FACTOR - 1000 + i).incrementAndCheckState());
+        }
+        for (int i = 0; i < OPENING_THRESHOLD / 2; i++) {
+            assertTrue(breaker.at(NANO_FACTOR + i).incrementAndCheckState());
+        }
+        assertFalse(breaker.at(NANO_FACTOR + 100).incrementAndCheckState(), "Not open");
+    }
+
+    @Test
+    public void testOpeningWhenThresholdReached() {
+        final StripedEventCountCircuitBreakerTestImpl breaker = new StripedEventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 1,
+            TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS);
+        long time = 0;
+        final long timeIncrement = NANO_FACTOR / (2 * OPENING_THRESHOLD);
+        for (int i = 0; i < OPENING_THRESHOLD; i++) {
+            assertTrue(breaker.at(time).incrementAndCheckState(), "Open under the threshold");
+            time += timeIncrement;
+        }
+        assertFalse(breaker.at(time).incrementAndCheckState(), "Not open");
+        assertFalse(breaker.isClosed(), "Closed");
+        final StripedEventCountCircuitBreakerTestImpl batch = new StripedEventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 1,
+            TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS);
+        assertFalse(batch.at(-NANO_FACTOR).incrementAndCheckState(OPENING_THRESHOLD + 1), "Not open");
+    }
+
+    @Test
+    public void testOpenStartsNewInterval() {
+        final StripedEventCountCircuitBreakerTestImpl breaker = new StripedEventCountCircuitBreakerTestImpl(OPENING_THRESHOLD, 2,
+            TimeUnit.SECONDS, CLOSING_THRESHOLD, 1, TimeUnit.SECONDS);
+        breaker.at(NANO_FACTOR - 1000).open();
+        assertTrue(breaker.isOpen(), "Not open");
+        assertFalse(breaker.at(NANO_FACTOR + 100).checkState(), "Already closed");
+        assertTrue(breaker.at(2 * NANO_FACTOR).checkState(), "Not closed");
+    }
+}
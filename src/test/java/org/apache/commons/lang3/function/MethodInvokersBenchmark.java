@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.function;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares calling a getter directly, through {@link Method#invoke(Object, Object...)}, through a {@link MethodHandle},
+ * and through the {@link MethodInvokers} proxy and lambda factories.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=MethodInvokersBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MethodInvokersBenchmark {
+
+    public static class Bean {
+
+        private final String value = "ABC";
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private final Bean bean = new Bean();
+
+    private Method method;
+
+    private MethodHandle methodHandle;
+
+    private Function<Bean, String> proxy;
+
+    private Function<Bean, String> lambda;
+
+    private final Function<Bean, String> methodReference = Bean::getValue;
+
+    @Benchmark
+    public String direct() {
+        return bean.getValue();
+    }
+
+    @Benchmark
+    public String lambda() {
+        return lambda.apply(bean);
+    }
+
+    @Benchmark
+    public String methodHandle() throws Throwable {
+        return (String) methodHandle.invokeExact(bean);
+    }
+
+    @Benchmark
+    public String methodInvoke() throws ReflectiveOperationException {
+        return (String) method.invoke(bean);
+    }
+
+    @Benchmark
+    public String methodReference() {
+        return methodReference.apply(bean);
+    }
+
+    @Benchmark
+    public String proxy() {
+        return proxy.apply(bean);
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws ReflectiveOperationException {
+        method = Bean.class.getMethod("getValue");
+        methodHandle = MethodHandles.lookup().unreflect(method);
+        proxy = MethodInvokers.asFunction(method);
+        lambda = MethodInvokers.asLambda(Function.class, method);
+    }
+}
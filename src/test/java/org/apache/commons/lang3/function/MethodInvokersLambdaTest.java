@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.apache.commons.lang3.exception.CustomCheckedException;
+import org.apache.commons.lang3.exception.CustomUncheckedException;
+import org.apache.commons.lang3.reflect.testbed.PublicFunction;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MethodInvokers#asLambda(Class, Method)}.
+ */
+public class MethodInvokersLambdaTest extends MethodFixtures {
+
+    @Test
+    public void testApply0Arg() throws NoSuchMethodException, SecurityException {
+        final Function<MethodFixtures, String> function = MethodInvokers.asLambda(Function.class, getMethodForGetString());
+        assertFalse(Proxy.isProxyClass(function.getClass()));
+        assertEquals(INSTANCE.getString(), function.apply(INSTANCE));
+    }
+
+    @Test
+    public void testApply1Arg() throws NoSuchMethodException, SecurityException {
+        final BiFunction<MethodFixtures, String, String> function = MethodInvokers.asLambda(BiFunction.class, getMethodForGetString1Arg());
+        assertEquals(INSTANCE.getString1Arg("foo"), function.apply(INSTANCE, "foo"));
+    }
+
+    @Test
+    public void testApplyVarArg() throws NoSuchMethodException, SecurityException {
+        final BiFunction<MethodFixtures, String[], String[]> function = MethodInvokers.asLambda(BiFunction.class, getMethodForGetStringsVarArg());
+        assertArrayEquals(new String[] {"A", "B"}, function.apply(INSTANCE, new String[] {"A", "B"}));
+    }
+
+    @Test
+    public void testBoxing() throws NoSuchMethodException, SecurityException {
+        final ToIntFunction<String> length = MethodInvokers.asLambda(ToIntFunction.class, String.class.getMethod("length"));
+        assertFalse(Proxy.isProxyClass(length.getClass()));
+        assertEquals(3, length.applyAsInt("ABC"));
+        final BiFunction<String, Integer, Character> charAt = MethodInvokers.asLambda(BiFunction.class, String.class.getMethod("charAt", int.class));
+        assertEquals('C', charAt.apply("ABC", 2));
+        final IntBinaryOperator max = MethodInvokers.asLambda(IntBinaryOperator.class, Math.class.getMethod("max", int.class, int.class));
+        assertEquals(2, max.applyAsInt(1, 2));
+    }
+
+    @Test
+    public void testFallbackForInaccessibleMethod() throws Throwable {
+        // A package-private method in the package of MethodInvokers is accessible.
+        final FailableBiConsumer<MethodFixtures, String, Throwable> consumer = MethodInvokers.asLambda(FailableBiConsumer.class,
+            getMethodForSetString1Arg());
+        assertFalse(Proxy.isProxyClass(consumer.getClass()));
+        consumer.accept(INSTANCE, "foo");
+        // A private method is not, even when made accessible, and falls back to a proxy.
+        final Method privateMethod = MethodInvokersLambdaTest.class.getDeclaredMethod("privateGetString");
+        privateMethod.setAccessible(true);
+        final Function<MethodInvokersLambdaTest, String> function = MethodInvokers.asLambda(Function.class, privateMethod);
+        assertEquals("private", function.apply(this));
+    }
+
+    @Test
+    public void testFallbackForNonPublicInterface() throws Exception {
+        final Class<?> interfaceClass = Class.forName("org.apache.commons.lang3.reflect.testbed.PackagePrivateFunction");
+        final Method method = String.class.getMethod("trim");
+        assertEquals(assertThrows(IllegalArgumentException.class, () -> MethodInvokers.asInterfaceInstance(interfaceClass, method)).getMessage(),
+            assertThrows(IllegalArgumentException.class, () -> MethodInvokers.asLambda(interfaceClass, method)).getMessage());
+    }
+
+    @Test
+    public void testFallbackForNonPublicSuperinterface() throws Exception {
+        final PublicFunction function = MethodInvokers.asLambda(PublicFunction.class, String.class.getMethod("trim"));
+        assertTrue(Proxy.isProxyClass(function.getClass()));
+        final Method apply = PublicFunction.class.getMethod("apply", Object.class);
+        apply.setAccessible(true);
+        assertEquals("A", apply.invoke(function, " A "));
+    }
+
+    @Test
+    public void testFallbackForUndeclaredCheckedException() throws NoSuchMethodException, SecurityException {
+        final Function<MethodFixtures, String> function = MethodInvokers.asLambda(Function.class, getMethodForGetStringThrowsChecked());
+        final Function<MethodFixtures, String> proxy = MethodInvokers.asInterfaceInstance(Function.class, getMethodForGetStringThrowsChecked());
+        assertTrue(Proxy.isProxyClass(function.getClass()));
+        assertEquals(CustomCheckedException.class, assertThrows(UndeclaredThrowableException.class, () -> function.apply(INSTANCE)).getCause().getClass());
+        assertEquals(CustomCheckedException.class, assertThrows(UndeclaredThrowableException.class, () -> proxy.apply(INSTANCE)).getCause().getClass());
+    }
+
+    @Test
+    public void testForNull() throws NoSuchMethodException, SecurityException {
+        assertThrows(NullPointerException.class, () -> MethodInvokers.asLambda(Function.class, null));
+        assertThrows(NullPointerException.class, () -> MethodInvokers.asLambda(null, getMethodForGetString()));
+    }
+
+    @Test
+    public void testNotSingleMethodInterface() throws NoSuchMethodException, SecurityException {
+        assertThrows(IllegalArgumentException.class, () -> MethodInvokers.asLambda(Object.class, getMethodForGetString()));
+        assertThrows(IllegalArgumentException.class, () -> MethodInvokers.asLambda(Iterator.class, getMethodForGetString()));
+        // Comparator redeclares equals(Object), which does not count.
+        final Comparator<String> comparator = MethodInvokers.asLambda(Comparator.class, String.class.getMethod("compareTo", String.class));
+        assertTrue(comparator.compare("a", "b") < 0);
+    }
+
+    @Test
+    public void testSupplierStatic() throws NoSuchMethodException, SecurityException {
+        final Supplier<String> supplier = MethodInvokers.asLambda(Supplier.class, getMethodForStaticGetString());
+        assertFalse(Proxy.isProxyClass(supplier.getClass()));
+        assertEquals(staticGetString(), supplier.get());
+    }
+
+    @Test
+    public void testThrows() throws NoSuchMethodException, SecurityException {
+        final FailableFunction<MethodFixtures, String, Throwable> checked = MethodInvokers.asLambda(FailableFunction.class,
+            getMethodForGetStringThrowsChecked());
+        assertThrows(CustomCheckedException.class, () -> checked.apply(INSTANCE));
+        final Function<MethodFixtures, String> unchecked = MethodInvokers.asLambda(Function.class, getMethodForGetStringThrowsUnchecked());
+        assertThrows(CustomUncheckedException.class, () -> unchecked.apply(INSTANCE));
+    }
+
+    @Test
+    public void testVoidMethod() throws NoSuchMethodException, SecurityException {
+        // A void method can't be a Function through LambdaMetafactory, the proxy returns null.
+        final Function<MethodFixtures, Object> function = MethodInvokers.asLambda(Function.class, getMethodForVoidMethod());
+        assertNull(function.apply(INSTANCE));
+    }
+
+    private String privateGetString() {
+        return "private";
+    }
+}
@@ -30,6 +30,7 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.awt.Color;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
@@ -405,6 +406,23 @@ public void testInvokeJavaVarargsOverloadingResolution() throws Exception {
                 (Object[]) ArrayUtils.EMPTY_CLASS_ARRAY));
     }
 
+    @Test
+    public void testInvokeMethodExceptions() throws Exception {
+        final InvocationTargetException e = assertThrows(InvocationTargetException.class,
+            () -> MethodUtils.invokeMethod("abc", "charAt", 10));
+        assertTrue(e.getCause() instanceof IndexOutOfBoundsException);
+        assertTrue(assertThrows(InvocationTargetException.class,
+            () -> MethodUtils.invokeStaticMethod(Integer.class, "parseInt", "x")).getCause() instanceof NumberFormatException);
+        // Arguments that don't fit the parameter types
+        assertThrows(IllegalArgumentException.class,
+            () -> MethodUtils.invokeMethod(testBean, "foo", new Object[] {"a"}, new Class[] {Integer.class}));
+        assertThrows(IllegalArgumentException.class,
+            () -> MethodUtils.invokeStaticMethod(TestBean.class, "bar", new Object[] {null}, new Class[] {int.class}));
+        assertThrows(NullPointerException.class,
+            () -> MethodUtils.invokeStaticMethod(TestBean.class, "foo", new Object[] {"a"}, new Class[] {String.class}));
+        assertNull(MethodUtils.invokeStaticMethod(TestBean.class, "oneParameterStatic", "a"));
+    }
+
     @Test
     public void testInvokeMethod() throws Exception {
         assertEquals("foo()", MethodUtils.invokeMethod(testBean, "foo",
@@ -613,6 +631,20 @@ public void testGetAccessibleMethodInaccessible() throws Exception {
         assertNull(actual);
     }
 
+    @Test
+    public void testGetMatchingAccessibleMethodCached() {
+        final Class<?>[] parameterTypes = {Integer.class};
+        final Method method = MethodUtils.getMatchingAccessibleMethod(TestBean.class, "foo", parameterTypes);
+        assertSame(method, MethodUtils.getMatchingAccessibleMethod(TestBean.class, "foo", Integer.class));
+        // The cache key must not share the caller's array.
+        parameterTypes[0] = String.class;
+        assertSame(method, MethodUtils.getMatchingAccessibleMethod(TestBean.class, "foo", Integer.class));
+        assertArrayEquals(singletonArray(String.class),
+            MethodUtils.getMatchingAccessibleMethod(TestBean.class, "foo", parameterTypes).getParameterTypes());
+        assertNull(MethodUtils.getMatchingAccessibleMethod(TestBean.class, "missing", Integer.class));
+        assertNull(MethodUtils.getMatchingAccessibleMethod(TestBean.class, "missing", Integer.class));
+    }
+
     @Test
     public void testGetMatchingAccessibleMethod() {
         expectMatchingAccessibleMethodParameterTypes(TestBean.class, "foo",
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.text.translate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the trie-based {@link LookupTranslator} with the previous implementation, which probed a {@link HashMap}
+ * with substrings of decreasing length, on the HTML 4.0 escape and unescape tables.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=LookupTranslatorBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Deprecated
+public class LookupTranslatorBenchmark {
+
+    /**
+     * The implementation of {@link LookupTranslator} before it was backed by a trie.
+     */
+    static class HashMapLookupTranslator extends CharSequenceTranslator {
+
+        private final HashMap<String, String> lookupMap = new HashMap<>();
+        private final HashSet<Character> prefixSet = new HashSet<>();
+        private final int shortest;
+        private final int longest;
+
+        HashMapLookupTranslator(final CharSequence[]... lookup) {
+            int tmpShortest = Integer.MAX_VALUE;
+            int tmpLongest = 0;
+            for (final CharSequence[] seq : lookup) {
+                this.lookupMap.put(seq[0].toString(), seq[1].toString());
+                this.prefixSet.add(seq[0].charAt(0));
+                final int sz = seq[0].length();
+                if (sz < tmpShortest) {
+                    tmpShortest = sz;
+                }
+                if (sz > tmpLongest) {
+                    tmpLongest = sz;
+                }
+            }
+            this.shortest = tmpShortest;
+            this.longest = tmpLongest;
+        }
+
+        @Override
+        public int translate(final CharSequence input, final int index, final Writer out) throws IOException {
+            if (prefixSet.contains(input.charAt(index))) {
+                int max = longest;
+                if (index + longest > input.length()) {
+                    max = input.length() - index;
+                }
+                for (int i = max; i >= shortest; i--) {
+                    final CharSequence subSeq = input.subSequence(index, index + i);
+                    final String result = lookupMap.get(subSeq.toString());
+                    if (result != null) {
+                        out.write(result);
+                        return i;
+                    }
+                }
+            }
+            return 0;
+        }
+    }
+
+    private static final String UNESCAPED;
+
+    static {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            builder.append("<p class=\"note\">Café &amp; crème brûlée — € 5 &lt; 6</p>\n");
+        }
+        UNESCAPED = builder.toString();
+    }
+
+    private final CharSequenceTranslator escapeHashMap = new AggregateTranslator(new HashMapLookupTranslator(EntityArrays.BASIC_ESCAPE()),
+        new HashMapLookupTranslator(EntityArrays.ISO8859_1_ESCAPE()), new HashMapLookupTranslator(EntityArrays.HTML40_EXTENDED_ESCAPE()));
+
+    private final CharSequenceTranslator escapeTrie = new AggregateTranslator(new LookupTranslator(EntityArrays.BASIC_ESCAPE()),
+        new LookupTranslator(EntityArrays.ISO8859_1_ESCAPE()), new LookupTranslator(EntityArrays.HTML40_EXTENDED_ESCAPE()));
+
+    private final CharSequenceTranslator unescapeHashMap = new AggregateTranslator(new HashMapLookupTranslator(EntityArrays.BASIC_UNESCAPE()),
+        new HashMapLookupTranslator(EntityArrays.ISO8859_1_UNESCAPE()), new HashMapLookupTranslator(EntityArrays.HTML40_EXTENDED_UNESCAPE()));
+
+    private final CharSequenceTranslator unescapeTrie = new AggregateTranslator(new LookupTranslator(EntityArrays.BASIC_UNESCAPE()),
+        new LookupTranslator(EntityArrays.ISO8859_1_UNESCAPE()), new LookupTranslator(EntityArrays.HTML40_EXTENDED_UNESCAPE()));
+
+    private final String escaped = escapeTrie.translate(UNESCAPED);
+
+    @Benchmark
+    public String escapeHashMap() {
+        return escapeHashMap.translate(UNESCAPED);
+    }
+
+    @Benchmark
+    public String escapeTrie() {
+        return escapeTrie.translate(UNESCAPED);
+    }
+
+    @Benchmark
+    public String unescapeHashMap() {
+        return unescapeHashMap.translate(escaped);
+    }
+
+    @Benchmark
+    public String unescapeTrie() {
+        return unescapeTrie.translate(escaped);
+    }
+}
@@ -40,6 +40,25 @@ public void testBasicLookup() throws IOException {
         assertEquals("two", out.toString(), "Incorrect value");
     }
 
+    @Test
+    public void testLongestMatch() throws IOException {
+        final LookupTranslator lt = new LookupTranslator(new CharSequence[][] { { "a", "1" }, { "abc", "3" }, { "ab", "2" }, { "abcd", "x" }, { "abcd", "4" } });
+        StringWriter out = new StringWriter();
+        assertEquals(3, lt.translate("abce", 0, out));
+        assertEquals("3", out.toString());
+        out = new StringWriter();
+        assertEquals(4, lt.translate("abcd", 0, out), "A later duplicate key replaces an earlier one");
+        assertEquals("4", out.toString());
+        out = new StringWriter();
+        assertEquals(1, lt.translate("ba", 1, out));
+        assertEquals("1", out.toString());
+        out = new StringWriter();
+        assertEquals(0, lt.translate("ba", 0, out));
+        assertEquals(0, lt.translate("b", 0, out));
+        assertEquals("", out.toString());
+        assertEquals("23b1", lt.translate("ababcba"));
+    }
+
     // Tests: https://issues.apache.org/jira/browse/LANG-882
     @Test
     public void testLang882() throws IOException {
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the overhead of timing a section of code with a shared {@link ConcurrentStopWatch} from 4 threads, compared
+ * with reading {@link System#nanoTime()} twice and with a {@link StopWatch} per task.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=ConcurrentStopWatchBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class ConcurrentStopWatchBenchmark {
+
+    private final ConcurrentStopWatch stopWatch = ConcurrentStopWatch.create();
+
+    @Benchmark
+    public long concurrentStopWatch() {
+        return stopWatch.start().split("section");
+    }
+
+    @Benchmark
+    public long nanoTime() {
+        return -System.nanoTime() + System.nanoTime();
+    }
+
+    @Benchmark
+    public long stopWatch() {
+        final StopWatch watch = StopWatch.createStarted();
+        watch.split();
+        return watch.getSplitNanoTime();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ConcurrentStopWatch}.
+ */
+public class ConcurrentStopWatchTest extends AbstractLangTest {
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        final ConcurrentStopWatch watch = ConcurrentStopWatch.create();
+        final int threads = 8;
+        final int records = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 1; i <= records; i++) {
+                    watch.record("task", i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        final ConcurrentStopWatch.Histogram histogram = watch.getHistogram("task");
+        assertEquals(threads * records, histogram.getCount());
+        assertEquals(threads * (records * (records + 1L) / 2), histogram.getTotal());
+        assertEquals(records, histogram.getMax());
+    }
+
+    @Test
+    public void testGetAndRun() throws Exception {
+        final ConcurrentStopWatch watch = ConcurrentStopWatch.create();
+        assertEquals("A", watch.get("get", () -> "A"));
+        watch.run("run", () -> Thread.sleep(2));
+        assertThrows(IllegalStateException.class, () -> watch.run("fail", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, watch.getHistogram("get").getCount());
+        assertTrue(watch.getHistogram("run").getMax() >= TimeUnit.MILLISECONDS.toNanos(2));
+        // A failure is timed too.
+        assertEquals(1, watch.getHistogram("fail").getCount());
+    }
+
+    @Test
+    public void testPercentiles() {
+        final ConcurrentStopWatch.Histogram histogram = new ConcurrentStopWatch.Histogram();
+        assertEquals(0, histogram.getPercentile(99));
+        assertEquals(0, histogram.getMean());
+        final Random random = new Random(17);
+        final long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            // Log-uniform from 1 ns to about 1 hour.
+            values[i] = (long) Math.exp(random.nextDouble() * 29);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (final double percentile : new double[] {0, 1, 50, 90, 99, 99.9, 99.99, 100}) {
+            final long expected = values[Math.max(0, (int) Math.ceil(percentile / 100 * values.length) - 1)];
+            final long actual = histogram.getPercentile(percentile);
+            assertTrue(actual >= expected && actual <= expected + expected / 64, () -> percentile + ": " + expected + " " + actual);
+        }
+        assertEquals(values[values.length - 1], histogram.getPercentile(100));
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(Arrays.stream(values).average().getAsDouble(), histogram.getMean(), 1e-3);
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        final ConcurrentStopWatch.Histogram histogram = new ConcurrentStopWatch.Histogram();
+        for (int i = 0; i < 128; i++) {
+            histogram.record(i);
+        }
+        assertEquals(63, histogram.getPercentile(50));
+        assertEquals(127, histogram.getPercentile(100));
+        assertEquals("count=128, mean=63.5, p50=63, p99=126, p999=127, max=127", histogram.toString());
+    }
+
+    @Test
+    public void testSplitAndLap() {
+        final ConcurrentStopWatch watch = ConcurrentStopWatch.create();
+        final ConcurrentStopWatch.Timing timing = watch.start();
+        final long lap1 = timing.lap("a");
+        final long lap2 = timing.lap("b");
+        final long split = timing.split("total");
+        assertTrue(split >= lap1 + lap2);
+        assertTrue(System.nanoTime() - timing.getStartNanoTime() >= split);
+        assertEquals(lap1, watch.getHistogram("a").getMax());
+        assertEquals(split, watch.getHistogram("total").getMax());
+        assertEquals(3, watch.getNames().size());
+        assertNull(watch.getHistogram("c"));
+        assertThrows(NullPointerException.class, () -> timing.lap(null));
+        watch.reset();
+        assertTrue(watch.getNames().isEmpty());
+    }
+}
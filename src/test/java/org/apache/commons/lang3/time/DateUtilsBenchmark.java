@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares truncating timestamps to the hour and day with {@link DateUtils#truncate(Date, int)} and with
+ * {@link DateUtils#truncate(long, int, TimeZone)}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=DateUtilsBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DateUtilsBenchmark {
+
+    private final TimeZone timeZone = TimeZone.getDefault();
+
+    private static final long START = 1_600_000_000_000L;
+
+    private static final long END = 1_700_000_000_000L;
+
+    private long millis = START;
+
+    /**
+     * Gets the next timestamp, stepping through about three years of timestamps.
+     *
+     * @return the next timestamp
+     */
+    private long next() {
+        millis += 1_234_567L;
+        if (millis >= END) {
+            millis = START;
+        }
+        return millis;
+    }
+
+    @Benchmark
+    public Date truncateDateToDay() {
+        return DateUtils.truncate(new Date(next()), Calendar.DATE);
+    }
+
+    @Benchmark
+    public Date truncateDateToHour() {
+        return DateUtils.truncate(new Date(next()), Calendar.HOUR_OF_DAY);
+    }
+
+    @Benchmark
+    public long truncateMillisToDay() {
+        return DateUtils.truncate(next(), Calendar.DATE, timeZone);
+    }
+
+    @Benchmark
+    public long truncateMillisToHour() {
+        return DateUtils.truncate(next(), Calendar.HOUR_OF_DAY, timeZone);
+    }
+}
@@ -28,12 +28,16 @@
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 
 import org.apache.commons.lang3.AbstractLangTest;
@@ -840,6 +844,65 @@ public void testLANG799_EN_WITH_DE_LOCALE() throws ParseException {
         DateUtils.parseDate("Mi, 09 Apr 2008 23:55:38 GMT", Locale.GERMAN, "EEE, dd MMM yyyy HH:mm:ss zzz");
     }
 
+    /**
+     * Tests the instant overloads of round, truncate and ceiling against the Calendar methods, in all time zones.
+     */
+    @Test
+    public void testModifyMillisMatchesCalendar() {
+        final int[] calendarFields = {Calendar.MILLISECOND, Calendar.SECOND, Calendar.MINUTE, Calendar.HOUR, Calendar.HOUR_OF_DAY,
+            Calendar.AM_PM, Calendar.DATE, DateUtils.SEMI_MONTH, Calendar.MONTH, Calendar.YEAR, Calendar.ERA};
+        final Random random = new Random(1806);
+        for (final String id : TimeZone.getAvailableIDs()) {
+            final TimeZone timeZone = TimeZone.getTimeZone(id);
+            final Calendar calendar = new GregorianCalendar(timeZone);
+            for (int i = 0; i < 40; i++) {
+                // From 1850 to 2150, the transitions of the time zone too.
+                final long millis = i % 4 == 0 ? nextTransition(timeZone, random) : -3_786_825_600_000L + (long) (random.nextDouble() * 9_467_107_200_000L);
+                calendar.setTimeInMillis(millis);
+                for (final int field : calendarFields) {
+                    final String message = id + " " + field + " " + millis;
+                    assertEquals(DateUtils.truncate(calendar, field).getTimeInMillis(), DateUtils.truncate(millis, field, timeZone), message);
+                    assertEquals(DateUtils.round(calendar, field).getTimeInMillis(), DateUtils.round(millis, field, timeZone), message);
+                    assertEquals(DateUtils.ceiling(calendar, field).getTimeInMillis(), DateUtils.ceiling(millis, field, timeZone), message);
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.truncate(0, Calendar.DAY_OF_WEEK, TimeZone.getDefault()));
+        assertEquals(DateUtils.truncate(new Date(123_456_789L), Calendar.HOUR).getTime(), DateUtils.truncate(123_456_789L, Calendar.HOUR, null));
+    }
+
+    /**
+     * Tests that time zones with the ID of another time zone, but other rules, don't share its offsets.
+     */
+    @Test
+    public void testModifyMillisTimeZoneWithSameId() {
+        final long millis = 1_657_000_000_000L;
+        final TimeZone newYork = TimeZone.getTimeZone("America/New_York");
+        final TimeZone custom = new SimpleTimeZone(5 * 3_600_000, "America/New_York");
+        final TimeZone modified = TimeZone.getTimeZone("America/New_York");
+        modified.setRawOffset(3 * 3_600_000);
+        for (final TimeZone timeZone : new TimeZone[] {newYork, custom, modified, newYork}) {
+            final Calendar calendar = new GregorianCalendar(timeZone);
+            calendar.setTimeInMillis(millis);
+            assertEquals(DateUtils.truncate(calendar, Calendar.DATE).getTimeInMillis(), DateUtils.truncate(millis, Calendar.DATE, timeZone),
+                timeZone.toString());
+        }
+    }
+
+    /**
+     * Gets an instant near a random transition of a time zone, if any.
+     *
+     * @param timeZone the time zone
+     * @param random the source of randomness
+     * @return an instant within a day of a transition
+     */
+    private static long nextTransition(final TimeZone timeZone, final Random random) {
+        final long start = -2_208_988_800_000L + (long) (random.nextDouble() * 6_311_433_600_000L);
+        final ZoneOffsetTransition transition = timeZone.toZoneId().getRules().nextTransition(Instant.ofEpochMilli(start));
+        final long instant = transition != null ? transition.toEpochSecond() * 1000 : start;
+        return instant + (long) ((random.nextDouble() - 0.5) * DateUtils.MILLIS_PER_DAY);
+    }
+
     /**
      * Tests the calendar iterator for month-based ranges
      *
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares formatting a duration with {@link DurationFormatUtils#formatDuration(long, String)}, which looks up the
+ * pattern each time, with a {@link DurationFormatter} into a reused {@link StringBuilder}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=DurationFormatterBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DurationFormatterBenchmark {
+
+    private static final String PATTERN = "HH:mm:ss.SSS";
+
+    private final DurationFormatter formatter = DurationFormatter.getInstance(PATTERN);
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    private final long millis = 123_456_789L;
+
+    @Benchmark
+    public String formatDuration() {
+        return DurationFormatUtils.formatDuration(millis, PATTERN);
+    }
+
+    @Benchmark
+    public StringBuilder formatter() {
+        buffer.setLength(0);
+        return formatter.format(millis, buffer);
+    }
+}
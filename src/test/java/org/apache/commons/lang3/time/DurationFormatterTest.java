@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.TimeZone;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DurationFormatter}.
+ */
+public class DurationFormatterTest extends AbstractLangTest {
+
+    private static final String[] PATTERNS = {"HH:mm:ss.SSS", "d'd' H'h' m'm' s's'", DurationFormatUtils.ISO_EXTENDED_FORMAT_PATTERN,
+        "S", "sS", "s.S", "ss.SSSS", "m", "y M d", "'literal'", ""};
+
+    @Test
+    public void testFormat() {
+        final DurationFormatter formatter = DurationFormatter.getInstance("HH:mm:ss.SSS");
+        assertEquals("01:02:03.004", formatter.format(3_723_004L));
+        assertEquals("[01:02:03.004", formatter.format(3_723_004L, new StringBuilder("[")).toString());
+        assertEquals("1:2:3.004", DurationFormatter.getInstance("H:m:s.S", false).format(3_723_004L));
+        assertEquals("100000000:00:00.000", formatter.format(360_000_000_000_000L));
+        assertThrows(IllegalArgumentException.class, () -> formatter.format(-1));
+        assertThrows(IllegalArgumentException.class, () -> DurationFormatter.getInstance("'unmatched"));
+        assertThrows(NullPointerException.class, () -> DurationFormatter.getInstance(null));
+    }
+
+    @Test
+    public void testGetInstance() {
+        final DurationFormatter formatter = DurationFormatter.getInstance("HH:mm");
+        assertSame(formatter, DurationFormatter.getInstance("HH:mm"));
+        assertSame(formatter, DurationFormatter.getInstance("HH:mm", true));
+        assertNotSame(formatter, DurationFormatter.getInstance("HH:mm", false));
+        assertEquals("HH:mm", formatter.getPattern());
+        assertTrue(formatter.isPadWithZeros());
+        assertFalse(DurationFormatter.getInstance("HH:mm", false).isPadWithZeros());
+    }
+
+    @Test
+    public void testFormatMillisecondsAfterSeconds() {
+        // Milliseconds following seconds have at least 3 digits, even without padding.
+        assertEquals("3.004", DurationFormatter.getInstance("s.S", false).format(3_004L));
+        assertEquals("03.0004", DurationFormatter.getInstance("ss.SSSS").format(3_004L));
+        assertEquals("3004", DurationFormatter.getInstance("S", false).format(3_004L));
+        assertEquals("3 0 4", DurationFormatter.getInstance("s m S", false).format(3_004L));
+    }
+
+    @Test
+    public void testFormatPeriod() {
+        final TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+        final long start = 1_610_000_000_000L;
+        final long end = start + 400L * DateUtils.MILLIS_PER_DAY + 3_723_004L;
+        for (final String pattern : PATTERNS) {
+            for (final boolean padWithZeros : new boolean[] {true, false}) {
+                final DurationFormatter formatter = DurationFormatter.getInstance(pattern, padWithZeros);
+                final String expected = formatter.formatPeriod(start, end, timeZone);
+                assertEquals(expected, formatter.formatPeriod(start, end, timeZone, new StringBuilder()).toString(), pattern);
+            }
+        }
+        assertEquals("P1Y1M4DT1H2M3.004S", DurationFormatter.getInstance(DurationFormatUtils.ISO_EXTENDED_FORMAT_PATTERN, false)
+            .formatPeriod(start, end, timeZone));
+        assertEquals("13 4", DurationFormatter.getInstance("M d", false).formatPeriod(start, end, timeZone));
+        assertThrows(IllegalArgumentException.class, () -> DurationFormatter.getInstance("d").formatPeriod(end, start, timeZone));
+    }
+}
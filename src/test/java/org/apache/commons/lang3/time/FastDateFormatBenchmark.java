@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares formatting and parsing with a {@link FastDateFormat} against a {@link FastDateFormat.Context}, for a custom
+ * time zone that needs a Calendar.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=FastDateFormatBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FastDateFormatBenchmark {
+
+    private final FastDateFormat format = FastDateFormat.getInstance("yyyy-MM-dd'T'HH:mm:ss.SSSZZ", new SimpleTimeZone(-5 * 3_600_000, "Custom"),
+        Locale.US);
+
+    private final FastDateFormat.Context context = format.newContext();
+
+    private final String source = format.format(System.currentTimeMillis());
+
+    private long millis = System.currentTimeMillis();
+
+    @Benchmark
+    public String formatContext() {
+        return context.format(millis++);
+    }
+
+    @Benchmark
+    public String formatFormat() {
+        return format.format(millis++);
+    }
+
+    @Benchmark
+    public Date parseContext() throws ParseException {
+        return context.parse(source);
+    }
+
+    @Benchmark
+    public Date parseFormat() throws ParseException {
+        return format.parse(source);
+    }
+}
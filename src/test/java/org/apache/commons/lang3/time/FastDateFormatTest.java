@@ -19,11 +19,15 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.text.FieldPosition;
 import java.text.Format;
+import java.text.ParseException;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
@@ -31,6 +35,8 @@
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Random;
+import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -206,6 +212,51 @@ public void test_getInstance_String_TimeZone_Locale() {
         assertEquals(Locale.GERMANY, format3.getLocale());
     }
 
+    @Test
+    public void testCacheEviction() {
+        final AtomicInteger created = new AtomicInteger();
+        final FormatCache<FastDateFormat> cache = new FormatCache<FastDateFormat>() {
+            @Override
+            protected FastDateFormat createInstance(final String pattern, final TimeZone timeZone, final Locale locale) {
+                created.incrementAndGet();
+                return new FastDateFormat(pattern, timeZone, locale);
+            }
+        };
+        assertEquals(FormatCache.DEFAULT_MAXIMUM_SIZE, cache.getMaximumSize());
+        cache.setMaximumSize(3);
+        final FastDateFormat yyyy = cache.getInstance("yyyy", null, null);
+        cache.getInstance("MM", null, null);
+        cache.getInstance("dd", null, null);
+        assertSame(yyyy, cache.getInstance("yyyy", null, null));
+        assertEquals(3, created.get());
+        // "yyyy" was used again and survives, "MM" is the least recently used.
+        cache.getInstance("HH", null, null);
+        assertEquals(3, cache.size());
+        assertSame(yyyy, cache.getInstance("yyyy", null, null));
+        cache.getInstance("MM", null, null);
+        assertEquals(5, created.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(5, cache.getMissCount());
+        assertEquals(2, cache.getEvictionCount());
+        cache.setMaximumSize(0);
+        assertEquals(0, cache.size());
+        assertNotSame(cache.getInstance("yyyy", null, null), cache.getInstance("yyyy", null, null));
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> cache.setMaximumSize(-1));
+    }
+
+    @Test
+    public void testCacheStatistics() {
+        final long hits = FastDateFormat.getCacheHitCount();
+        final long misses = FastDateFormat.getCacheMissCount();
+        FastDateFormat.getInstance("yyyy-MM-dd'T'HH:mm:ss.SSS 'testCacheStatistics'");
+        FastDateFormat.getInstance("yyyy-MM-dd'T'HH:mm:ss.SSS 'testCacheStatistics'");
+        assertTrue(FastDateFormat.getCacheHitCount() > hits);
+        assertTrue(FastDateFormat.getCacheMissCount() > misses);
+        assertTrue(FastDateFormat.getCacheSize() <= FastDateFormat.getCacheMaximumSize());
+        assertTrue(FastDateFormat.getCacheEvictionCount() >= 0);
+    }
+
     @Test
     public void testCheckDefaults() {
         final FastDateFormat format = FastDateFormat.getInstance();
@@ -234,6 +285,55 @@ public void testCheckDifferingStyles() {
         assertNotEquals(longShort, longLong);
     }
 
+    /**
+     * Compares formatting and parsing with a context with formatting and parsing with the format, for time zones and
+     * locales formatted and parsed with and without a Calendar.
+     */
+    @Test
+    public void testContextMatchesFormat() throws ParseException {
+        final String[] patterns = {"yyyy-MM-dd'T'HH:mm:ss.SSSZZ", "EEE, d MMM yyyy HH:mm:ss z", "G yyyy-MM-dd ww"};
+        final TimeZone[] timeZones = {TimeZone.getTimeZone("America/New_York"), new SimpleTimeZone(-5 * 3_600_000, "Custom"),
+            TimeZones.GMT};
+        final Locale[] locales = {Locale.US, new Locale("th", "TH", "TH"), Locale.JAPAN};
+        final Random random = new Random(42);
+        for (final String pattern : patterns) {
+            for (final TimeZone timeZone : timeZones) {
+                for (final Locale locale : locales) {
+                    final FastDateFormat format = FastDateFormat.getInstance(pattern, timeZone, locale);
+                    final FastDateFormat.Context context = format.newContext();
+                    assertSame(format, context.getFormat());
+                    for (int i = 0; i < 50; i++) {
+                        // Between 1970 and 2100.
+                        final long millis = (long) (random.nextDouble() * 4_102_444_800_000L);
+                        final String message = pattern + " " + timeZone.getID() + " " + locale + " " + millis;
+                        final String formatted = format.format(millis);
+                        assertEquals(formatted, context.format(millis), message);
+                        assertEquals(formatted, context.format(new Date(millis)), message);
+                        assertEquals(formatted, context.format(millis, new StringBuilder()).toString(), message);
+                        Date parsed;
+                        try {
+                            parsed = format.parse(formatted);
+                        } catch (final ParseException e) {
+                            assertEquals(e.getErrorOffset(), assertThrows(ParseException.class, () -> context.parse(formatted)).getErrorOffset());
+                            continue;
+                        }
+                        assertEquals(parsed, context.parse(formatted), message);
+                        final ParsePosition pos = new ParsePosition(1);
+                        assertEquals(format.parse("x" + formatted, new ParsePosition(1)), context.parse("x" + formatted, pos), message);
+                        assertEquals(formatted.length() + 1, pos.getIndex(), message);
+                    }
+                }
+            }
+        }
+        final FastDateFormat format = FastDateFormat.getInstance("yyyy-MM-dd");
+        final FastDateFormat.Context context = format.newContext();
+        final int errorOffset = assertThrows(ParseException.class, () -> format.parse("2021-0x-01")).getErrorOffset();
+        assertEquals(errorOffset, assertThrows(ParseException.class, () -> context.parse("2021-0x-01")).getErrorOffset());
+        final ParsePosition pos = new ParsePosition(0);
+        assertNull(context.parse("2021-0x-01", pos));
+        assertEquals(errorOffset, pos.getErrorIndex());
+    }
+
     @Test
     public void testDateDefaults() {
         assertEquals(FastDateFormat.getDateInstance(FastDateFormat.LONG, Locale.CANADA),
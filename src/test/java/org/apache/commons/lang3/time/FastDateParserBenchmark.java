@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.text.ParsePosition;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares parsing a numeric pattern with {@link FastDateParser} by scanning against parsing with a Calendar and
+ * regular expressions, and measures parsing text fields, like day and month and time zone names.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=FastDateParserBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FastDateParserBenchmark {
+
+    private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
+
+    private static final String SOURCE = "2022-10-12T14:25:37.123-0400";
+
+    private static final String TEXT_PATTERN = "EEE, d MMM yyyy HH:mm:ss z";
+
+    private static final String TEXT_SOURCE = "Wed, 12 Oct 2022 14:25:37 EDT";
+
+    private final FastDateParser parser = new FastDateParser(PATTERN, TimeZone.getTimeZone("America/New_York"), Locale.US);
+
+    private final FastDateParser textParser = new FastDateParser(TEXT_PATTERN, TimeZone.getTimeZone("America/New_York"), Locale.US);
+
+    @Benchmark
+    public Date parseCalendar() {
+        final Calendar calendar = Calendar.getInstance(parser.getTimeZone(), parser.getLocale());
+        calendar.clear();
+        return parser.parse(SOURCE, new ParsePosition(0), calendar) ? calendar.getTime() : null;
+    }
+
+    @Benchmark
+    public Date parseScan() {
+        return parser.parse(SOURCE, new ParsePosition(0));
+    }
+
+    @Benchmark
+    public Date parseTextFields() {
+        return textParser.parse(TEXT_SOURCE, new ParsePosition(0));
+    }
+}
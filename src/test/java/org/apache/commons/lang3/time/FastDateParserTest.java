@@ -20,6 +20,7 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -34,6 +35,7 @@
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
 import java.util.TimeZone;
 import java.util.stream.Stream;
 
@@ -485,6 +487,42 @@ public void testParseLongShort(final TriFunction<String, TimeZone, Locale, DateP
         assertEquals(cal.getTime(), fdf.parse("03 AD 2 10 PM Saturday 15 33 20 989 -0500"));
     }
 
+    @Test
+    public void testParseAll() throws ParseException {
+        final String pattern = "yyyy-MM-dd HH:mm:ss z";
+        final DateParser parser = getInstance(null, pattern, NEW_YORK, Locale.US);
+        final String[] sources = {"2021-03-14 01:59:59 EST", "2021-03-14 02:30:00 EST", "2021-11-07 01:30:00 EDT", "1850-01-01 00:00:00 PST",
+            "2021-03-14 01:59:59 GMT+01:00"};
+        final long[] millis = parser.parseAll(sources);
+        assertEquals(sources.length, millis.length);
+        for (int i = 0; i < sources.length; i++) {
+            assertEquals(parser.parse(sources[i]).getTime(), millis[i], sources[i]);
+        }
+        assertEquals(0, parser.parseAll(new CharSequence[0]).length);
+        final ParseException e = assertThrows(ParseException.class,
+            () -> parser.parseAll(new CharSequence[] {"2021-03-14 01:59:59 EST", new StringBuilder("2021-03-14 xx")}));
+        assertEquals(11, e.getErrorOffset());
+    }
+
+    @Test
+    public void testParseDelimited() throws ParseException {
+        final DateParser parser = getInstance(null, "yyyy-MM-dd'T'HH:mm:ss.SSSZ", NEW_YORK, Locale.US);
+        final String[] sources = {"2022-10-12T14:25:37.123-0400", "2021-03-14T02:30:00.000-0500", "1850-01-01T00:00:00.000+0100"};
+        final long[] millis = parser.parseDelimited(String.join(";", sources), ";");
+        assertEquals(sources.length, millis.length);
+        for (int i = 0; i < sources.length; i++) {
+            assertEquals(parser.parse(sources[i]).getTime(), millis[i], sources[i]);
+        }
+        assertEquals(0, parser.parseDelimited("", ";").length);
+        final DateParser local = getInstance(null, "yyyy-MM-dd HH:mm", NEW_YORK, Locale.US);
+        assertEquals(2, local.parseDelimited("2021-11-07 01:30, 2021-03-14 02:30", ", ").length);
+        assertThrows(IllegalArgumentException.class, () -> parser.parseDelimited(sources[0], ""));
+        ParseException e = assertThrows(ParseException.class, () -> parser.parseDelimited(sources[0] + ";" + sources[1] + ",", ";"));
+        assertEquals(57, e.getErrorOffset());
+        e = assertThrows(ParseException.class, () -> parser.parseDelimited(sources[0] + ";2022-10-12Tx", ";"));
+        assertEquals(40, e.getErrorOffset());
+    }
+
     @ParameterizedTest
     @MethodSource(DATE_PARSER_PARAMETERS)
     public void testParseNumerics(final TriFunction<String, TimeZone, Locale, DateParser> dpProvider)
@@ -633,6 +671,77 @@ private void testSdfAndFdp(final TriFunction<String, TimeZone, Locale, DateParse
         assertEquals(dsdf, dfdp, "Parsed dates should be equal");
     }
 
+    /**
+     * Tests that parsing numeric patterns without a Calendar matches parsing with a Calendar, including lenient
+     * values and local times skipped or repeated by daylight saving time.
+     */
+    @Test
+    public void testScanMatchesCalendar() {
+        final String[] patterns = {"yyyy-MM-dd'T'HH:mm:ss.SSSZ", "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "yyyyMMddHHmmssSSS", "yy-M-d k:m:s X",
+            "dd.MM.yyyy HH:mm:ss ZZ", "HH:mm XX", "yyyy-MM-dd HH:mm:ss z", "yyyy-MM-dd hh:mm a", "d MMM yyyy HH:mm Z", "MMMM d, yyyy"};
+        final Locale[] locales = {Locale.US, SWEDEN, new Locale("th", "TH")};
+        final Random random = new Random(1806);
+        final String[] ids = TimeZone.getAvailableIDs();
+        for (int run = 0; run < 20_000; run++) {
+            final TimeZone timeZone = TimeZone.getTimeZone(ids[random.nextInt(ids.length)]);
+            final String pattern = patterns[random.nextInt(patterns.length)];
+            final Locale locale = locales[random.nextInt(locales.length)];
+            final DateParser parser = getInstance(null, pattern, timeZone, locale);
+            // From 1850 to 2150.
+            final long millis = -3_786_825_600_000L + (long) (random.nextDouble() * 9_467_107_200_000L);
+            final char[] chars = FastDateFormat.getInstance(pattern, timeZone, locale).format(millis).toCharArray();
+            if (random.nextBoolean()) {
+                // Lenient or invalid values.
+                final int i = random.nextInt(chars.length);
+                if (Character.isDigit(chars[i])) {
+                    chars[i] = (char) ('0' + random.nextInt(10));
+                }
+            }
+            final String source = new String(chars);
+            final ParsePosition expectedPos = new ParsePosition(0);
+            final Calendar calendar = Calendar.getInstance(timeZone, locale);
+            calendar.clear();
+            final ParsePosition actualPos = new ParsePosition(0);
+            final String message = timeZone.getID() + " " + pattern + " " + locale + " " + source;
+            final Date expected;
+            try {
+                expected = parser.parse(source, expectedPos, calendar) ? calendar.getTime() : null;
+            } catch (final IllegalArgumentException e) {
+                // An offset out of range.
+                assertThrows(IllegalArgumentException.class, () -> parser.parse(source, actualPos), message);
+                continue;
+            }
+            assertEquals(expected, parser.parse(source, actualPos), message);
+            assertEquals(expectedPos.getIndex(), actualPos.getIndex(), message);
+            assertEquals(expectedPos.getErrorIndex(), actualPos.getErrorIndex(), message);
+        }
+        // Skipped and repeated local times.
+        final DateParser parser = getInstance(null, "yyyy-MM-dd HH:mm", NEW_YORK, Locale.US);
+        for (final String source : new String[] {"2021-03-14 02:30", "2021-11-07 01:30"}) {
+            final Calendar calendar = Calendar.getInstance(NEW_YORK, Locale.US);
+            calendar.clear();
+            parser.parse(source, new ParsePosition(0), calendar);
+            assertEquals(calendar.getTime(), parser.parse(source, new ParsePosition(0)), source);
+        }
+    }
+
+    @Test
+    public void testTextFieldsIgnoreCase() throws ParseException {
+        final DateParser parser = getInstance(null, "d MMM yyyy z", NEW_YORK, Locale.US);
+        final Date expected = parser.parse("3 Feb 2003 EST");
+        assertEquals(expected, parser.parse("3 FEBRUARY 2003 est"));
+        assertEquals(expected, parser.parse("3 february 2003 Eastern Standard Time"));
+        assertEquals(expected, parser.parse("3 Feb 2003 gmt-5:00"));
+        assertEquals(expected, parser.parse("3 Feb 2003 -0500"));
+        final ParsePosition pos = new ParsePosition(0);
+        assertNull(parser.parse("3 Fbr 2003 EST", pos));
+        assertEquals(2, pos.getErrorIndex());
+        // The longest name wins, a trailing period is optional.
+        final DateParser french = getInstance(null, "d MMM yyyy", NEW_YORK, Locale.FRANCE);
+        assertEquals(french.parse("3 juil. 2003"), french.parse("3 JUIL 2003"));
+        assertEquals(french.parse("3 juil. 2003"), french.parse("3 juillet 2003"));
+    }
+
     /**
      * Test case for {@link FastDateParser#FastDateParser(String, TimeZone, Locale)}.
      *
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares formatting milliseconds with {@link FastDatePrinter} without a Calendar, for a time zone with
+ * {@link java.time.zone.ZoneRules}, against formatting with a Calendar, for a custom time zone.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=FastDatePrinterBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FastDatePrinterBenchmark {
+
+    private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSZZ";
+
+    private final FastDatePrinter calendarPrinter = new FastDatePrinter(PATTERN, new SimpleTimeZone(-5 * 3_600_000, "Custom"), Locale.US);
+
+    private final FastDatePrinter millisPrinter = new FastDatePrinter(PATTERN, TimeZone.getTimeZone("America/New_York"), Locale.US);
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    private long millis = System.currentTimeMillis();
+
+    @Benchmark
+    public StringBuilder formatCalendar() {
+        buffer.setLength(0);
+        return calendarPrinter.format(millis++, buffer);
+    }
+
+    @Benchmark
+    public StringBuilder formatMillis() {
+        buffer.setLength(0);
+        return millisPrinter.format(millis++, buffer);
+    }
+}
@@ -28,6 +28,8 @@
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.Random;
+import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 
 import org.apache.commons.lang3.AbstractLangTest;
@@ -214,6 +216,46 @@ public void testFormat() {
         assertEquals(sdf.format(date2).replace("2003 03 03 03", "2003 2003 03 2003"), fdf.format(date2));
     }
 
+    @Test
+    public void testFormatMillisArray() {
+        final long[] millis = {0, 1_615_705_199_999L, 1_615_705_200_000L, 1_636_264_800_000L, Long.MIN_VALUE / 2, Long.MAX_VALUE / 2,
+            -5_364_662_400_000L, 1_615_705_199_999L};
+        for (final TimeZone timeZone : new TimeZone[] {NEW_YORK, INDIA, new SimpleTimeZone(3_600_000, "Custom")}) {
+            final DatePrinter printer = getInstance("yyyy-MM-dd'T'HH:mm:ss.SSSZZ", timeZone, Locale.US);
+            final StringBuilder expected = new StringBuilder("[");
+            for (int i = 0; i < millis.length; i++) {
+                expected.append(i > 0 ? ", " : "").append(printer.format(millis[i]));
+            }
+            assertEquals(expected.toString(), printer.format(millis, ", ", new StringBuilder("[")).toString());
+        }
+        assertEquals("", getInstance(YYYY_MM_DD).format(new long[0], ",", new StringBuilder()).toString());
+    }
+
+    /**
+     * Tests that formatting milliseconds without a Calendar matches formatting a Calendar.
+     */
+    @Test
+    public void testFormatMillisMatchesCalendar() {
+        final String[] patterns = {"yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "yy/M/d h:mm a Z", "GGGG yyyyy MMMM MMM LL dd DDD F EEEE u k K ss S ZZ X",
+            "yyyy-MM-dd HH:mm:ss,SSS zzzz", "YYYY-ww-W"};
+        final Locale[] locales = {Locale.US, SWEDEN, new Locale("th", "TH"), Locale.JAPAN};
+        final Random random = new Random(1806);
+        for (final String id : TimeZone.getAvailableIDs()) {
+            final TimeZone timeZone = TimeZone.getTimeZone(id);
+            for (final String pattern : patterns) {
+                final Locale locale = locales[random.nextInt(locales.length)];
+                final DatePrinter printer = getInstance(pattern, timeZone, locale);
+                final Calendar calendar = Calendar.getInstance(timeZone, locale);
+                for (int i = 0; i < 20; i++) {
+                    // From 1800 to 2200.
+                    final long millis = -5_364_662_400_000L + (long) (random.nextDouble() * 12_623_040_000_000L);
+                    calendar.setTimeInMillis(millis);
+                    assertEquals(printer.format(calendar), printer.format(millis), () -> id + " " + pattern + " " + locale + " " + millis);
+                }
+            }
+        }
+    }
+
     @Test
     public void testHourFormats() {
         final Calendar calendar = Calendar.getInstance();
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares parsing a date matching the last of several patterns with
+ * {@link DateUtils#parseDate(String, Locale, String...)} and with {@link MultiPatternDateParser#parse(String)}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark -Dbenchmark=MultiPatternDateParserBenchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MultiPatternDateParserBenchmark {
+
+    private static final String[] PATTERNS = {
+        "yyyy-MM-dd'T'HH:mm:ss.SSSZ",
+        "yyyy-MM-dd'T'HH:mm:ssZ",
+        "yyyy-MM-dd'T'HH:mm:ss",
+        "yyyy-MM-dd HH:mm:ss",
+        "yyyy-MM-dd",
+        "yyyy/MM/dd HH:mm",
+        "yyyy/MM/dd",
+        "dd.MM.yyyy HH:mm",
+        "dd.MM.yyyy",
+        "MM/dd/yyyy",
+        "EEE, d MMM yyyy HH:mm:ss Z",
+        "MMM d, yyyy"
+    };
+
+    private static final String SOURCE = "Mar 12, 2021";
+
+    private final MultiPatternDateParser parser = MultiPatternDateParser.getInstance(TimeZone.getDefault(), Locale.US, PATTERNS);
+
+    @Benchmark
+    public Date dateUtilsParseDate() throws ParseException {
+        return DateUtils.parseDate(SOURCE, Locale.US, PATTERNS);
+    }
+
+    @Benchmark
+    public Date multiPatternDateParser() throws ParseException {
+        return parser.parse(SOURCE);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MultiPatternDateParser}.
+ */
+public class MultiPatternDateParserTest extends AbstractLangTest {
+
+    private static final String[] PATTERNS = {
+        "yyyy-MM-dd'T'HH:mm:ss.SSSZ",
+        "yyyy-MM-dd'T'HH:mm:ss",
+        "yyyy-MM-dd HH:mm:ss",
+        "yyyy-MM-dd",
+        "yyyyMMdd",
+        "dd.MM.yyyy",
+        "MM/dd/yyyy",
+        "EEE, d MMM yyyy HH:mm:ss Z",
+        "MMM d, yyyy",
+        "'day' D 'of' yyyy"
+    };
+
+    private static final String[] SOURCES = {
+        "2021-03-12T10:15:30.123+0100",
+        "2021-03-12T10:15:30",
+        "2021-03-12 10:15:30",
+        "2021-03-12",
+        "2021-02-30",
+        "20210312",
+        "12.03.2021",
+        "03/12/2021",
+        "13/12/2021",
+        "Fri, 12 Mar 2021 10:15:30 +0000",
+        "Mar 12, 2021",
+        "Feb 30, 2021",
+        "March 12, 2021",
+        "2021-03-12 ",
+        "12-03-2021",
+        "",
+        "day 71 of 2021",
+        "PURPLE"
+    };
+
+    private static Date parseDate(final String source, final boolean lenient) {
+        try {
+            return lenient ? DateUtils.parseDate(source, Locale.US, PATTERNS) : DateUtils.parseDateStrictly(source, Locale.US, PATTERNS);
+        } catch (final ParseException e) {
+            return null;
+        }
+    }
+
+    @Test
+    public void testGetters() {
+        final String[] patterns = {"yyyy-MM-dd", "dd.MM.yyyy"};
+        final MultiPatternDateParser parser = MultiPatternDateParser.getInstance(TimeZones.GMT, Locale.GERMANY, patterns);
+        assertArrayEquals(patterns, parser.getPatterns());
+        parser.getPatterns()[0] = "HH";
+        assertArrayEquals(patterns, parser.getPatterns());
+        assertEquals(TimeZones.GMT, parser.getTimeZone());
+        assertEquals(Locale.GERMANY, parser.getLocale());
+        assertTrue(parser.isLenient());
+        assertFalse(MultiPatternDateParser.getStrictInstance(null, null, patterns).isLenient());
+        assertEquals(TimeZone.getDefault(), MultiPatternDateParser.getStrictInstance(null, null, patterns).getTimeZone());
+        assertEquals(Locale.getDefault(), MultiPatternDateParser.getStrictInstance(null, null, patterns).getLocale());
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(NullPointerException.class, () -> MultiPatternDateParser.getInstance(null, null, (String[]) null));
+        assertThrows(NullPointerException.class, () -> MultiPatternDateParser.getInstance(null, null, "yyyy", null));
+        assertThrows(IllegalArgumentException.class, () -> MultiPatternDateParser.getInstance(null, null, "yyyy", "ppp"));
+        assertThrows(NullPointerException.class, () -> MultiPatternDateParser.getInstance(null, null, "yyyy").parse(null));
+    }
+
+    @Test
+    public void testMatch() throws ParseException {
+        final MultiPatternDateParser parser = MultiPatternDateParser.getInstance(null, Locale.US, PATTERNS);
+        final MultiPatternDateParser.Match match = parser.match("Mar 12, 2021");
+        assertEquals("MMM d, yyyy", match.getPattern());
+        assertEquals(8, match.getPatternIndex());
+        assertEquals(DateUtils.parseDate("2021-03-12", "yyyy-MM-dd"), match.getDate());
+        assertEquals(3, parser.match("2021-03-12").getPatternIndex());
+        assertEquals(4, parser.match("20210312").getPatternIndex());
+        assertNull(parser.match("PURPLE"));
+        final ParseException e = assertThrows(ParseException.class, () -> parser.parse("PURPLE"));
+        assertEquals("Unable to parse the date: PURPLE", e.getMessage());
+        assertEquals(-1, e.getErrorOffset());
+    }
+
+    /**
+     * Compares parsing with {@link DateUtils#parseDate(String, Locale, String...)} and
+     * {@link DateUtils#parseDateStrictly(String, Locale, String...)}.
+     */
+    @Test
+    public void testMatchesDateUtils() {
+        final MultiPatternDateParser lenient = MultiPatternDateParser.getInstance(null, Locale.US, PATTERNS);
+        final MultiPatternDateParser strict = MultiPatternDateParser.getStrictInstance(null, Locale.US, PATTERNS);
+        for (final String source : SOURCES) {
+            final MultiPatternDateParser.Match lenientMatch = lenient.match(source);
+            assertEquals(parseDate(source, true), lenientMatch == null ? null : lenientMatch.getDate(), source);
+            final MultiPatternDateParser.Match strictMatch = strict.match(source);
+            assertEquals(parseDate(source, false), strictMatch == null ? null : strictMatch.getDate(), source);
+        }
+        assertEquals("yyyy-MM-dd", lenient.match("2021-02-30").getPattern());
+        assertNull(strict.match("2021-02-30"));
+        assertEquals("MM/dd/yyyy", lenient.match("13/12/2021").getPattern());
+        assertNull(strict.match("13/12/2021"));
+    }
+}